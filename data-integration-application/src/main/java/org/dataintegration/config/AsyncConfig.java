@@ -1,9 +1,38 @@
 package org.dataintegration.config;
 
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.AsyncConfigurer;
 import org.springframework.scheduling.annotation.EnableAsync;
 
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
 @Configuration
 @EnableAsync
-public class AsyncConfig {
+public class AsyncConfig implements AsyncConfigurer {
+
+    @Value("${batch.virtual-threads.enabled}")
+    private boolean virtualThreadsEnabled;
+
+    private ExecutorService virtualThreadExecutor;
+
+    @Override
+    public Executor getAsyncExecutor() {
+        if (!virtualThreadsEnabled) {
+            return null;
+        }
+        virtualThreadExecutor = Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("async-", 0).factory());
+        return virtualThreadExecutor;
+    }
+
+    @PreDestroy
+    void shutdown() {
+        if (virtualThreadExecutor != null) {
+            virtualThreadExecutor.shutdown();
+        }
+    }
+
 }
@@ -0,0 +1,47 @@
+package org.dataintegration.config;
+
+import org.dataintegration.model.HostClientConfigModel;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+@Configuration
+public class HostClientConfig {
+
+    @Value("${host-client.max-connections}")
+    private int maxConnections;
+    @Value("${host-client.pending-acquire-timeout-ms}")
+    private long pendingAcquireTimeoutMs;
+    @Value("${host-client.max-idle-time-ms}")
+    private long maxIdleTimeMs;
+    @Value("${host-client.connect-timeout-ms}")
+    private long connectTimeoutMs;
+    @Value("${host-client.response-timeout-ms}")
+    private long responseTimeoutMs;
+    @Value("${host-client.compression}")
+    private boolean compression;
+    @Value("${host-client.http2}")
+    private boolean http2;
+
+    /**
+     * Settings of the pooled web client per host. Each host gets a connection pool of up to {@code max-connections}
+     * connections, HTTP/2 is only negotiated for https hosts.
+     *
+     * @return {@link HostClientConfigModel}
+     */
+    @Bean
+    HostClientConfigModel hostClientConfigModel() {
+        return HostClientConfigModel.builder()
+                .maxConnections(maxConnections)
+                .pendingAcquireTimeout(Duration.ofMillis(pendingAcquireTimeoutMs))
+                .maxIdleTime(Duration.ofMillis(maxIdleTimeMs))
+                .connectTimeout(Duration.ofMillis(connectTimeoutMs))
+                .responseTimeout(Duration.ofMillis(responseTimeoutMs))
+                .compression(compression)
+                .http2(http2)
+                .build();
+    }
+
+}
@@ -0,0 +1,32 @@
+package org.dataintegration.config;
+
+import org.dataintegration.model.HostHeadersConfigModel;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+@Configuration
+public class HostHeadersConfig {
+
+    @Value("${host-headers.ttl-ms}")
+    private long ttlMs;
+    @Value("${host-headers.max-stale-ms}")
+    private long maxStaleMs;
+
+    /**
+     * Host header cache settings. Cached headers are refreshed in the background after {@code ttl-ms} and are not served
+     * anymore after {@code max-stale-ms}.
+     *
+     * @return {@link HostHeadersConfigModel}
+     */
+    @Bean
+    HostHeadersConfigModel hostHeadersConfigModel() {
+        return HostHeadersConfigModel.builder()
+                .ttl(Duration.ofMillis(ttlMs))
+                .maxStale(Duration.ofMillis(maxStaleMs))
+                .build();
+    }
+
+}
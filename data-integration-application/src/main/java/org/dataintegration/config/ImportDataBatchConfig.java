@@ -1,29 +1,49 @@
 package org.dataintegration.config;
 
+import com.zaxxer.hikari.HikariDataSource;
 import jakarta.annotation.PostConstruct;
 import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.dataintegration.model.AsyncBatchConfigModel;
 import org.dataintegration.model.BatchConfigModel;
+import org.dataintegration.model.BatchInsertEngineModel;
+import org.dataintegration.model.BatchParseEngineModel;
 import org.dataintegration.model.BatchWaitingConfigModel;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
+import javax.sql.DataSource;
 import java.util.concurrent.ArrayBlockingQueue;
 import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Semaphore;
 import java.util.concurrent.ThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
-import java.util.concurrent.atomic.AtomicLong;
 
 @Slf4j
 @Configuration
+@RequiredArgsConstructor
 public class ImportDataBatchConfig {
 
+    private final DataSource dataSource;
+
     @Value("${batch.threads}")
     private int batchThreads;
+    @Value("${batch.virtual-threads.enabled}")
+    private boolean batchVirtualThreadsEnabled;
+    @Value("${batch.virtual-threads.reserved-connections}")
+    private int batchVirtualThreadsReservedConnections;
     @Value("${batch.size}")
     private int batchSize;
+    @Value("${batch.insert-engine}")
+    private BatchInsertEngineModel batchInsertEngine;
+    @Value("${batch.parse-engine}")
+    private BatchParseEngineModel batchParseEngine;
+    @Value("${batch.parse-threads}")
+    private int batchParseThreads;
 
     @Value("${batch.retry.scope.max}")
     private int batchRetryScopeMax;
@@ -35,31 +55,41 @@ public class ImportDataBatchConfig {
     @Value("${batch.retry.batch.delay-ms}")
     private long batchRetryBatchDelayMs;
 
-    @Value("${batch.wait-for-full-queue.delay-ms}")
-    private long batchWaitForFullQueueDelayMs;
-    @Value("${batch.wait-for-batches-to-finish.delay-ms}")
-    private long batchWaitForBatchesToFinishDelayMs;
-
     private ExecutorService executorService;
-    private AtomicLong activeBatches;
+    private ExecutorService parsePool;
+    private Semaphore batchPermits;
+    private int batchConcurrency;
 
     @PostConstruct
     void configure() {
-        executorService = new ThreadPoolExecutor(
-                batchThreads,
-                batchThreads,
-                0L,
-                TimeUnit.MILLISECONDS,
-                new ArrayBlockingQueue<>(batchThreads),
-                new ThreadPoolExecutor.CallerRunsPolicy()
-        );
-        activeBatches = new AtomicLong(0);
+        if (batchVirtualThreadsEnabled) {
+            executorService = Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("import-batch-", 0).factory());
+            batchConcurrency = Math.max(1, getMaximumPoolSize() - batchVirtualThreadsReservedConnections);
+            log.info("[Import Data Executor Service] Using virtual threads, limited to {} concurrent batches.", batchConcurrency);
+        } else {
+            executorService = new ThreadPoolExecutor(
+                    batchThreads,
+                    batchThreads,
+                    0L,
+                    TimeUnit.MILLISECONDS,
+                    new ArrayBlockingQueue<>(batchThreads),
+                    new ThreadPoolExecutor.CallerRunsPolicy()
+            );
+            batchConcurrency = batchThreads;
+        }
+        batchPermits = new Semaphore(batchConcurrency);
+        if (batchParseEngine == BatchParseEngineModel.PARALLEL) {
+            parsePool = new ForkJoinPool(batchParseThreads);
+        }
     }
 
     @PreDestroy
     void shutdown() {
         log.info("[Import Data Executor Service] Shutting down...");
         executorService.shutdown();
+        if (parsePool != null) {
+            parsePool.shutdown();
+        }
         log.info("[Import Data Executor Service] Shut down completed.");
     }
 
@@ -67,8 +97,10 @@ public class ImportDataBatchConfig {
     AsyncBatchConfigModel asyncBatchModel() {
         return AsyncBatchConfigModel.builder()
                 .executorService(executorService)
-                .activeBatches(activeBatches)
-                .batchThreads(batchThreads)
+                .batchPermits(batchPermits)
+                .batchThreads(batchConcurrency)
+                .parsePool(parsePool)
+                .parsePrefetch(batchParseThreads * 2)
                 .build();
     }
 
@@ -76,6 +108,8 @@ public class ImportDataBatchConfig {
     BatchConfigModel batchModel() {
         return BatchConfigModel.builder()
                 .batchSize(batchSize)
+                .batchInsertEngine(batchInsertEngine)
+                .batchParseEngine(batchParseEngine)
                 .batchRetryScopeMax(batchRetryScopeMax)
                 .batchRetryBatchMax(batchRetryBatchMax)
                 .build();
@@ -86,9 +120,14 @@ public class ImportDataBatchConfig {
         return BatchWaitingConfigModel.builder()
                 .batchRetryScopeDelayMs(batchRetryScopeDelayMs)
                 .batchRetryBatchDelayMs(batchRetryBatchDelayMs)
-                .batchWaitForFullQueueDelayMs(batchWaitForFullQueueDelayMs)
-                .batchWaitForBatchesToFinishDelayMs(batchWaitForBatchesToFinishDelayMs)
                 .build();
     }
 
+    private int getMaximumPoolSize() {
+        if (dataSource instanceof HikariDataSource hikariDataSource) {
+            return hikariDataSource.getMaximumPoolSize();
+        }
+        return batchThreads;
+    }
+
 }
@@ -0,0 +1,30 @@
+package org.dataintegration.config;
+
+import org.dataintegration.model.IntegrationConfigModel;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class IntegrationConfig {
+
+    @Value("${integration.chunk-size}")
+    private int integrationChunkSize;
+    @Value("${integration.concurrency}")
+    private int integrationConcurrency;
+
+    /**
+     * Integration job settings. Mapped items are sent to the host in chunks of {@code chunk-size}, with up to
+     * {@code concurrency} chunk requests in flight per job.
+     *
+     * @return {@link IntegrationConfigModel}
+     */
+    @Bean
+    IntegrationConfigModel integrationConfigModel() {
+        return IntegrationConfigModel.builder()
+                .chunkSize(integrationChunkSize)
+                .concurrency(integrationConcurrency)
+                .build();
+    }
+
+}
@@ -0,0 +1,26 @@
+package org.dataintegration.config;
+
+import org.dataintegration.model.PartitioningConfigModel;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class PartitioningConfig {
+
+    @Value("${partitioning.enabled}")
+    private boolean enabled;
+
+    /**
+     * Storage layout settings. Only enable partitioning on a database that was converted with data-integration-partitioning.sql.
+     *
+     * @return {@link PartitioningConfigModel}
+     */
+    @Bean
+    PartitioningConfigModel partitioningConfigModel() {
+        return PartitioningConfigModel.builder()
+                .enabled(enabled)
+                .build();
+    }
+
+}
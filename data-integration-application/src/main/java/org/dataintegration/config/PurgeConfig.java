@@ -0,0 +1,37 @@
+package org.dataintegration.config;
+
+import org.dataintegration.model.PurgeConfigModel;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+import java.time.Duration;
+
+@Configuration
+@EnableScheduling
+public class PurgeConfig {
+
+    @Value("${purge.enabled}")
+    private boolean enabled;
+    @Value("${purge.chunk-size}")
+    private int chunkSize;
+    @Value("${purge.pause-ms}")
+    private long pauseMs;
+
+    /**
+     * Purge settings. Data marked for deletion is deleted in chunks of {@code chunk-size} rows, with a pause of
+     * {@code pause-ms} between chunks.
+     *
+     * @return {@link PurgeConfigModel}
+     */
+    @Bean
+    PurgeConfigModel purgeConfigModel() {
+        return PurgeConfigModel.builder()
+                .enabled(enabled)
+                .chunkSize(chunkSize)
+                .pause(Duration.ofMillis(pauseMs))
+                .build();
+    }
+
+}
@@ -1,6 +1,9 @@
 package org.dataintegration.config;
 
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
 import lombok.extern.slf4j.Slf4j;
+import org.dataintegration.model.S3DownloadConfigModel;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.ApplicationRunner;
 import org.springframework.context.annotation.Bean;
@@ -18,6 +21,8 @@ import software.amazon.awssdk.services.s3.model.S3Exception;
 import software.amazon.awssdk.services.s3.presigner.S3Presigner;
 
 import java.net.URI;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 
 @Configuration
 @DependsOn("frontendDotEnvModel")
@@ -48,6 +53,32 @@ public class S3Config {
     @Value("${s3.enabled}")
     private boolean enabled;
 
+    @Value("${s3.download.part-size-mb}")
+    private long downloadPartSizeMb;
+
+    @Value("${s3.download.prefetch}")
+    private int downloadPrefetch;
+
+    private ExecutorService downloadExecutorService;
+
+    /**
+     * Part downloads run on virtual threads, so concurrent imports do not queue behind each other. Each ranged stream
+     * bounds its own share to {@code prefetch} parts in flight.
+     */
+    @PostConstruct
+    void configure() {
+        if (downloadPrefetch > 1) {
+            downloadExecutorService = Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("s3-download-", 0).factory());
+        }
+    }
+
+    @PreDestroy
+    void shutdown() {
+        if (downloadExecutorService != null) {
+            downloadExecutorService.shutdownNow();
+        }
+    }
+
     @Bean
     S3Client s3Client() {
         final S3Configuration s3Configuration = S3Configuration.builder()
@@ -74,6 +105,20 @@ public class S3Config {
                 .build();
     }
 
+    /**
+     * Ranged download settings. With a prefetch of 1 objects are read through a single GET.
+     *
+     * @return {@link S3DownloadConfigModel}
+     */
+    @Bean
+    S3DownloadConfigModel s3DownloadConfigModel() {
+        return S3DownloadConfigModel.builder()
+                .partSize(downloadPartSizeMb * 1024 * 1024)
+                .prefetch(downloadPrefetch)
+                .executorService(downloadExecutorService)
+                .build();
+    }
+
     /**
      * On spring boot start-up.
      * Check if "data-integration" bucket exists. If not then an exception will be thrown and the bucket will be created.
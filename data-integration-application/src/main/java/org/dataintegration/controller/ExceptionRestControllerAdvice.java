@@ -5,20 +5,24 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.RequiredArgsConstructor;
 import org.dataintegration.exception.BucketNotFoundException;
 import org.dataintegration.exception.InvalidDelimiterException;
+import org.dataintegration.exception.InvalidSeekException;
 import org.dataintegration.exception.InvalidUUIDException;
 import org.dataintegration.exception.KeyNotFoundException;
 import org.dataintegration.exception.TagNotFoundException;
 import org.dataintegration.exception.checked.DataIntegrationCheckedException;
 import org.dataintegration.exception.checked.ScopeHeaderValidationException;
+import org.dataintegration.exception.runtime.MappingJobNotFoundException;
 import org.dataintegration.exception.runtime.CheckpointNotFoundException;
 import org.dataintegration.exception.runtime.DataIntegrationRuntimeException;
 import org.dataintegration.exception.runtime.DatabaseNotFoundException;
+import org.dataintegration.exception.runtime.HeaderNotFoundException;
 import org.dataintegration.exception.runtime.HostDomainValidationException;
 import org.dataintegration.exception.runtime.HostNotFoundException;
 import org.dataintegration.exception.runtime.HostValidationException;
 import org.dataintegration.exception.runtime.ItemNotFoundException;
 import org.dataintegration.exception.runtime.MappedItemFrozenException;
 import org.dataintegration.exception.runtime.MappedItemNotFoundException;
+import org.dataintegration.exception.runtime.MappingIntegrationRunningException;
 import org.dataintegration.exception.runtime.MappingNotFoundException;
 import org.dataintegration.exception.runtime.MappingValidationException;
 import org.dataintegration.exception.runtime.ProjectForbiddenException;
@@ -47,11 +51,13 @@ public class ExceptionRestControllerAdvice {
                     ProjectNotFoundException.class,
                     ScopeNotFoundException.class,
                     ItemNotFoundException.class,
+                    HeaderNotFoundException.class,
                     CheckpointNotFoundException.class,
                     HostNotFoundException.class,
                     DatabaseNotFoundException.class,
                     MappingNotFoundException.class,
                     MappedItemNotFoundException.class,
+                    MappingJobNotFoundException.class,
                     BucketNotFoundException.class,
                     KeyNotFoundException.class,
                     TagNotFoundException.class
@@ -60,12 +66,14 @@ public class ExceptionRestControllerAdvice {
             List.of(
                     InvalidUUIDException.class,
                     InvalidDelimiterException.class,
+                    InvalidSeekException.class,
                     HostValidationException.class
             ), HttpStatus.BAD_REQUEST,
             List.of(ScopeNotFinishedException.class), HttpStatus.TOO_EARLY,
             List.of(
                     ScopeValidationException.class,
-                    MappingValidationException.class
+                    MappingValidationException.class,
+                    MappingIntegrationRunningException.class
             ), HttpStatus.CONFLICT,
             List.of(
                     HostDomainValidationException.class,
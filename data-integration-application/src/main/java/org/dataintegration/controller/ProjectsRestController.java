@@ -3,6 +3,7 @@ package org.dataintegration.controller;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
 import org.dataintegration.exception.checked.ScopeHeaderValidationException;
+import org.dataintegration.model.MappingJobModel;
 import org.dataintegration.model.DataIntegrationAPIModel;
 import org.dataintegration.model.HeaderModel;
 import org.dataintegration.model.ItemModel;
@@ -10,6 +11,8 @@ import org.dataintegration.model.MappedItemModel;
 import org.dataintegration.model.MappingModel;
 import org.dataintegration.model.ProjectModel;
 import org.dataintegration.model.ScopeModel;
+import org.dataintegration.model.SeekPageModel;
+import org.dataintegration.usecase.MappingJobsUsecase;
 import org.dataintegration.usecase.ImportDataUsecase;
 import org.dataintegration.usecase.ProjectsUsecase;
 import org.dataintegration.usecase.model.ApplyMappingRequestModel;
@@ -18,6 +21,7 @@ import org.dataintegration.usecase.model.CreateOrUpdateMappingsRequestModel;
 import org.dataintegration.usecase.model.CreateOrUpdateScopeHeadersRequestModel;
 import org.dataintegration.usecase.model.CreateProjectsRequestModel;
 import org.dataintegration.usecase.model.CurrentCheckpointStatusResponseModel;
+import org.dataintegration.usecase.model.ImportProgressEventResponseModel;
 import org.dataintegration.usecase.model.IntegrateRequestModel;
 import org.dataintegration.usecase.model.UpdateItemPropertiesRequestModel;
 import org.dataintegration.usecase.model.UpdateProjectsRequestModel;
@@ -26,6 +30,7 @@ import org.springdoc.core.annotations.ParameterObject;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.http.MediaType;
+import org.springframework.http.codec.ServerSentEvent;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.security.oauth2.jwt.Jwt;
@@ -39,11 +44,15 @@ import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 import org.springframework.web.multipart.MultipartFile;
+import reactor.core.publisher.Flux;
 
 import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.List;
 import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.RejectedExecutionException;
 
 @Tag(name = "/projects")
 @RestController
@@ -53,6 +62,7 @@ public class ProjectsRestController {
 
     private final ProjectsUsecase projectsUsecase;
     private final ImportDataUsecase importDataUsecase;
+    private final MappingJobsUsecase mappingJobsUsecase;
 
     @PreAuthorize("hasRegexAuthority(@authorityConfig.authorityRegexes)")
     @PostMapping
@@ -67,8 +77,17 @@ public class ProjectsRestController {
                                @RequestParam UUID scopeId,
                                @RequestParam String delimiter,
                                @RequestParam MultipartFile file) throws IOException {
-        importDataUsecase.importFromFile(file.getBytes(), projectId, scopeId,
-                DataIntegrationUtils.delimiterStringToCharMapper(delimiter), DataIntegrationUtils.getJwtUserId(jwt));
+        final char delimiterCharacter = DataIntegrationUtils.delimiterStringToCharMapper(delimiter);
+        final Path spooledFile = Files.createTempFile("data-integration-import-", ".csv");
+        try {
+            file.transferTo(spooledFile);
+            // the async import deletes the file once it is done, unless the executor rejects it
+            importDataUsecase.importFromFile(spooledFile, projectId, scopeId, delimiterCharacter,
+                    DataIntegrationUtils.getJwtUserId(jwt));
+        } catch (IOException | RejectedExecutionException ex) {
+            Files.deleteIfExists(spooledFile);
+            throw ex;
+        }
     }
 
     @PreAuthorize("hasRegexAuthority(@authorityConfig.authorityRegexes)")
@@ -92,6 +111,28 @@ public class ProjectsRestController {
                 .applyMapping(projectId, applyMappingRequest, DataIntegrationUtils.getJwtUserId(jwt));
     }
 
+    @PreAuthorize("hasRegexAuthority(@authorityConfig.authorityRegexes)")
+    @PostMapping("/{projectId}/mappings/apply-map/jobs")
+    public MappingJobModel startApplyMappingJob(@AuthenticationPrincipal Jwt jwt, @PathVariable UUID projectId,
+                                                @RequestBody ApplyMappingRequestModel applyMappingRequest) {
+        final MappingJobModel mappingJob = projectsUsecase.getMappingsMethods()
+                .createApplyMappingJob(projectId, applyMappingRequest, DataIntegrationUtils.getJwtUserId(jwt));
+        try {
+            mappingJobsUsecase.runApplyMappingJob(mappingJob, applyMappingRequest);
+        } catch (RejectedExecutionException ex) {
+            projectsUsecase.getMappingsMethods().failApplyMappingJob(mappingJob, ex.getMessage());
+            throw ex;
+        }
+        return mappingJob;
+    }
+
+    @PreAuthorize("hasRegexAuthority(@authorityConfig.authorityRegexes)")
+    @GetMapping("/{projectId}/mappings/jobs/{jobId}")
+    public MappingJobModel getMappingJob(@AuthenticationPrincipal Jwt jwt, @PathVariable UUID projectId,
+                                         @PathVariable UUID jobId) {
+        return projectsUsecase.getMappingsMethods().getMappingJob(projectId, jobId, DataIntegrationUtils.getJwtUserId(jwt));
+    }
+
     @PreAuthorize("hasRegexAuthority(@authorityConfig.authorityRegexes)")
     @PostMapping("/{projectId}/mapped-items/apply-unmap")
     public void applyUnmapping(@AuthenticationPrincipal Jwt jwt, @PathVariable UUID projectId,
@@ -136,6 +177,21 @@ public class ProjectsRestController {
                         DataIntegrationUtils.getJwtUserId(jwt));
     }
 
+    @PreAuthorize("hasRegexAuthority(@authorityConfig.authorityRegexes)")
+    @PostMapping("/{projectId}/mappings/{mappingId}/mapped-items/integrate/jobs")
+    public MappingJobModel startIntegrationJob(@AuthenticationPrincipal Jwt jwt, @PathVariable UUID projectId,
+                                               @PathVariable UUID mappingId, @RequestParam String language) {
+        final MappingJobModel mappingJob = projectsUsecase.getMappedItemsMethods()
+                .createIntegrationJob(projectId, mappingId, DataIntegrationUtils.getJwtUserId(jwt));
+        try {
+            mappingJobsUsecase.runIntegrationJob(mappingJob, language, jwt.getTokenValue());
+        } catch (RejectedExecutionException ex) {
+            projectsUsecase.getMappedItemsMethods().failIntegrationJob(mappingJob, ex.getMessage());
+            throw ex;
+        }
+        return mappingJob;
+    }
+
     @PreAuthorize("hasRegexAuthority(@authorityConfig.authorityRegexes)")
     @PutMapping("/{projectId}/items/{itemId}/properties/{key}")
     public ItemModel updateItemProperty(@AuthenticationPrincipal Jwt jwt, @PathVariable UUID projectId,
@@ -153,6 +209,17 @@ public class ProjectsRestController {
                 DataIntegrationUtils.getJwtUserId(jwt));
     }
 
+    @PreAuthorize("hasRegexAuthority(@authorityConfig.authorityRegexes)")
+    @PutMapping("/{projectId}/scopes/{scopeId}/items/properties/{key}")
+    public int updateFilteredItemProperties(@AuthenticationPrincipal Jwt jwt, @PathVariable UUID projectId,
+                                            @PathVariable UUID scopeId, @RequestParam(required = false) UUID mappingId,
+                                            @RequestParam boolean filterMappedItems, @RequestParam String header,
+                                            @RequestParam String search, @PathVariable String key,
+                                            @RequestParam String newValue) {
+        return projectsUsecase.getItemsMethods().updateFilteredItemProperties(projectId, scopeId, mappingId, filterMappedItems,
+                header, search, key, newValue, DataIntegrationUtils.getJwtUserId(jwt));
+    }
+
     @PreAuthorize("hasRegexAuthority(@authorityConfig.authorityRegexes)")
     @PutMapping("/{projectId}/mapped-items/{mappedItemId}/properties/{key}")
     public MappedItemModel updateMappedItemProperty(@AuthenticationPrincipal Jwt jwt, @PathVariable UUID projectId,
@@ -213,6 +280,20 @@ public class ProjectsRestController {
                 DataIntegrationUtils.getJwtUserId(jwt), pageable);
     }
 
+    @PreAuthorize("hasRegexAuthority(@authorityConfig.authorityRegexes)")
+    @GetMapping("/{projectId}/scopes/{scopeId}/items/seek")
+    public SeekPageModel<ItemModel> seekItems(@AuthenticationPrincipal Jwt jwt, @PathVariable UUID projectId,
+                                              @PathVariable UUID scopeId, @RequestParam(required = false) UUID mappingId,
+                                              @RequestParam boolean filterMappedItems, @RequestParam String header,
+                                              @RequestParam String search, @RequestParam(required = false) Long afterLineNumber,
+                                              @RequestParam(required = false) UUID afterId,
+                                              @RequestParam(defaultValue = "50") int size,
+                                              @RequestParam(defaultValue = "false") boolean count) {
+        DataIntegrationUtils.checkSeekPosition(afterLineNumber, afterId);
+        return projectsUsecase.getItemsMethods().seekAllItems(projectId, scopeId, mappingId, filterMappedItems, header, search,
+                afterLineNumber, afterId, DataIntegrationUtils.getSeekSize(size), count, DataIntegrationUtils.getJwtUserId(jwt));
+    }
+
     @PreAuthorize("hasRegexAuthority(@authorityConfig.authorityRegexes)")
     @GetMapping("/{projectId}/scopes/{scopeId}/mappings")
     public List<MappingModel> getMappings(@AuthenticationPrincipal Jwt jwt, @PathVariable UUID projectId,
@@ -229,6 +310,19 @@ public class ProjectsRestController {
                 .getAllMappedItems(projectId, mappingId, filterIntegratedItems, DataIntegrationUtils.getJwtUserId(jwt), pageable);
     }
 
+    @PreAuthorize("hasRegexAuthority(@authorityConfig.authorityRegexes)")
+    @GetMapping("/{projectId}/mappings/{mappingId}/mapped-items/seek")
+    public SeekPageModel<MappedItemModel> seekMappedItems(@AuthenticationPrincipal Jwt jwt, @PathVariable UUID projectId,
+                                                          @PathVariable UUID mappingId, @RequestParam boolean filterIntegratedItems,
+                                                          @RequestParam(required = false) Long afterLineNumber,
+                                                          @RequestParam(required = false) UUID afterId,
+                                                          @RequestParam(defaultValue = "50") int size,
+                                                          @RequestParam(defaultValue = "false") boolean count) {
+        DataIntegrationUtils.checkSeekPosition(afterLineNumber, afterId);
+        return projectsUsecase.getMappedItemsMethods().seekAllMappedItems(projectId, mappingId, filterIntegratedItems,
+                afterLineNumber, afterId, DataIntegrationUtils.getSeekSize(size), count, DataIntegrationUtils.getJwtUserId(jwt));
+    }
+
     @PreAuthorize("hasRegexAuthority(@authorityConfig.authorityRegexes)")
     @GetMapping("/{projectId}/scopes/{scopeId}/checkpoints/status")
     public CurrentCheckpointStatusResponseModel getCheckpointsStatus(@AuthenticationPrincipal Jwt jwt,
@@ -238,6 +332,18 @@ public class ProjectsRestController {
                 .getCurrentCheckpointStatus(projectId, scopeId, DataIntegrationUtils.getJwtUserId(jwt));
     }
 
+    @PreAuthorize("hasRegexAuthority(@authorityConfig.authorityRegexes)")
+    @GetMapping(value = "/{projectId}/scopes/{scopeId}/checkpoints/events", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public Flux<ServerSentEvent<ImportProgressEventResponseModel>> getCheckpointsEvents(@AuthenticationPrincipal Jwt jwt,
+                                                                                        @PathVariable UUID projectId,
+                                                                                        @PathVariable UUID scopeId) {
+        return projectsUsecase.getCheckpointsMethods()
+                .getImportProgressEvents(projectId, scopeId, DataIntegrationUtils.getJwtUserId(jwt))
+                .map(event -> ServerSentEvent.builder(event)
+                        .event(event.getType().name())
+                        .build());
+    }
+
     @PreAuthorize("hasRegexAuthority(@authorityConfig.authorityRegexes)")
     @DeleteMapping("/{projectId}/mark")
     public void markProjectForDeletion(@AuthenticationPrincipal Jwt jwt, @PathVariable UUID projectId) {
@@ -0,0 +1,26 @@
+package org.dataintegration.controller;
+
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.dataintegration.model.PurgeStatusModel;
+import org.dataintegration.usecase.PurgeUsecase;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@Tag(name = "/purge")
+@RestController
+@RequestMapping("${server.root.path}/purge")
+@RequiredArgsConstructor
+public class PurgeRestController {
+
+    private final PurgeUsecase purgeUsecase;
+
+    @PreAuthorize("hasRegexAuthority(@authorityConfig.authorityRegexes)")
+    @GetMapping
+    public PurgeStatusModel getPurgeStatus() {
+        return purgeUsecase.getPurgeStatus();
+    }
+
+}
@@ -39,9 +39,9 @@ public class S3RestController {
     @PreAuthorize("hasRegexAuthority(@authorityConfig.authorityRegexes)")
     @PostMapping("/multipart-upload/complete")
     public void completeMultipartUpload(@AuthenticationPrincipal Jwt jwt, @RequestParam String bucket, @RequestParam String key,
-                                        @RequestParam String uploadId, @RequestParam long lineCount,
-                                        @RequestParam String delimiter, @RequestBody List<CompletedPartModel> completedParts) {
-        s3Usecase.completeMultipartUpload(bucket, key, uploadId, lineCount,
+                                        @RequestParam String uploadId, @RequestParam String delimiter,
+                                        @RequestBody List<CompletedPartModel> completedParts) {
+        s3Usecase.completeMultipartUpload(bucket, key, uploadId,
                 DataIntegrationUtils.delimiterStringToCharMapper(delimiter), completedParts, DataIntegrationUtils.getJwtUserId(jwt));
     }
 
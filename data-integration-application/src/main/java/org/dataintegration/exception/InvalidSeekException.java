@@ -0,0 +1,8 @@
+package org.dataintegration.exception;
+
+import lombok.experimental.StandardException;
+import org.dataintegration.exception.runtime.DataIntegrationRuntimeException;
+
+@StandardException
+public class InvalidSeekException extends DataIntegrationRuntimeException {
+}
@@ -6,7 +6,7 @@ import lombok.Data;
 import lombok.NoArgsConstructor;
 
 import java.util.concurrent.ExecutorService;
-import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.Semaphore;
 
 @Data
 @Builder
@@ -15,7 +15,9 @@ import java.util.concurrent.atomic.AtomicLong;
 public class AsyncBatchConfigModel {
 
     private ExecutorService executorService;
-    private AtomicLong activeBatches;
+    private Semaphore batchPermits;
     private int batchThreads;
+    private ExecutorService parsePool;
+    private int parsePrefetch;
 
 }
@@ -12,6 +12,8 @@ import lombok.NoArgsConstructor;
 public class BatchConfigModel {
 
     private int batchSize;
+    private BatchInsertEngineModel batchInsertEngine;
+    private BatchParseEngineModel batchParseEngine;
     private int batchRetryScopeMax;
     private int batchRetryBatchMax;
 
@@ -0,0 +1,6 @@
+package org.dataintegration.model;
+
+public enum BatchInsertEngineModel {
+    JPA,
+    COPY
+}
@@ -15,7 +15,4 @@ public class BatchWaitingConfigModel {
 
     private long batchRetryBatchDelayMs;
 
-    private long batchWaitForFullQueueDelayMs;
-    private long batchWaitForBatchesToFinishDelayMs;
-
 }
@@ -0,0 +1,19 @@
+package org.dataintegration.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class CsvChunkModel {
+
+    private byte[] bytes;
+    private int recordCount;
+    private long startOffset;
+    private long endOffset;
+
+}
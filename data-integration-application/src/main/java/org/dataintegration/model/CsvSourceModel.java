@@ -0,0 +1,24 @@
+package org.dataintegration.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.io.InputStream;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class CsvSourceModel {
+
+    private InputStreamOpener inputStreamOpener;
+    private char delimiter;
+
+    @FunctionalInterface
+    public interface InputStreamOpener {
+        InputStream open(long offset) throws Exception;
+    }
+
+}
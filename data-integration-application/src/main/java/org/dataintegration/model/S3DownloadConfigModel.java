@@ -0,0 +1,20 @@
+package org.dataintegration.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.concurrent.ExecutorService;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class S3DownloadConfigModel {
+
+    private long partSize;
+    private int prefetch;
+    private ExecutorService executorService;
+
+}
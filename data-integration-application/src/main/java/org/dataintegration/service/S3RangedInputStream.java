@@ -0,0 +1,165 @@
+package org.dataintegration.service;
+
+import software.amazon.awssdk.core.ResponseInputStream;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.GetObjectRequest;
+import software.amazon.awssdk.services.s3.model.GetObjectResponse;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InterruptedIOException;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Objects;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+
+/**
+ * Reads an s3 object through ranged GETs of {@code partSize} bytes, with up to {@code prefetch} parts downloading in parallel.
+ * Parts are handed out strictly in order, so the stream looks like a single sequential GET to the reader. Closing the stream
+ * interrupts the downloads in flight and aborts their responses, so no connection keeps downloading a part nobody reads.
+ */
+class S3RangedInputStream extends InputStream {
+
+    private static final byte[] EMPTY = new byte[0];
+
+    private final S3Client s3Client;
+    private final String bucket;
+    private final String key;
+    private final long objectSize;
+    private final long partSize;
+    private final int prefetch;
+    private final ExecutorService executorService;
+    private final Deque<Part> pendingParts = new ArrayDeque<>();
+
+    private long nextPartOffset;
+    private byte[] currentPart = EMPTY;
+    private int currentPosition;
+
+    S3RangedInputStream(S3Client s3Client, String bucket, String key, long offset, long objectSize, long partSize, int prefetch,
+                        ExecutorService executorService) {
+        this.s3Client = s3Client;
+        this.bucket = bucket;
+        this.key = key;
+        this.objectSize = objectSize;
+        this.partSize = partSize;
+        this.prefetch = prefetch;
+        this.executorService = executorService;
+        this.nextPartOffset = offset;
+        requestParts();
+    }
+
+    @Override
+    public int read() throws IOException {
+        if (!nextPart()) {
+            return -1;
+        }
+        return currentPart[currentPosition++] & 0xff;
+    }
+
+    @Override
+    public int read(byte[] bytes, int offset, int length) throws IOException {
+        Objects.checkFromIndexSize(offset, length, bytes.length);
+        if (length == 0) {
+            return 0;
+        }
+        if (!nextPart()) {
+            return -1;
+        }
+        final int read = Math.min(length, currentPart.length - currentPosition);
+        System.arraycopy(currentPart, currentPosition, bytes, offset, read);
+        currentPosition += read;
+        return read;
+    }
+
+    @Override
+    public void close() {
+        pendingParts.forEach(Part::cancel);
+        pendingParts.clear();
+        currentPart = EMPTY;
+        currentPosition = 0;
+    }
+
+    private boolean nextPart() throws IOException {
+        while (currentPosition >= currentPart.length) {
+            final Part pendingPart = pendingParts.poll();
+            if (pendingPart == null) {
+                return false;
+            }
+            try {
+                currentPart = pendingPart.future.get();
+            } catch (ExecutionException ex) {
+                close();
+                throw new IOException("Could not download " + bucket + "/" + key + ".", ex.getCause());
+            } catch (CancellationException ex) {
+                close();
+                throw new IOException("Could not download " + bucket + "/" + key + ".", ex);
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+                close();
+                throw new InterruptedIOException("Interrupted while downloading " + bucket + "/" + key + ".");
+            }
+            currentPosition = 0;
+            requestParts();
+        }
+        return true;
+    }
+
+    private void requestParts() {
+        while (pendingParts.size() < prefetch && nextPartOffset < objectSize) {
+            final long start = nextPartOffset;
+            final long end = Math.min(start + partSize, objectSize) - 1;
+            final GetObjectRequest getObjectRequest = GetObjectRequest.builder()
+                    .bucket(bucket)
+                    .key(key)
+                    .range("bytes=" + start + "-" + end)
+                    .build();
+            final Part part = new Part(getObjectRequest);
+            part.future = executorService.submit(part);
+            pendingParts.add(part);
+            nextPartOffset = end + 1;
+        }
+    }
+
+    /**
+     * Download of one part. Cancelling interrupts the downloading thread and aborts the response, since a thread blocked on
+     * the socket does not react to the interrupt alone.
+     */
+    private final class Part implements Callable<byte[]> {
+
+        private final GetObjectRequest getObjectRequest;
+        private Future<byte[]> future;
+        private volatile ResponseInputStream<GetObjectResponse> response;
+        private volatile boolean cancelled;
+
+        private Part(GetObjectRequest getObjectRequest) {
+            this.getObjectRequest = getObjectRequest;
+        }
+
+        @Override
+        public byte[] call() throws IOException {
+            try (ResponseInputStream<GetObjectResponse> responseInputStream = s3Client.getObject(getObjectRequest)) {
+                response = responseInputStream;
+                if (cancelled) {
+                    responseInputStream.abort();
+                    throw new CancellationException("Download of " + getObjectRequest.range() + " was cancelled.");
+                }
+                return responseInputStream.readAllBytes();
+            }
+        }
+
+        private void cancel() {
+            cancelled = true;
+            future.cancel(true);
+            final ResponseInputStream<GetObjectResponse> responseInputStream = response;
+            if (responseInputStream != null) {
+                responseInputStream.abort();
+            }
+        }
+
+    }
+
+}
@@ -6,6 +6,7 @@ import org.dataintegration.exception.KeyNotFoundException;
 import org.dataintegration.exception.TagNotFoundException;
 import org.dataintegration.model.CompletedPartModel;
 import org.dataintegration.model.DelimiterModel;
+import org.dataintegration.model.S3DownloadConfigModel;
 import org.springframework.stereotype.Service;
 import software.amazon.awssdk.core.ResponseInputStream;
 import software.amazon.awssdk.services.s3.S3Client;
@@ -18,6 +19,7 @@ import software.amazon.awssdk.services.s3.model.DeleteObjectRequest;
 import software.amazon.awssdk.services.s3.model.GetObjectRequest;
 import software.amazon.awssdk.services.s3.model.GetObjectResponse;
 import software.amazon.awssdk.services.s3.model.GetObjectTaggingRequest;
+import software.amazon.awssdk.services.s3.model.HeadObjectRequest;
 import software.amazon.awssdk.services.s3.model.ListObjectsV2Request;
 import software.amazon.awssdk.services.s3.model.ListObjectsV2Response;
 import software.amazon.awssdk.services.s3.model.NoSuchBucketException;
@@ -28,6 +30,7 @@ import software.amazon.awssdk.services.s3.presigner.S3Presigner;
 import software.amazon.awssdk.services.s3.presigner.model.PresignedUploadPartRequest;
 import software.amazon.awssdk.services.s3.presigner.model.UploadPartPresignRequest;
 
+import java.io.InputStream;
 import java.time.Duration;
 import java.util.List;
 
@@ -37,6 +40,7 @@ public class S3Service {
 
     private final S3Client s3Client;
     private final S3Presigner s3Presigner;
+    private final S3DownloadConfigModel s3DownloadConfig;
 
     public String initiateMultipartUpload(String bucket, String key) {
         try {
@@ -77,7 +81,7 @@ public class S3Service {
     }
 
     @SuppressWarnings("checkstyle:MethodLength")
-    public void completeMultipartUpload(String bucket, String key, String uploadId, long lineCount, char delimiter,
+    public void completeMultipartUpload(String bucket, String key, String uploadId, char delimiter,
                                         List<CompletedPartModel> completedParts) {
         try {
             final CompleteMultipartUploadRequest completeMultipartUploadRequest = CompleteMultipartUploadRequest.builder()
@@ -102,10 +106,6 @@ public class S3Service {
                     .key(key)
                     .tagging(tagginBuilder -> tagginBuilder
                             .tagSet(
-                                    Tag.builder()
-                                            .key("lineCount")
-                                            .value(String.valueOf(lineCount))
-                                            .build(),
                                     Tag.builder()
                                             .key("delimiter")
                                             .value(DelimiterModel.fromCharacter(delimiter).toString())
@@ -137,10 +137,15 @@ public class S3Service {
     }
 
     public ResponseInputStream<GetObjectResponse> getS3Object(String bucket, String key) {
+        return getS3Object(bucket, key, 0);
+    }
+
+    public ResponseInputStream<GetObjectResponse> getS3Object(String bucket, String key, long offset) {
         try {
             final GetObjectRequest getObjectRequest = GetObjectRequest.builder()
                     .bucket(bucket)
                     .key(key)
+                    .range(offset > 0 ? "bytes=" + offset + "-" : null)
                     .build();
             return s3Client.getObject(getObjectRequest);
         } catch (NoSuchBucketException ex) {
@@ -150,6 +155,37 @@ public class S3Service {
         }
     }
 
+    /**
+     * Open an s3 object for reading from the given offset on. Objects larger than one part are downloaded in parallel ranged
+     * GETs if a prefetch greater than 1 is configured, otherwise a single GET is used.
+     *
+     * @param bucket bucket
+     * @param key key
+     * @param offset byte offset to start reading from
+     * @return {@link InputStream} of the object content
+     */
+    public InputStream openS3Object(String bucket, String key, long offset) {
+        if (s3DownloadConfig.getPrefetch() <= 1) {
+            return getS3Object(bucket, key, offset);
+        }
+        try {
+            final HeadObjectRequest headObjectRequest = HeadObjectRequest.builder()
+                    .bucket(bucket)
+                    .key(key)
+                    .build();
+            final long objectSize = s3Client.headObject(headObjectRequest).contentLength();
+            if (objectSize - offset <= s3DownloadConfig.getPartSize()) {
+                return getS3Object(bucket, key, offset);
+            }
+            return new S3RangedInputStream(s3Client, bucket, key, offset, objectSize, s3DownloadConfig.getPartSize(),
+                    s3DownloadConfig.getPrefetch(), s3DownloadConfig.getExecutorService());
+        } catch (NoSuchBucketException ex) {
+            throw new BucketNotFoundException(bucket);
+        } catch (NoSuchKeyException ex) {
+            throw new KeyNotFoundException(key);
+        }
+    }
+
     public String getS3ObjectTag(String bucket, String key, String tag) {
         try {
             final GetObjectTaggingRequest getObjectTaggingRequest = GetObjectTaggingRequest.builder()
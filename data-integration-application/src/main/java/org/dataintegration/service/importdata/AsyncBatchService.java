@@ -3,25 +3,39 @@ package org.dataintegration.service.importdata;
 import lombok.RequiredArgsConstructor;
 import org.dataintegration.jpa.entity.CheckpointEntity;
 import org.dataintegration.model.AsyncBatchConfigModel;
+import org.dataintegration.model.BatchConfigModel;
+import org.dataintegration.model.BatchInsertEngineModel;
 import org.dataintegration.model.BatchProcessingModel;
 import org.dataintegration.service.ItemBatchInsertService;
 import org.dataintegration.service.CheckpointsService;
+import org.dataintegration.service.ItemCopyBatchInsertService;
+import org.slf4j.event.Level;
 import org.springframework.stereotype.Service;
 
 import java.util.concurrent.CompletableFuture;
 
+import static org.dataintegration.logger.BatchProcessingLogger.log;
+
 @Service
 @RequiredArgsConstructor
 class AsyncBatchService {
 
     private final CheckpointsService checkpointsService;
     private final ItemBatchInsertService itemBatchInsertService;
+    private final ItemCopyBatchInsertService itemCopyBatchInsertService;
     private final AsyncBatchConfigModel asyncBatchConfig;
+    private final BatchConfigModel batchConfig;
 
     CompletableFuture<Void> processBatchAsync(BatchProcessingModel batchProcessing) {
         return CompletableFuture.runAsync(() -> {
             final CheckpointEntity checkpointEntity = checkpointsService.getCheckpoint(batchProcessing.getScopeId());
-            itemBatchInsertService.insertBatch(batchProcessing, checkpointEntity);
+            final boolean inserted = batchConfig.getBatchInsertEngine() == BatchInsertEngineModel.COPY
+                    ? itemCopyBatchInsertService.insertBatch(batchProcessing, checkpointEntity)
+                    : itemBatchInsertService.insertBatch(batchProcessing, checkpointEntity);
+            if (!inserted) {
+                log(Level.DEBUG, batchProcessing.getScopeKey(), batchProcessing.getScopeId(),
+                        "Batch " + batchProcessing.getBatchIndex() + " was already committed, skipped inserting it again.");
+            }
         }, asyncBatchConfig.getExecutorService());
     }
 
@@ -2,14 +2,16 @@ package org.dataintegration.service.importdata;
 
 import lombok.RequiredArgsConstructor;
 import org.dataintegration.model.BatchProcessingModel;
+import org.dataintegration.service.ImportProgressService;
 import org.slf4j.event.Level;
 import org.springframework.dao.DataAccessResourceFailureException;
 import org.springframework.transaction.CannotCreateTransactionException;
 
 import java.util.Arrays;
+import java.util.BitSet;
 import java.util.UUID;
+import java.util.concurrent.Phaser;
 import java.util.concurrent.atomic.AtomicBoolean;
-import java.util.concurrent.atomic.AtomicLong;
 
 import static org.dataintegration.logger.BatchProcessingLogger.log;
 
@@ -18,8 +20,9 @@ class AsyncRetryBatchExceptionService {
 
     private final AsyncRetryBatchService asyncRetryBatchService;
     private final BatchWaitingService batchWaitingService;
+    private final ImportProgressService importProgressService;
 
-    void handleException(BatchProcessingModel batchProcessing, AtomicBoolean failed, AtomicLong activeBatchesScope,
+    boolean handleException(BatchProcessingModel batchProcessing, AtomicBoolean failed, Phaser activeBatchesScope,
                                 int remainingRetries, Throwable ex) {
         final String scopeKey = batchProcessing.getScopeKey();
         final UUID scopeId = batchProcessing.getScopeId();
@@ -27,6 +30,7 @@ class AsyncRetryBatchExceptionService {
             final AtomicBoolean fatal = new AtomicBoolean(false);
             final String errorPrefix = "Error during batch " + batchProcessing.getBatchIndex() + ". ";
             log(Level.ERROR, scopeKey, scopeId, errorPrefix + Arrays.toString(ex.getStackTrace()));
+            importProgressService.failBatch(scopeId, batchProcessing.getBatchIndex(), String.valueOf(ex.getMessage()));
             if (isFatalException(ex.getCause())) {
                 fatal.set(true);
                 log(Level.ERROR, scopeKey, scopeId, errorPrefix + "Error is fatal, batch retries will be skipped.");
@@ -35,13 +39,25 @@ class AsyncRetryBatchExceptionService {
                 log(Level.WARN, scopeKey, scopeId, errorPrefix + "Retrying... Remaining retries: " + (remainingRetries - 1));
                 batchWaitingService.batchRetryDelay();
                 asyncRetryBatchService.retryBatch(batchProcessing, failed, activeBatchesScope, remainingRetries - 1);
+                return true;
             } else {
                 log(Level.ERROR, scopeKey, scopeId, errorPrefix + "All batch retries are used up.");
                 failed.set(true);
             }
         } else {
+            final BitSet processedBatches = batchProcessing.getProcessedBatches();
+            final int batchIndex = Math.toIntExact(batchProcessing.getBatchIndex());
+            final boolean newlyProcessed;
+            synchronized (processedBatches) {
+                newlyProcessed = !processedBatches.get(batchIndex);
+                processedBatches.set(batchIndex);
+            }
+            if (newlyProcessed) {
+                importProgressService.completeBatch(scopeId, batchIndex);
+            }
             log(Level.DEBUG, scopeKey, scopeId, "Processed batch " + batchProcessing.getBatchIndex());
         }
+        return false;
     }
 
     private boolean isFatalException(Throwable cause) {
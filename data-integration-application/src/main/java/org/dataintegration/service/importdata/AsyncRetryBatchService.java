@@ -3,10 +3,11 @@ package org.dataintegration.service.importdata;
 import lombok.RequiredArgsConstructor;
 import org.dataintegration.model.AsyncBatchConfigModel;
 import org.dataintegration.model.BatchProcessingModel;
+import org.dataintegration.service.ImportProgressService;
 import org.springframework.stereotype.Service;
 
+import java.util.concurrent.Phaser;
 import java.util.concurrent.atomic.AtomicBoolean;
-import java.util.concurrent.atomic.AtomicLong;
 
 @Service
 @RequiredArgsConstructor
@@ -14,23 +15,24 @@ class AsyncRetryBatchService {
 
     private final AsyncBatchService asyncBatchService;
     private final BatchWaitingService batchWaitingService;
+    private final ImportProgressService importProgressService;
     private final AsyncBatchConfigModel asyncBatchConfig;
 
-    void retryBatch(BatchProcessingModel batchProcessing, AtomicBoolean failed, AtomicLong activeBatchesScope,
+    void retryBatch(BatchProcessingModel batchProcessing, AtomicBoolean failed, Phaser activeBatchesScope,
                            int remainingRetries) {
-        final AtomicLong activeBatches = asyncBatchConfig.getActiveBatches();
         asyncBatchService.processBatchAsync(batchProcessing).whenComplete((result, ex) -> {
-            activeBatches.decrementAndGet();
-            activeBatchesScope.decrementAndGet();
-            if (activeBatches.get() < 0) {
-                activeBatches.set(0);
+            boolean retrying = false;
+            try {
+                final AsyncRetryBatchExceptionService asyncRetryBatchExceptionService =
+                        new AsyncRetryBatchExceptionService(this, batchWaitingService, importProgressService);
+                retrying = asyncRetryBatchExceptionService.handleException(batchProcessing, failed, activeBatchesScope,
+                        remainingRetries, ex);
+            } finally {
+                if (!retrying) {
+                    asyncBatchConfig.getBatchPermits().release();
+                    activeBatchesScope.arriveAndDeregister();
+                }
             }
-            if (activeBatchesScope.get() < 0) {
-                activeBatchesScope.set(0);
-            }
-            final AsyncRetryBatchExceptionService asyncRetryBatchExceptionService =
-                    new AsyncRetryBatchExceptionService(this, batchWaitingService);
-            asyncRetryBatchExceptionService.handleException(batchProcessing, failed, activeBatchesScope, remainingRetries, ex);
         });
     }
 }
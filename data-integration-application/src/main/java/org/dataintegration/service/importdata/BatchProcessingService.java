@@ -1,20 +1,18 @@
 package org.dataintegration.service.importdata;
 
-import com.opencsv.CSVReader;
 import lombok.RequiredArgsConstructor;
-import org.dataintegration.jpa.entity.ItemEntity;
 import org.dataintegration.jpa.entity.ScopeEntity;
+import org.dataintegration.model.CsvSourceModel;
 import org.dataintegration.model.HeaderModel;
 import org.dataintegration.service.ScopesService;
 import org.slf4j.event.Level;
 import org.springframework.stereotype.Service;
 
-import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.BitSet;
 import java.util.LinkedHashSet;
-import java.util.List;
 import java.util.UUID;
-import java.util.concurrent.Callable;
+import java.util.concurrent.Phaser;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicLong;
 import java.util.stream.Collectors;
@@ -30,21 +28,20 @@ class BatchProcessingService {
     private final BatchService batchService;
     private final ItemCreationService itemCreationService;
     private final BatchWaitingService batchWaitingService;
+    private final CsvBatchReaderService csvBatchReaderService;
 
     @SuppressWarnings("checkstyle:MethodLength")
-    boolean batchProcessing(Callable<CSVReader> csvReaderCallable, UUID projectId, ScopeEntity scopeEntity,
-                            int batchSize, long startTime, int attempt) {
+    boolean batchProcessing(CsvSourceModel csvSource, UUID projectId, ScopeEntity scopeEntity,
+                            int batchSize, BitSet processedBatches, long startTime, int attempt) {
         final String scopeKey = scopeEntity.getKey();
         final UUID scopeId = scopeEntity.getId();
-        try (final CSVReader csvReader = csvReaderCallable.call()) {
+        // the reading thread is the first party, every batch in flight registers itself until it is completed
+        final Phaser activeBatchesScope = new Phaser(1);
+        try (final CsvBatchReader csvBatchReader = csvBatchReaderService.open(csvSource, batchSize)) {
 
-            final List<ItemEntity> batch = new ArrayList<>();
-            final AtomicLong batchIndex = new AtomicLong(1);
-
-            final AtomicLong activeBatchesScope = new AtomicLong(0);
             final AtomicBoolean failed = new AtomicBoolean(false);
 
-            final LinkedHashSet<HeaderModel> headers = Arrays.stream(csvReader.readNext())
+            final LinkedHashSet<HeaderModel> headers = Arrays.stream(csvBatchReader.readHeader())
                     .map(header -> HeaderModel.builder()
                             .id(header)
                             .display(header)
@@ -61,38 +58,40 @@ class BatchProcessingService {
                 failed.set(true);
             }
 
-            final AtomicBoolean batchAlreadyProcessedCache = new AtomicBoolean(false);
-            final AtomicLong lineCounter = new AtomicLong(-1);
-
-            String[] line;
-            while (!failed.get() && (line = csvReader.readNext()) != null) {
-                failed.set(batchService.checkIfFailedDueToCacheInterruption(scopeEntity));
-                batchIndex.set((lineCounter.incrementAndGet() / batchSize) + 1);
-
-                if (batchService.isBatchAlreadyProcessed(lineCounter, batchSize, scopeEntity, batchIndex,
-                        batchAlreadyProcessedCache)) {
-                    continue;
+            if (!failed.get()) {
+                final AtomicLong lastBatchIndex = new AtomicLong();
+                batchService.skipProcessedBatches(scopeEntity, processedBatches, csvBatchReader);
+                csvBatchReader.readBatches(
+                        batchIndex -> {
+                            lastBatchIndex.set(batchIndex);
+                            return batchService.isBatchAlreadyProcessed(scopeEntity, processedBatches, batchIndex);
+                        },
+                        (line, lineNumber) -> itemCreationService.createItemEntity(line, scopeEntity, lineNumber),
+                        batchProcessing -> {
+                            if (batchService.checkIfFailedDueToCacheInterruption(scopeEntity)) {
+                                failed.set(true);
+                            }
+                            if (!failed.get()) {
+                                handleBatchService.handleBatch(projectId, batchProcessing, batchSize, scopeEntity,
+                                        processedBatches, failed, activeBatchesScope);
+                            }
+                            return !failed.get();
+                        });
+                if (!failed.get()) {
+                    handleBatchService.sealTotalBatches(scopeId, lastBatchIndex.get());
                 }
-
-                final ItemEntity item = itemCreationService.createItemEntity(line, scopeEntity, lineCounter.get());
-                batch.add(item);
-
-                handleBatchService.handleFullBatch(projectId, batch, batchSize, scopeEntity, batchIndex, failed,
-                        activeBatchesScope);
             }
 
-            handleBatchService.handleLastBatch(projectId, batch, scopeEntity, batchIndex, batchSize, failed, activeBatchesScope);
-
-            while (activeBatchesScope.get() > 0) {
-                batchWaitingService.waitForRemainingBatchesToFinish(scopeEntity);
-            }
+            log(Level.TRACE, scopeKey, scopeId, "Waiting until remaining batches are completed...");
+            activeBatchesScope.arriveAndAwaitAdvance();
 
-            if (batchService.checkIfBatchProcessingWasSuccessful(scopeEntity, startTime, failed, activeBatchesScope)) {
+            if (batchService.checkIfBatchProcessingWasSuccessful(scopeEntity, startTime, failed)) {
                 return true;
             }
 
         } catch (Exception ex) {
             log(Level.ERROR, scopeKey, scopeId, "Attempt " + attempt + " failed: " + Arrays.toString(ex.getStackTrace()));
+            activeBatchesScope.arriveAndAwaitAdvance();
             batchWaitingService.scopeRetryDelay(attempt);
         }
         return false;
@@ -8,9 +8,10 @@ import org.dataintegration.service.ScopesService;
 import org.slf4j.event.Level;
 import org.springframework.stereotype.Service;
 
+import java.util.BitSet;
+import java.util.Optional;
 import java.util.UUID;
 import java.util.concurrent.atomic.AtomicBoolean;
-import java.util.concurrent.atomic.AtomicLong;
 
 import static org.dataintegration.logger.BatchProcessingLogger.log;
 
@@ -36,27 +37,40 @@ class BatchService {
         return false;
     }
 
-    boolean isBatchAlreadyProcessed(AtomicLong lineCounter, int batchSize, ScopeEntity scopeEntity, AtomicLong batchIndex,
-                                           AtomicBoolean batchAlreadyProcessedCache) {
-        if (lineCounter.get() % batchSize == 0) {
+    boolean isBatchAlreadyProcessed(ScopeEntity scopeEntity, BitSet processedBatches, long batchIndex) {
+        final boolean batchAlreadyProcessed;
+        synchronized (processedBatches) {
+            batchAlreadyProcessed = processedBatches.get(Math.toIntExact(batchIndex));
+        }
+        if (batchAlreadyProcessed) {
             final UUID scopeId = scopeEntity.getId();
-            if (checkpointsService.isBatchAlreadyProcessed(scopeId, batchIndex.get())) {
-                batchAlreadyProcessedCache.set(true);
-                final String scopeKey = scopeEntity.getKey();
-                log(Level.DEBUG, scopeKey, scopeId, "Batch " + batchIndex.get() + " already processed, skipping batch.");
-                return true;
-            }
-            batchAlreadyProcessedCache.set(false);
+            final String scopeKey = scopeEntity.getKey();
+            log(Level.DEBUG, scopeKey, scopeId, "Batch " + batchIndex + " already processed, skipping batch.");
+            return true;
         }
+        return false;
+    }
 
-        return batchAlreadyProcessedCache.get();
+    void skipProcessedBatches(ScopeEntity scopeEntity, BitSet processedBatches, CsvBatchReader csvBatchReader) throws Exception {
+        final int resumeBatchIndex;
+        synchronized (processedBatches) {
+            resumeBatchIndex = processedBatches.nextClearBit(1);
+        }
+        if (resumeBatchIndex > 1) {
+            final UUID scopeId = scopeEntity.getId();
+            final Optional<Long> resumeOffset = checkpointsService.getBatchEndOffset(scopeId, resumeBatchIndex - 1);
+            if (resumeOffset.isPresent()) {
+                log(Level.INFO, scopeEntity.getKey(), scopeId,
+                        "Resuming at batch " + resumeBatchIndex + " (byte offset " + resumeOffset.get() + ").");
+                csvBatchReader.skipTo(resumeBatchIndex, resumeOffset.get());
+            }
+        }
     }
 
-    boolean checkIfBatchProcessingWasSuccessful(ScopeEntity scopeEntity, long startTime, AtomicBoolean failed,
-                                                       AtomicLong activeBatchesScope) {
+    boolean checkIfBatchProcessingWasSuccessful(ScopeEntity scopeEntity, long startTime, AtomicBoolean failed) {
         final String scopeKey = scopeEntity.getKey();
         final UUID scopeId = scopeEntity.getId();
-        if (!failed.get() && activeBatchesScope.get() <= 0) {
+        if (!failed.get()) {
             scopesService.finish(scopeId);
             long estimatedTime = System.currentTimeMillis() - startTime;
             log(Level.INFO, scopeKey, scopeId, "All batches processed. Total time: " + estimatedTime + " ms.");
@@ -0,0 +1,143 @@
+package org.dataintegration.service.importdata;
+
+import com.opencsv.CSVReader;
+import com.opencsv.exceptions.CsvException;
+import org.dataintegration.jpa.entity.ItemEntity;
+import org.dataintegration.model.BatchProcessingModel;
+import org.dataintegration.model.CsvChunkModel;
+import org.dataintegration.model.CsvSourceModel;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.function.LongPredicate;
+
+/**
+ * Splits the source into chunks of one batch each on the reading thread, parses and maps the chunks on the parse executor and
+ * hands them over in batch order. At most {@code prefetch} batches are parsed ahead of the consumer.
+ */
+class ChunkedCsvBatchReader implements CsvBatchReader {
+
+    private final CsvSourceModel csvSource;
+    private final char delimiter;
+    private final int batchSize;
+    private final Executor parseExecutor;
+    private final int prefetch;
+
+    private InputStream inputStream;
+    private CsvRecordSplitter csvRecordSplitter;
+    private long nextBatchIndex = 1;
+
+    ChunkedCsvBatchReader(CsvSourceModel csvSource, InputStream inputStream, long startOffset, int batchSize,
+                          Executor parseExecutor, int prefetch) {
+        this.csvSource = csvSource;
+        this.delimiter = csvSource.getDelimiter();
+        this.inputStream = inputStream;
+        this.csvRecordSplitter = new CsvRecordSplitter(inputStream, startOffset);
+        this.batchSize = batchSize;
+        this.parseExecutor = parseExecutor;
+        this.prefetch = prefetch;
+    }
+
+    @Override
+    public String[] readHeader() throws IOException, CsvException {
+        final CsvChunkModel chunk = csvRecordSplitter.nextChunk(1);
+        if (chunk == null) {
+            return null;
+        }
+        return parse(chunk).get(0);
+    }
+
+    @Override
+    public void skipTo(long batchIndex, long offset) throws Exception {
+        if (offset > csvRecordSplitter.getPosition()) {
+            inputStream.close();
+            inputStream = csvSource.getInputStreamOpener().open(offset);
+            csvRecordSplitter = new CsvRecordSplitter(inputStream, offset);
+            nextBatchIndex = batchIndex;
+        }
+    }
+
+    @Override
+    public void readBatches(LongPredicate isBatchSkipped, RecordMapper recordMapper, BatchConsumer batchConsumer) throws Exception {
+        final Deque<CompletableFuture<BatchProcessingModel>> pendingBatches = new ArrayDeque<>();
+        long batchIndex = nextBatchIndex - 1;
+        try {
+            CsvChunkModel chunk;
+            while ((chunk = csvRecordSplitter.nextChunk(batchSize)) != null) {
+                batchIndex++;
+                pendingBatches.add(submit(chunk, batchIndex, isBatchSkipped, recordMapper));
+                if (pendingBatches.size() >= prefetch && !consume(pendingBatches.poll(), batchConsumer)) {
+                    return;
+                }
+            }
+            while (!pendingBatches.isEmpty()) {
+                if (!consume(pendingBatches.poll(), batchConsumer)) {
+                    return;
+                }
+            }
+        } catch (CompletionException ex) {
+            if (ex.getCause() instanceof Exception cause) {
+                throw cause;
+            }
+            throw ex;
+        } finally {
+            pendingBatches.forEach(pendingBatch -> pendingBatch.cancel(false));
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        inputStream.close();
+    }
+
+    private CompletableFuture<BatchProcessingModel> submit(CsvChunkModel chunk, long batchIndex, LongPredicate isBatchSkipped,
+                                                           RecordMapper recordMapper) {
+        if (isBatchSkipped.test(batchIndex)) {
+            return CompletableFuture.completedFuture(null);
+        }
+        final long firstLineNumber = (batchIndex - 1) * batchSize;
+        return CompletableFuture.supplyAsync(() -> {
+            try {
+                final List<String[]> records = parse(chunk);
+                if (records.size() != chunk.getRecordCount()) {
+                    throw new IllegalStateException("Batch " + batchIndex + " was split into " + chunk.getRecordCount()
+                            + " records, but " + records.size() + " records were parsed.");
+                }
+                final List<ItemEntity> batch = new ArrayList<>(records.size());
+                for (int i = 0; i < records.size(); i++) {
+                    batch.add(recordMapper.map(records.get(i), firstLineNumber + i));
+                }
+                return BatchProcessingModel.builder()
+                        .batchIndex(batchIndex)
+                        .startOffset(chunk.getStartOffset())
+                        .endOffset(chunk.getEndOffset())
+                        .batch(batch)
+                        .build();
+            } catch (IOException | CsvException ex) {
+                throw new CompletionException(ex);
+            }
+        }, parseExecutor);
+    }
+
+    private boolean consume(CompletableFuture<BatchProcessingModel> pendingBatch, BatchConsumer batchConsumer) {
+        final BatchProcessingModel batchProcessing = pendingBatch.join();
+        return batchProcessing == null || batchConsumer.accept(batchProcessing);
+    }
+
+    private List<String[]> parse(CsvChunkModel chunk) throws IOException, CsvException {
+        final StringReader reader = new StringReader(new String(chunk.getBytes(), StandardCharsets.UTF_8));
+        try (CSVReader csvReader = CsvBatchReaderService.createCsvReader(reader, delimiter)) {
+            return csvReader.readAll();
+        }
+    }
+
+}
@@ -0,0 +1,55 @@
+package org.dataintegration.service.importdata;
+
+import com.opencsv.exceptions.CsvException;
+import org.dataintegration.jpa.entity.ItemEntity;
+import org.dataintegration.model.BatchProcessingModel;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.util.function.LongPredicate;
+
+/**
+ * Reads a csv source batch by batch. Batches are always handed over in line order, so line numbers and batch indices stay
+ * deterministic for checkpointing, no matter how the records are parsed.
+ */
+interface CsvBatchReader extends Closeable {
+
+    /**
+     * Read the header record, has to be called before {@link #skipTo} and {@link #readBatches}.
+     *
+     * @return header values or null if the source is empty
+     * @throws IOException if the source can not be read
+     * @throws CsvException if the header can not be parsed
+     */
+    String[] readHeader() throws IOException, CsvException;
+
+    /**
+     * Continue reading at the given batch, without reading the bytes in between.
+     *
+     * @param batchIndex batch index of the batch starting at the offset
+     * @param offset byte offset in the source where the batch starts (end offset of the previous batch)
+     * @throws Exception if the source can not be reopened at the offset
+     */
+    void skipTo(long batchIndex, long offset) throws Exception;
+
+    /**
+     * Read all remaining records and hand them over batch by batch.
+     *
+     * @param isBatchSkipped checked once per batch index, skipped batches are not mapped nor handed over
+     * @param recordMapper maps a record and its line number (starting with 0 after the header) to an item
+     * @param batchConsumer receives the batches in order, returning false stops reading
+     * @throws Exception if the source can not be read or parsed
+     */
+    void readBatches(LongPredicate isBatchSkipped, RecordMapper recordMapper, BatchConsumer batchConsumer) throws Exception;
+
+    @FunctionalInterface
+    interface RecordMapper {
+        ItemEntity map(String[] record, long lineNumber);
+    }
+
+    @FunctionalInterface
+    interface BatchConsumer {
+        boolean accept(BatchProcessingModel batchProcessing);
+    }
+
+}
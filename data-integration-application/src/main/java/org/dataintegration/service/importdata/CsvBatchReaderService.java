@@ -0,0 +1,49 @@
+package org.dataintegration.service.importdata;
+
+import com.opencsv.CSVParserBuilder;
+import com.opencsv.CSVReader;
+import com.opencsv.CSVReaderBuilder;
+import lombok.RequiredArgsConstructor;
+import org.apache.commons.io.ByteOrderMark;
+import org.apache.commons.io.input.BOMInputStream;
+import org.dataintegration.model.AsyncBatchConfigModel;
+import org.dataintegration.model.BatchConfigModel;
+import org.dataintegration.model.BatchParseEngineModel;
+import org.dataintegration.model.CsvSourceModel;
+import org.springframework.stereotype.Service;
+
+import java.io.InputStream;
+import java.io.Reader;
+
+@Service
+@RequiredArgsConstructor
+class CsvBatchReaderService {
+
+    private final BatchConfigModel batchConfig;
+    private final AsyncBatchConfigModel asyncBatchConfig;
+
+    static CSVReader createCsvReader(Reader reader, char delimiter) {
+        return new CSVReaderBuilder(reader)
+                .withCSVParser(new CSVParserBuilder()
+                        .withSeparator(delimiter)
+                        .build()
+                ).build();
+    }
+
+    CsvBatchReader open(CsvSourceModel csvSource, int batchSize) throws Exception {
+        final InputStream inputStream = csvSource.getInputStreamOpener().open(0);
+        final BOMInputStream bomInputStream = BOMInputStream.builder()
+                .setInputStream(inputStream)
+                .setInclude(false)
+                .setByteOrderMarks(ByteOrderMark.UTF_8)
+                .get();
+        // offsets are positions in the raw source, so a skipped byte order mark still counts
+        final long startOffset = bomInputStream.hasBOM() ? ByteOrderMark.UTF_8.length() : 0;
+        if (batchConfig.getBatchParseEngine() == BatchParseEngineModel.PARALLEL) {
+            return new ChunkedCsvBatchReader(csvSource, bomInputStream, startOffset, batchSize,
+                    asyncBatchConfig.getParsePool(), asyncBatchConfig.getParsePrefetch());
+        }
+        return new ChunkedCsvBatchReader(csvSource, bomInputStream, startOffset, batchSize, Runnable::run, 1);
+    }
+
+}
@@ -0,0 +1,119 @@
+package org.dataintegration.service.importdata;
+
+import org.dataintegration.model.CsvChunkModel;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * Splits a raw csv byte stream into chunks of whole records without parsing the fields.
+ * <p>
+ * A record ends at a line feed, a carriage return or both, unless it is inside quotes. Quotes escaped with a backslash are
+ * ignored like the default opencsv parser does. Splitting on bytes is safe for UTF-8, since line breaks and quotes never
+ * occur inside a multibyte character.
+ */
+class CsvRecordSplitter {
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+    private static final byte QUOTE = '"';
+    private static final byte ESCAPE = '\\';
+    private static final byte LINE_FEED = '\n';
+    private static final byte CARRIAGE_RETURN = '\r';
+
+    private final InputStream inputStream;
+    private final byte[] buffer = new byte[BUFFER_SIZE];
+    private int bufferPosition;
+    private int bufferLimit;
+    private long position;
+
+    CsvRecordSplitter(InputStream inputStream, long startOffset) {
+        this.inputStream = inputStream;
+        this.position = startOffset;
+    }
+
+    long getPosition() {
+        return position;
+    }
+
+    /**
+     * Read the next chunk.
+     *
+     * @param maxRecords maximum number of records in the chunk
+     * @return {@link CsvChunkModel} with the record count and byte offsets of the chunk, or null if the stream is exhausted
+     * @throws IOException if the stream can not be read
+     */
+    @SuppressWarnings("checkstyle:MethodLength")
+    CsvChunkModel nextChunk(int maxRecords) throws IOException {
+        final ByteArrayOutputStream chunk = new ByteArrayOutputStream();
+        int records = 0;
+        boolean inQuotes = false;
+        boolean escaped = false;
+        boolean skipLineFeed = false;
+        boolean inRecord = false;
+
+        while (records < maxRecords && fill()) {
+            final int start = bufferPosition;
+            while (bufferPosition < bufferLimit && records < maxRecords) {
+                final byte current = buffer[bufferPosition++];
+                if (skipLineFeed) {
+                    skipLineFeed = false;
+                    if (current == LINE_FEED) {
+                        continue;
+                    }
+                }
+                if (escaped) {
+                    escaped = false;
+                    if (current == QUOTE || current == ESCAPE) {
+                        continue;
+                    }
+                }
+                if (current == ESCAPE) {
+                    escaped = true;
+                    inRecord = true;
+                } else if (current == QUOTE) {
+                    inQuotes = !inQuotes;
+                    inRecord = true;
+                } else if (!inQuotes && (current == LINE_FEED || current == CARRIAGE_RETURN)) {
+                    records++;
+                    inRecord = false;
+                    skipLineFeed = current == CARRIAGE_RETURN;
+                } else {
+                    inRecord = true;
+                }
+            }
+            chunk.write(buffer, start, bufferPosition - start);
+        }
+
+        if (skipLineFeed && fill() && buffer[bufferPosition] == LINE_FEED) {
+            chunk.write(LINE_FEED);
+            bufferPosition++;
+        }
+        if (inRecord) {
+            records++;
+        }
+        if (chunk.size() == 0) {
+            return null;
+        }
+
+        final long startOffset = position;
+        position += chunk.size();
+        return CsvChunkModel.builder()
+                .bytes(chunk.toByteArray())
+                .recordCount(records)
+                .startOffset(startOffset)
+                .endOffset(position)
+                .build();
+    }
+
+    private boolean fill() throws IOException {
+        if (bufferPosition < bufferLimit) {
+            return true;
+        }
+        final int read = inputStream.readNBytes(buffer, 0, BUFFER_SIZE);
+        bufferPosition = 0;
+        bufferLimit = read;
+        return read > 0;
+    }
+
+}
@@ -4,31 +4,33 @@ import lombok.RequiredArgsConstructor;
 import org.dataintegration.model.AsyncBatchConfigModel;
 import org.dataintegration.model.BatchConfigModel;
 import org.dataintegration.model.BatchProcessingModel;
+import org.slf4j.event.Level;
 import org.springframework.stereotype.Service;
 
+import java.util.concurrent.Phaser;
 import java.util.concurrent.atomic.AtomicBoolean;
-import java.util.concurrent.atomic.AtomicLong;
+
+import static org.dataintegration.logger.BatchProcessingLogger.log;
 
 @Service
 @RequiredArgsConstructor
 class HandleAsyncBatchService {
 
-    private final BatchWaitingService batchWaitingService;
     private final AsyncRetryBatchService asyncRetryBatchService;
     private final AsyncBatchConfigModel asyncBatchConfig;
     private final BatchConfigModel batchConfig;
 
-    private final Object lock = new Object();
-
-    void handleAsyncBatch(BatchProcessingModel batchProcessing, AtomicBoolean failed, AtomicLong activeBatchesScope) {
-        final AtomicLong activeBatches = asyncBatchConfig.getActiveBatches();
-        synchronized (lock) {
-            while (activeBatches.get() >= asyncBatchConfig.getBatchThreads()) {
-                batchWaitingService.waitForFullQueue(batchProcessing);
-            }
-            activeBatches.incrementAndGet();
-            activeBatchesScope.incrementAndGet();
+    void handleAsyncBatch(BatchProcessingModel batchProcessing, AtomicBoolean failed, Phaser activeBatchesScope) {
+        try {
+            log(Level.TRACE, batchProcessing.getScopeKey(), batchProcessing.getScopeId(),
+                    "Waiting for a free batch slot for batch " + batchProcessing.getBatchIndex() + "...");
+            asyncBatchConfig.getBatchPermits().acquire();
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            failed.set(true);
+            return;
         }
+        activeBatchesScope.register();
 
         asyncRetryBatchService.retryBatch(batchProcessing, failed, activeBatchesScope, batchConfig.getBatchRetryBatchMax());
     }
@@ -1,51 +1,46 @@
 package org.dataintegration.service.importdata;
 
 import lombok.RequiredArgsConstructor;
-import org.dataintegration.jpa.entity.ItemEntity;
 import org.dataintegration.jpa.entity.ScopeEntity;
 import org.dataintegration.model.BatchProcessingModel;
+import org.dataintegration.service.CheckpointsService;
+import org.dataintegration.service.ImportProgressService;
 import org.springframework.stereotype.Service;
 
-import java.util.ArrayList;
-import java.util.List;
+import java.util.BitSet;
 import java.util.UUID;
+import java.util.concurrent.Phaser;
 import java.util.concurrent.atomic.AtomicBoolean;
-import java.util.concurrent.atomic.AtomicLong;
 
 @Service
 @RequiredArgsConstructor
 class HandleBatchService {
 
+    // the checkpoint only needs the total batches for the status of other instances and for resuming, so it is written every
+    // few batches and once the source is read completely instead of with every batch
+    static final int TOTAL_BATCHES_UPDATE_INTERVAL = 100;
+
     private final HandleAsyncBatchService handleAsyncBatchService;
+    private final CheckpointsService checkpointsService;
+    private final ImportProgressService importProgressService;
 
-    void handleFullBatch(UUID projectId, List<ItemEntity> batch, int batchSize, ScopeEntity scopeEntity,
-                                AtomicLong batchIndex, AtomicBoolean failed, AtomicLong activeBatchesScope) {
-        if (batch.size() >= batchSize) {
-            final BatchProcessingModel batchProcessing = BatchProcessingModel.builder()
-                    .projectId(projectId)
-                    .scopeId(scopeEntity.getId())
-                    .scopeKey(scopeEntity.getKey())
-                    .batchIndex(batchIndex.get())
-                    .batchSize(batchSize)
-                    .batch(new ArrayList<>(batch))
-                    .build();
-            handleAsyncBatchService.handleAsyncBatch(batchProcessing, failed, activeBatchesScope);
-            batch.clear();
+    void handleBatch(UUID projectId, BatchProcessingModel batchProcessing, int batchSize, ScopeEntity scopeEntity,
+                     BitSet processedBatches, AtomicBoolean failed, Phaser activeBatchesScope) {
+        batchProcessing.setProjectId(projectId);
+        batchProcessing.setScopeId(scopeEntity.getId());
+        batchProcessing.setScopeKey(scopeEntity.getKey());
+        batchProcessing.setBatchSize(batchSize);
+        batchProcessing.setProcessedBatches(processedBatches);
+        if (batchProcessing.getBatchIndex() % TOTAL_BATCHES_UPDATE_INTERVAL == 0) {
+            checkpointsService.updateTotalBatches(scopeEntity.getId(), batchProcessing.getBatchIndex());
         }
+        importProgressService.updateTotalBatches(scopeEntity.getId(), batchProcessing.getBatchIndex());
+        handleAsyncBatchService.handleAsyncBatch(batchProcessing, failed, activeBatchesScope);
     }
 
-    void handleLastBatch(UUID projectId, List<ItemEntity> batch, ScopeEntity scopeEntity,
-                                AtomicLong batchIndex, int batchSize, AtomicBoolean failed, AtomicLong activeBatchesScope) {
-        if (!batch.isEmpty() && !failed.get()) {
-            final BatchProcessingModel batchProcessing = BatchProcessingModel.builder()
-                    .projectId(projectId)
-                    .scopeId(scopeEntity.getId())
-                    .scopeKey(scopeEntity.getKey())
-                    .batchIndex(batchIndex.get())
-                    .batchSize(batchSize)
-                    .batch(new ArrayList<>(batch))
-                    .build();
-            handleAsyncBatchService.handleAsyncBatch(batchProcessing, failed, activeBatchesScope);
-        }
+    void sealTotalBatches(UUID scopeId, long totalBatches) {
+        checkpointsService.updateTotalBatches(scopeId, totalBatches);
+        importProgressService.updateTotalBatches(scopeId, totalBatches);
     }
+
 }
@@ -1,19 +1,20 @@
 package org.dataintegration.service.importdata;
 
-import com.opencsv.CSVReader;
 import lombok.RequiredArgsConstructor;
 import org.dataintegration.model.cache.DataIntegrationCache;
 import org.dataintegration.jpa.entity.ScopeEntity;
 import org.dataintegration.model.BatchConfigModel;
+import org.dataintegration.model.CsvSourceModel;
 import org.dataintegration.service.CheckpointsService;
 import org.dataintegration.service.ImportDataService;
+import org.dataintegration.service.ImportProgressService;
 import org.dataintegration.service.ScopesService;
 import org.slf4j.event.Level;
 import org.springframework.stereotype.Service;
 
 import java.util.Arrays;
+import java.util.BitSet;
 import java.util.UUID;
-import java.util.concurrent.Callable;
 
 import static org.dataintegration.logger.BatchProcessingLogger.log;
 
@@ -24,11 +25,12 @@ class ImportDataServiceImpl implements ImportDataService {
     private final ScopesService scopesService;
     private final CheckpointsService checkpointsService;
     private final BatchProcessingService batchProcessingService;
+    private final ImportProgressService importProgressService;
     private final DataIntegrationCache dataIntegrationCache;
     private final BatchConfigModel batchConfig;
 
     @SuppressWarnings("checkstyle:MethodLength")
-    public boolean importData(Callable<CSVReader> csvReaderCallable, UUID projectId, UUID scopeId, long lineCount) {
+    public boolean importData(CsvSourceModel csvSource, UUID projectId, UUID scopeId) {
         final ScopeEntity scopeEntity = scopesService.get(scopeId);
         final String scopeKey = scopeEntity.getKey();
         if (!scopeKey.toLowerCase().endsWith("csv".toLowerCase())) {
@@ -55,9 +57,12 @@ class ImportDataServiceImpl implements ImportDataService {
             return true;
         }
 
-        final int batchSize = checkpointsService.createOrGetBatchSize(scopeEntity, lineCount,  batchConfig.getBatchSize());
-
         try {
+            final int batchSize = checkpointsService.createOrGetBatchSize(scopeEntity, batchConfig.getBatchSize());
+            final BitSet processedBatches = checkpointsService.getProcessedBatches(scopeId);
+            importProgressService.start(scopeId, scopeEntity.isExternal(), processedBatches.cardinality(),
+                    scopeEntity.getCheckpoint() != null ? scopeEntity.getCheckpoint().getTotalBatches() : 0);
+
             while (attempt < batchConfig.getBatchRetryScopeMax() && !success
                     && !(dataIntegrationCache.getMarkedForDeletionScopes().contains(scopeId)
                     || dataIntegrationCache.getInterruptingScopes().contains(scopeId))) {
@@ -65,10 +70,11 @@ class ImportDataServiceImpl implements ImportDataService {
                 attempt++;
 
                 log(Level.INFO, scopeKey, scopeId, "Starting attempt " + attempt + " of " + batchRetryScopeMax + ".");
+                importProgressService.startAttempt(scopeId, attempt);
 
                 success =
-                        batchProcessingService.batchProcessing(csvReaderCallable, projectId, scopeEntity, batchSize, startTime,
-                                attempt);
+                        batchProcessingService.batchProcessing(csvSource, projectId, scopeEntity, batchSize, processedBatches,
+                                startTime, attempt);
             }
 
             if (!success) {
@@ -91,6 +97,7 @@ class ImportDataServiceImpl implements ImportDataService {
             log(Level.ERROR, scopeKey, scopeId, "Error occurred: " + Arrays.toString(ex.getStackTrace()));
             return false;
         } finally {
+            importProgressService.finish(scopeId, success);
             dataIntegrationCache.getProcessingScopes().remove(scopeId);
             dataIntegrationCache.getInterruptingScopes().remove(scopeId);
         }
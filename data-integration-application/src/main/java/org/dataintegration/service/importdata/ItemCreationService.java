@@ -5,19 +5,18 @@ import org.dataintegration.exception.checked.ScopeHeaderValidationException;
 import org.dataintegration.jpa.entity.ItemEntity;
 import org.dataintegration.jpa.entity.ScopeEntity;
 import org.dataintegration.model.HeaderModel;
-import org.dataintegration.model.ItemPropertiesModel;
+import org.dataintegration.service.ItemPropertiesService;
 import org.dataintegration.service.ScopesService;
 import org.springframework.stereotype.Service;
 
 import java.util.LinkedHashSet;
-import java.util.Map;
-import java.util.WeakHashMap;
 
 @Service
 @RequiredArgsConstructor
 class ItemCreationService {
 
     private final ScopesService scopesService;
+    private final ItemPropertiesService itemPropertiesService;
 
     boolean isHeaderValid(LinkedHashSet<HeaderModel> headers) {
         try {
@@ -32,18 +31,7 @@ class ItemCreationService {
         final ItemEntity itemEntity = new ItemEntity();
         itemEntity.setScope(scopeEntity);
         itemEntity.setLineNumber(lineNumber);
-        itemEntity.setProperties(getProperties(line, scopeEntity.getHeaders()));
+        itemEntity.setCells(itemPropertiesService.createCells(line, scopeEntity.getHeaders()));
         return itemEntity;
     }
-
-    private Map<String, ItemPropertiesModel> getProperties(String[] line, LinkedHashSet<HeaderModel> headers) {
-        final Map<String, ItemPropertiesModel> properties = new WeakHashMap<>(headers.size());
-        int i = 0;
-        for (HeaderModel header : headers) {
-            properties.put(header.getId(), ItemPropertiesModel.builder()
-                    .value(line[i++])
-                    .build());
-        }
-        return properties;
-    }
 }
@@ -1,11 +1,8 @@
 package org.dataintegration.usecase;
 
-import com.opencsv.CSVParserBuilder;
-import com.opencsv.CSVReader;
-import com.opencsv.CSVReaderBuilder;
 import lombok.RequiredArgsConstructor;
-import org.apache.commons.io.ByteOrderMark;
-import org.apache.commons.io.input.BOMInputStream;
+import lombok.extern.slf4j.Slf4j;
+import org.dataintegration.model.CsvSourceModel;
 import org.dataintegration.model.DelimiterModel;
 import org.dataintegration.service.ImportDataService;
 import org.dataintegration.service.ProjectsService;
@@ -13,17 +10,16 @@ import org.dataintegration.service.S3Service;
 import org.dataintegration.utils.DataIntegrationUtils;
 import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Component;
-import software.amazon.awssdk.core.ResponseInputStream;
-import software.amazon.awssdk.services.s3.model.GetObjectResponse;
 
-import java.io.BufferedReader;
-import java.io.ByteArrayInputStream;
 import java.io.IOException;
-import java.io.InputStreamReader;
-import java.nio.charset.StandardCharsets;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
 import java.util.UUID;
-import java.util.concurrent.Callable;
 
+@Slf4j
 @Component
 @RequiredArgsConstructor
 public class ImportDataUsecase {
@@ -33,27 +29,20 @@ public class ImportDataUsecase {
     private final ImportDataService importDataService;
 
     @Async
-    public void importFromFile(byte[] bytes, UUID projectId, UUID scopeId, char delimiter, String createdBy) {
-        projectsService.isPermitted(projectId, createdBy);
-        final Callable<CSVReader> csvReaderCallable = () -> {
-            final ByteArrayInputStream inputStream = new ByteArrayInputStream(bytes);
-            final BOMInputStream bomInputStream = BOMInputStream.builder()
-                    .setInputStream(inputStream)
-                    .setInclude(false)
-                    .setByteOrderMarks(ByteOrderMark.UTF_8)
-                    .get();
-            final InputStreamReader inputStreamReader = new InputStreamReader(bomInputStream, StandardCharsets.UTF_8);
-            return new CSVReaderBuilder(inputStreamReader)
-                    .withCSVParser(new CSVParserBuilder()
-                            .withSeparator(delimiter)
-                            .build()
-                    ).build();
-        };
-        try (BufferedReader reader = new BufferedReader(new InputStreamReader(new ByteArrayInputStream(bytes)))) {
-            final long lineCount = reader.lines().count() - 1;
-            importDataService.importData(csvReaderCallable, projectId, scopeId, lineCount);
-        } catch (IOException ex) {
-            throw new IllegalStateException();
+    public void importFromFile(Path file, UUID projectId, UUID scopeId, char delimiter, String createdBy) {
+        try {
+            projectsService.isPermitted(projectId, createdBy);
+            final CsvSourceModel csvSource = CsvSourceModel.builder()
+                    .inputStreamOpener(offset -> Channels.newInputStream(FileChannel.open(file, StandardOpenOption.READ).position(offset)))
+                    .delimiter(delimiter)
+                    .build();
+            importDataService.importData(csvSource, projectId, scopeId);
+        } finally {
+            try {
+                Files.deleteIfExists(file);
+            } catch (IOException ex) {
+                log.warn("Could not delete spooled import file {}.", file, ex);
+            }
         }
     }
 
@@ -61,25 +50,14 @@ public class ImportDataUsecase {
     public void importFromS3(UUID scopeId, String bucket, String key, String createdBy) {
         final UUID projectId = DataIntegrationUtils.getProjectIdFromS3Key(key);
         projectsService.isPermitted(projectId, createdBy);
-        final long lineCount = Long.parseLong(s3Service.getS3ObjectTag(bucket, key, "lineCount"));
         final char delimiter =
                 DelimiterModel.toCharacter(DelimiterModel.valueOf(s3Service.getS3ObjectTag(bucket, key, "delimiter")));
-        final Callable<CSVReader> csvReaderCallable = () -> {
-            final ResponseInputStream<GetObjectResponse> inputStream = s3Service.getS3Object(bucket, key);
-            final BOMInputStream bomInputStream = BOMInputStream.builder()
-                    .setInputStream(inputStream)
-                    .setInclude(false)
-                    .setByteOrderMarks(ByteOrderMark.UTF_8)
-                    .get();
-            final InputStreamReader inputStreamReader = new InputStreamReader(bomInputStream, StandardCharsets.UTF_8);
-            return new CSVReaderBuilder(inputStreamReader)
-                    .withCSVParser(new CSVParserBuilder()
-                            .withSeparator(delimiter)
-                            .build()
-                    ).build();
-        };
+        final CsvSourceModel csvSource = CsvSourceModel.builder()
+                .inputStreamOpener(offset -> s3Service.openS3Object(bucket, key, offset))
+                .delimiter(delimiter)
+                .build();
         final boolean success =
-                importDataService.importData(csvReaderCallable, projectId, scopeId, lineCount);
+                importDataService.importData(csvSource, projectId, scopeId);
         if (success) {
             s3Service.deleteObject(bucket, key);
         }
@@ -0,0 +1,25 @@
+package org.dataintegration.usecase;
+
+import lombok.RequiredArgsConstructor;
+import org.dataintegration.model.MappingJobModel;
+import org.dataintegration.usecase.model.ApplyMappingRequestModel;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Component;
+
+@Component
+@RequiredArgsConstructor
+public class MappingJobsUsecase {
+
+    private final ProjectsUsecase projectsUsecase;
+
+    @Async
+    public void runApplyMappingJob(MappingJobModel mappingJob, ApplyMappingRequestModel applyMappingRequest) {
+        projectsUsecase.getMappingsMethods().runApplyMappingJob(mappingJob, applyMappingRequest);
+    }
+
+    @Async
+    public void runIntegrationJob(MappingJobModel mappingJob, String language, String token) {
+        projectsUsecase.getMappedItemsMethods().runIntegrationJob(mappingJob, language, token);
+    }
+
+}
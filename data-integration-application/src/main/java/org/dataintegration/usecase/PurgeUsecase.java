@@ -0,0 +1,39 @@
+package org.dataintegration.usecase;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.dataintegration.model.PurgeConfigModel;
+import org.dataintegration.model.PurgeStatusModel;
+import org.dataintegration.service.PurgeService;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PurgeUsecase {
+
+    private final PurgeService purgeService;
+    private final PurgeConfigModel purgeConfig;
+
+    @Scheduled(initialDelayString = "${purge.initial-delay-ms}", fixedDelayString = "${purge.interval-ms}")
+    public void purge() {
+        if (!purgeConfig.isEnabled()) {
+            return;
+        }
+        try {
+            final PurgeStatusModel purgeStatus = purgeService.purge();
+            if (purgeStatus.getDeletedRows() > 0) {
+                log.info("Purged {} projects, {} scopes and {} mappings with {} rows.", purgeStatus.getPurgedProjects(),
+                        purgeStatus.getPurgedScopes(), purgeStatus.getPurgedMappings(), purgeStatus.getDeletedRows());
+            }
+        } catch (RuntimeException ex) {
+            log.error("Purge failed, it continues with the next run.", ex);
+        }
+    }
+
+    public PurgeStatusModel getPurgeStatus() {
+        return purgeService.getStatus();
+    }
+
+}
@@ -42,10 +42,10 @@ public class S3Usecase {
                 .build();
     }
 
-    public void completeMultipartUpload(String bucket, String key, String uploadId, long lineCount, char delimiter,
+    public void completeMultipartUpload(String bucket, String key, String uploadId, char delimiter,
                                         List<CompletedPartModel> completedParts, String createdBy) {
         isPermitted(key, createdBy);
-        s3Service.completeMultipartUpload(bucket, key, uploadId, lineCount, delimiter, completedParts);
+        s3Service.completeMultipartUpload(bucket, key, uploadId, delimiter, completedParts);
     }
 
     public void abortMultipartUpload(String bucket, String key, String uploadId, String createdBy) {
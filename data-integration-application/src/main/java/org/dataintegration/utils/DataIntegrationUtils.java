@@ -3,6 +3,7 @@ package org.dataintegration.utils;
 import lombok.AccessLevel;
 import lombok.NoArgsConstructor;
 import org.dataintegration.exception.InvalidDelimiterException;
+import org.dataintegration.exception.InvalidSeekException;
 import org.dataintegration.exception.InvalidUUIDException;
 import org.springframework.security.oauth2.jwt.Jwt;
 
@@ -12,6 +13,8 @@ import java.util.UUID;
 @NoArgsConstructor(access = AccessLevel.PRIVATE)
 public class DataIntegrationUtils {
 
+    public static final int MAX_SEEK_SIZE = 500;
+
     public static String getJwtUserId(Jwt jwt) {
         return Optional.ofNullable(jwt.getClaims().get(DataIntegrationUtilsConfig.USER_ID_CLAIM))
                 .map(String::valueOf)
@@ -42,4 +45,17 @@ public class DataIntegrationUtils {
         };
 
     }
+
+    public static int getSeekSize(int size) {
+        if (size < 1) {
+            throw new InvalidSeekException("Size " + size + " has to be at least 1.");
+        }
+        return Math.min(size, MAX_SEEK_SIZE);
+    }
+
+    public static void checkSeekPosition(Long afterLineNumber, UUID afterId) {
+        if ((afterLineNumber == null) != (afterId == null)) {
+            throw new InvalidSeekException("afterLineNumber and afterId have to be provided together or not at all.");
+        }
+    }
 }
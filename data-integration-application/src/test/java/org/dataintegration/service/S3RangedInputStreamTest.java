@@ -0,0 +1,242 @@
+package org.dataintegration.service;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import software.amazon.awssdk.core.ResponseInputStream;
+import software.amazon.awssdk.core.exception.SdkClientException;
+import software.amazon.awssdk.http.AbortableInputStream;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.GetObjectRequest;
+import software.amazon.awssdk.services.s3.model.GetObjectResponse;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class S3RangedInputStreamTest {
+
+    private static final String BUCKET = "bucket";
+    private static final String KEY = "key";
+    private static final byte[] CONTENT = "header1,header2\na,b\nc,d\ne,f\n".getBytes(StandardCharsets.UTF_8);
+    private static final int PART_SIZE = 4;
+    private static final int PREFETCH = 2;
+
+    @Mock
+    private S3Client s3Client;
+
+    private final ExecutorService executorService = Executors.newFixedThreadPool(PREFETCH);
+    private final List<String> ranges = new CopyOnWriteArrayList<>();
+
+    @AfterEach
+    void tearDown() {
+        executorService.shutdownNow();
+    }
+
+    @Test
+    void testReadAcrossPartBoundaries() throws Exception {
+        mockParts();
+
+        try (InputStream subject = createSubject(0)) {
+            final ByteArrayOutputStream result = new ByteArrayOutputStream();
+            final byte[] buffer = new byte[3];
+            result.write(subject.read());
+            int read;
+            while ((read = subject.read(buffer, 0, buffer.length)) != -1) {
+                assertThat(read).isBetween(1, buffer.length);
+                result.write(buffer, 0, read);
+            }
+            assertThat(result.toByteArray()).isEqualTo(CONTENT);
+        }
+        assertThat(ranges).containsExactlyInAnyOrderElementsOf(getRanges(0));
+    }
+
+    @Test
+    void testReadAtOffset() throws Exception {
+        mockParts();
+
+        try (InputStream subject = createSubject(6)) {
+            assertThat(subject.readAllBytes()).isEqualTo(Arrays.copyOfRange(CONTENT, 6, CONTENT.length));
+        }
+        assertThat(ranges).containsExactlyInAnyOrderElementsOf(getRanges(6));
+    }
+
+    @Test
+    void testReadSingleBytes() throws Exception {
+        mockParts();
+
+        try (InputStream subject = createSubject(0)) {
+            final ByteArrayOutputStream result = new ByteArrayOutputStream();
+            int value;
+            while ((value = subject.read()) != -1) {
+                result.write(value);
+            }
+            assertThat(result.toByteArray()).isEqualTo(CONTENT);
+        }
+    }
+
+    @Test
+    void testPrefetch() throws Exception {
+        final Semaphore started = new Semaphore(0);
+        final CountDownLatch released = new CountDownLatch(1);
+        when(s3Client.getObject(any(GetObjectRequest.class))).thenAnswer(invocation -> {
+            final GetObjectRequest getObjectRequest = invocation.getArgument(0);
+            ranges.add(getObjectRequest.range());
+            started.release();
+            released.await();
+            return createResponse(getObjectRequest.range());
+        });
+
+        try (InputStream subject = createSubject(0)) {
+            assertThat(started.tryAcquire(PREFETCH, 5, TimeUnit.SECONDS)).isTrue();
+            assertThat(started.tryAcquire(100, TimeUnit.MILLISECONDS)).isFalse();
+            assertThat(ranges).containsExactlyInAnyOrder("bytes=0-3", "bytes=4-7");
+
+            released.countDown();
+            assertThat(subject.readNBytes(PART_SIZE)).isEqualTo(Arrays.copyOfRange(CONTENT, 0, PART_SIZE));
+            assertThat(started.tryAcquire(5, TimeUnit.SECONDS)).isTrue();
+            assertThat(ranges).hasSize(PREFETCH + 1).contains("bytes=8-11");
+        }
+    }
+
+    @Test
+    void testReadEndOfStream() throws Exception {
+        mockParts();
+
+        try (InputStream subject = createSubject(0)) {
+            assertThat(subject.readAllBytes()).isEqualTo(CONTENT);
+            assertThat(subject.read()).isEqualTo(-1);
+            assertThat(subject.read(new byte[4], 0, 4)).isEqualTo(-1);
+            assertThat(subject.read(new byte[4], 0, 0)).isZero();
+        }
+    }
+
+    @Test
+    void testReadAtEnd() throws Exception {
+        try (InputStream subject = createSubject(CONTENT.length)) {
+            assertThat(subject.read()).isEqualTo(-1);
+        }
+        verifyNoInteractions(s3Client);
+    }
+
+    @Test
+    void testReadFailed() throws Exception {
+        when(s3Client.getObject(any(GetObjectRequest.class))).thenThrow(SdkClientException.create("failed"));
+
+        final InputStream subject = createSubject(0);
+
+        assertThatExceptionOfType(IOException.class).isThrownBy(subject::read)
+                .withCauseInstanceOf(SdkClientException.class);
+        assertThat(subject.read()).isEqualTo(-1);
+    }
+
+    @Test
+    void testCloseInterruptsRequest() throws Exception {
+        final CountDownLatch started = new CountDownLatch(PREFETCH);
+        final CountDownLatch interrupted = new CountDownLatch(PREFETCH);
+        when(s3Client.getObject(any(GetObjectRequest.class))).thenAnswer(invocation -> {
+            started.countDown();
+            try {
+                new CountDownLatch(1).await();
+            } catch (InterruptedException ex) {
+                interrupted.countDown();
+                throw ex;
+            }
+            throw new IllegalStateException("not interrupted");
+        });
+
+        final InputStream subject = createSubject(0);
+        assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+        subject.close();
+
+        assertThat(interrupted.await(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(subject.read()).isEqualTo(-1);
+    }
+
+    @Test
+    void testCloseAbortsResponse() throws Exception {
+        final CountDownLatch started = new CountDownLatch(PREFETCH);
+        final CountDownLatch aborted = new CountDownLatch(PREFETCH);
+        when(s3Client.getObject(any(GetObjectRequest.class))).thenAnswer(invocation -> {
+            started.countDown();
+            return new ResponseInputStream<>(GetObjectResponse.builder().build(),
+                    AbortableInputStream.create(new BlockingInputStream(aborted), aborted::countDown));
+        });
+
+        final InputStream subject = createSubject(0);
+        assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+        subject.close();
+
+        assertThat(aborted.await(5, TimeUnit.SECONDS)).isTrue();
+    }
+
+    private void mockParts() {
+        when(s3Client.getObject(any(GetObjectRequest.class))).thenAnswer(invocation -> {
+            final GetObjectRequest getObjectRequest = invocation.getArgument(0);
+            ranges.add(getObjectRequest.range());
+            return createResponse(getObjectRequest.range());
+        });
+    }
+
+    private static List<String> getRanges(int offset) {
+        final List<String> expectedRanges = new ArrayList<>();
+        for (int start = offset; start < CONTENT.length; start += PART_SIZE) {
+            expectedRanges.add("bytes=" + start + "-" + (Math.min(start + PART_SIZE, CONTENT.length) - 1));
+        }
+        return expectedRanges;
+    }
+
+    private S3RangedInputStream createSubject(long offset) {
+        return new S3RangedInputStream(s3Client, BUCKET, KEY, offset, CONTENT.length, PART_SIZE, PREFETCH, executorService);
+    }
+
+    private static ResponseInputStream<GetObjectResponse> createResponse(String range) {
+        final String[] bounds = range.substring("bytes=".length()).split("-");
+        final int start = Integer.parseInt(bounds[0]);
+        final int end = Integer.parseInt(bounds[1]);
+        return new ResponseInputStream<>(GetObjectResponse.builder().build(),
+                AbortableInputStream.create(new ByteArrayInputStream(CONTENT, start, end - start + 1)));
+    }
+
+    /**
+     * Blocks like a socket read until the response is aborted, without reacting to interrupts.
+     */
+    private static final class BlockingInputStream extends InputStream {
+
+        private final CountDownLatch aborted;
+
+        private BlockingInputStream(CountDownLatch aborted) {
+            this.aborted = aborted;
+        }
+
+        @Override
+        public int read() throws IOException {
+            while (aborted.getCount() > 0) {
+                Thread.onSpinWait();
+            }
+            throw new IOException("aborted");
+        }
+
+    }
+
+}
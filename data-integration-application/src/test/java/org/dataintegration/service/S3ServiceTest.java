@@ -0,0 +1,91 @@
+package org.dataintegration.service;
+
+import org.dataintegration.model.S3DownloadConfigModel;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import software.amazon.awssdk.core.ResponseInputStream;
+import software.amazon.awssdk.http.AbortableInputStream;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.GetObjectRequest;
+import software.amazon.awssdk.services.s3.model.GetObjectResponse;
+import software.amazon.awssdk.services.s3.model.HeadObjectRequest;
+import software.amazon.awssdk.services.s3.model.HeadObjectResponse;
+import software.amazon.awssdk.services.s3.presigner.S3Presigner;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class S3ServiceTest {
+
+    private static final String BUCKET = "bucket";
+    private static final String KEY = "key";
+    private static final byte[] CONTENT = "header1,header2\na,b\nc,d\n".getBytes(StandardCharsets.UTF_8);
+
+    @Mock
+    private S3Client s3Client;
+
+    @Mock
+    private S3Presigner s3Presigner;
+
+    @Captor
+    private ArgumentCaptor<GetObjectRequest> getObjectRequestCaptor;
+
+    @Test
+    void testOpenS3ObjectFromStart() throws Exception {
+        when(s3Client.getObject(getObjectRequestCaptor.capture())).thenAnswer(invocation -> createResponse(0));
+
+        try (InputStream inputStream = createSubject(1).openS3Object(BUCKET, KEY, 0)) {
+            assertThat(inputStream.readAllBytes()).isEqualTo(CONTENT);
+        }
+        assertThat(getObjectRequestCaptor.getValue().range()).isNull();
+    }
+
+    @Test
+    void testOpenS3ObjectAtOffset() throws Exception {
+        when(s3Client.getObject(getObjectRequestCaptor.capture())).thenAnswer(invocation -> createResponse(16));
+
+        try (InputStream inputStream = createSubject(1).openS3Object(BUCKET, KEY, 16)) {
+            assertThat(inputStream.readAllBytes()).isEqualTo(Arrays.copyOfRange(CONTENT, 16, CONTENT.length));
+        }
+        assertThat(getObjectRequestCaptor.getValue())
+                .returns(BUCKET, GetObjectRequest::bucket)
+                .returns(KEY, GetObjectRequest::key)
+                .returns("bytes=16-", GetObjectRequest::range);
+    }
+
+    @Test
+    void testOpenS3ObjectAtOffsetWithinLastPart() throws Exception {
+        when(s3Client.headObject(any(HeadObjectRequest.class)))
+                .thenReturn(HeadObjectResponse.builder().contentLength((long) CONTENT.length).build());
+        when(s3Client.getObject(getObjectRequestCaptor.capture())).thenAnswer(invocation -> createResponse(20));
+
+        try (InputStream inputStream = createSubject(4).openS3Object(BUCKET, KEY, 20)) {
+            assertThat(inputStream.readAllBytes()).isEqualTo(Arrays.copyOfRange(CONTENT, 20, CONTENT.length));
+        }
+        assertThat(getObjectRequestCaptor.getValue().range()).isEqualTo("bytes=20-");
+    }
+
+    private S3Service createSubject(int prefetch) {
+        return new S3Service(s3Client, s3Presigner, S3DownloadConfigModel.builder()
+                .partSize(CONTENT.length)
+                .prefetch(prefetch)
+                .build());
+    }
+
+    private static ResponseInputStream<GetObjectResponse> createResponse(int offset) {
+        return new ResponseInputStream<>(GetObjectResponse.builder().build(),
+                AbortableInputStream.create(new ByteArrayInputStream(CONTENT, offset, CONTENT.length - offset)));
+    }
+
+}
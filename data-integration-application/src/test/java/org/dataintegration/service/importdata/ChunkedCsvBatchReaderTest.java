@@ -0,0 +1,220 @@
+package org.dataintegration.service.importdata;
+
+import com.opencsv.CSVReader;
+import org.dataintegration.jpa.entity.ItemEntity;
+import org.dataintegration.model.BatchProcessingModel;
+import org.dataintegration.model.CsvSourceModel;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+class ChunkedCsvBatchReaderTest {
+
+    private static final String CSV = String.join("",
+            "id,name,comment\r\n",
+            "1,\"Doe, John\",\"said \"\"hi\"\"\"\r\n",
+            "2,plain,\"multi\nline\"\n",
+            "3,\"carriage\rreturn\",x\r",
+            "\n",
+            "4,ä,€\n",
+            "\n",
+            "5,\"\",\"\"\"\"\n",
+            "6,\"a\r\nb\",c\n",
+            "7,last,record");
+
+    private final ExecutorService parseExecutor = Executors.newFixedThreadPool(4);
+
+    @AfterEach
+    void tearDown() {
+        parseExecutor.shutdownNow();
+    }
+
+    @Test
+    void testReadHeader() throws Exception {
+        try (ChunkedCsvBatchReader subject = createReader(CSV, 2, Runnable::run, 1)) {
+            assertThat(subject.readHeader()).containsExactly("id", "name", "comment");
+        }
+    }
+
+    @Test
+    void testReadHeaderEmpty() throws Exception {
+        try (ChunkedCsvBatchReader subject = createReader("", 2, Runnable::run, 1)) {
+            assertThat(subject.readHeader()).isNull();
+        }
+    }
+
+    @Test
+    void testReadBatchesSequential() throws Exception {
+        final List<BatchProcessingModel> batches = readAll(createReader(CSV, 2, Runnable::run, 1));
+
+        assertThat(getRecords(batches)).containsExactlyElementsOf(readWithOpencsv(CSV));
+        assertThat(batches).extracting(BatchProcessingModel::getBatchIndex).containsExactly(1L, 2L, 3L, 4L);
+        assertThat(batches.stream().flatMap(batch -> batch.getBatch().stream()).map(ItemEntity::getLineNumber))
+                .containsExactly(0L, 1L, 2L, 3L, 4L, 5L, 6L, 7L);
+    }
+
+    @Test
+    void testReadBatchesParallel() throws Exception {
+        final List<BatchProcessingModel> batches = readAll(createReader(CSV, 1, parseExecutor, 4));
+
+        assertThat(getRecords(batches)).containsExactlyElementsOf(readWithOpencsv(CSV));
+        assertThat(batches).extracting(BatchProcessingModel::getBatchIndex).containsExactly(1L, 2L, 3L, 4L, 5L, 6L, 7L, 8L);
+    }
+
+    @Test
+    void testReadBatchesOffsets() throws Exception {
+        final List<BatchProcessingModel> batches = readAll(createReader(CSV, 3, parseExecutor, 2));
+
+        final int headerLength = "id,name,comment\r\n".length();
+        assertThat(batches.get(0).getStartOffset()).isEqualTo(headerLength);
+        for (int i = 1; i < batches.size(); i++) {
+            assertThat(batches.get(i).getStartOffset()).isEqualTo(batches.get(i - 1).getEndOffset());
+        }
+        assertThat(batches.get(batches.size() - 1).getEndOffset()).isEqualTo(CSV.getBytes(StandardCharsets.UTF_8).length);
+    }
+
+    @Test
+    void testReadBatchesSkipped() throws Exception {
+        final List<BatchProcessingModel> batches = new ArrayList<>();
+        try (ChunkedCsvBatchReader subject = createReader(CSV, 2, parseExecutor, 2)) {
+            subject.readHeader();
+            subject.readBatches(batchIndex -> batchIndex % 2 == 0, ChunkedCsvBatchReaderTest::map, batches::add);
+        }
+
+        assertThat(batches).extracting(BatchProcessingModel::getBatchIndex).containsExactly(1L, 3L);
+        assertThat(batches.get(1).getBatch()).extracting(ItemEntity::getLineNumber).containsExactly(4L, 5L);
+    }
+
+    @Test
+    void testReadBatchesStopped() throws Exception {
+        final List<BatchProcessingModel> batches = new ArrayList<>();
+        try (ChunkedCsvBatchReader subject = createReader(CSV, 1, parseExecutor, 3)) {
+            subject.readHeader();
+            subject.readBatches(batchIndex -> false, ChunkedCsvBatchReaderTest::map, batch -> {
+                batches.add(batch);
+                return batches.size() < 2;
+            });
+        }
+
+        assertThat(batches).extracting(BatchProcessingModel::getBatchIndex).containsExactly(1L, 2L);
+    }
+
+    @Test
+    void testReadBatchesMapperFailure() throws Exception {
+        try (ChunkedCsvBatchReader subject = createReader(CSV, 2, parseExecutor, 2)) {
+            subject.readHeader();
+
+            assertThatExceptionOfType(IllegalArgumentException.class).isThrownBy(() -> subject.readBatches(batchIndex -> false,
+                    (values, lineNumber) -> {
+                        throw new IllegalArgumentException("invalid record " + lineNumber);
+                    }, batch -> true));
+        }
+    }
+
+    @Test
+    void testSkipTo() throws Exception {
+        final int batchSize = 2;
+        final List<BatchProcessingModel> batches = readAll(createReader(CSV, batchSize, Runnable::run, 1));
+        final List<List<String>> records = readWithOpencsv(CSV);
+
+        for (int i = 1; i < batches.size(); i++) {
+            final long batchIndex = batches.get(i).getBatchIndex();
+            final List<BatchProcessingModel> resumedBatches = new ArrayList<>();
+            try (ChunkedCsvBatchReader subject = createReader(CSV, batchSize, parseExecutor, 2)) {
+                subject.readHeader();
+                subject.skipTo(batchIndex, batches.get(i - 1).getEndOffset());
+                subject.readBatches(index -> false, ChunkedCsvBatchReaderTest::map, resumedBatches::add);
+            }
+
+            final int firstLineNumber = (int) (batchIndex - 1) * batchSize;
+            assertThat(getRecords(resumedBatches)).containsExactlyElementsOf(records.subList(firstLineNumber, records.size()));
+            assertThat(resumedBatches).extracting(BatchProcessingModel::getBatchIndex)
+                    .containsExactlyElementsOf(batches.subList(i, batches.size()).stream()
+                            .map(BatchProcessingModel::getBatchIndex)
+                            .toList());
+            assertThat(resumedBatches.get(0).getBatch().get(0).getLineNumber()).isEqualTo(firstLineNumber);
+            assertThat(resumedBatches.get(0).getStartOffset()).isEqualTo(batches.get(i).getStartOffset());
+        }
+    }
+
+    @Test
+    void testSkipToNotAhead() throws Exception {
+        final List<Long> openedOffsets = new ArrayList<>();
+        final byte[] bytes = CSV.getBytes(StandardCharsets.UTF_8);
+        final CsvSourceModel csvSource = CsvSourceModel.builder()
+                .inputStreamOpener(offset -> {
+                    openedOffsets.add(offset);
+                    return open(bytes, offset);
+                })
+                .delimiter(',')
+                .build();
+        final List<BatchProcessingModel> batches = new ArrayList<>();
+        try (ChunkedCsvBatchReader subject = new ChunkedCsvBatchReader(csvSource, open(bytes, 0), 0, 2, Runnable::run, 1)) {
+            subject.readHeader();
+            subject.skipTo(1, 0);
+            subject.readBatches(index -> false, ChunkedCsvBatchReaderTest::map, batches::add);
+        }
+
+        assertThat(openedOffsets).isEmpty();
+        assertThat(getRecords(batches)).containsExactlyElementsOf(readWithOpencsv(CSV));
+    }
+
+    private ChunkedCsvBatchReader createReader(String csv, int batchSize, Executor executor, int prefetch) {
+        final byte[] bytes = csv.getBytes(StandardCharsets.UTF_8);
+        final CsvSourceModel csvSource = CsvSourceModel.builder()
+                .inputStreamOpener(offset -> open(bytes, offset))
+                .delimiter(',')
+                .build();
+        return new ChunkedCsvBatchReader(csvSource, open(bytes, 0), 0, batchSize, executor, prefetch);
+    }
+
+    static InputStream open(byte[] bytes, long offset) {
+        return new ByteArrayInputStream(bytes, (int) offset, bytes.length - (int) offset);
+    }
+
+    static List<BatchProcessingModel> readAll(CsvBatchReader csvBatchReader) throws Exception {
+        final List<BatchProcessingModel> batches = new ArrayList<>();
+        try (csvBatchReader) {
+            csvBatchReader.readHeader();
+            csvBatchReader.readBatches(batchIndex -> false, ChunkedCsvBatchReaderTest::map, batches::add);
+        }
+        return batches;
+    }
+
+    static List<List<String>> getRecords(List<BatchProcessingModel> batches) {
+        return batches.stream()
+                .flatMap(batch -> batch.getBatch().stream())
+                .map(ItemEntity::getCells)
+                .toList();
+    }
+
+    static List<List<String>> readWithOpencsv(String csv) throws Exception {
+        try (CSVReader csvReader = CsvBatchReaderService.createCsvReader(new StringReader(csv), ',')) {
+            final List<String[]> records = csvReader.readAll();
+            return records.subList(1, records.size()).stream()
+                    .map(Arrays::asList)
+                    .toList();
+        }
+    }
+
+    private static ItemEntity map(String[] values, long lineNumber) {
+        final ItemEntity itemEntity = new ItemEntity();
+        itemEntity.setCells(Arrays.asList(values));
+        itemEntity.setLineNumber(lineNumber);
+        return itemEntity;
+    }
+
+}
@@ -0,0 +1,82 @@
+package org.dataintegration.service.importdata;
+
+import org.dataintegration.model.AsyncBatchConfigModel;
+import org.dataintegration.model.BatchConfigModel;
+import org.dataintegration.model.BatchParseEngineModel;
+import org.dataintegration.model.BatchProcessingModel;
+import org.dataintegration.model.CsvSourceModel;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CsvBatchReaderServiceTest {
+
+    private static final byte[] BOM = {(byte) 0xEF, (byte) 0xBB, (byte) 0xBF};
+    private static final String CSV = "header1,header2\na,b\nc,d\n";
+
+    private final ExecutorService parsePool = Executors.newFixedThreadPool(2);
+
+    @AfterEach
+    void tearDown() {
+        parsePool.shutdownNow();
+    }
+
+    @Test
+    void testOpenWithByteOrderMark() throws Exception {
+        final byte[] bytes = withBom(CSV);
+
+        try (CsvBatchReader subject = createSubject(BatchParseEngineModel.SEQUENTIAL).open(createCsvSource(bytes), 1)) {
+            assertThat(subject.readHeader()).containsExactly("header1", "header2");
+        }
+        final List<BatchProcessingModel> batches =
+                ChunkedCsvBatchReaderTest.readAll(createSubject(BatchParseEngineModel.PARALLEL).open(createCsvSource(bytes), 1));
+
+        assertThat(ChunkedCsvBatchReaderTest.getRecords(batches)).containsExactly(List.of("a", "b"), List.of("c", "d"));
+        assertThat(batches.get(0).getStartOffset()).isEqualTo(BOM.length + "header1,header2\n".length());
+        assertThat(batches.get(1).getEndOffset()).isEqualTo(bytes.length);
+    }
+
+    @Test
+    void testOpenWithoutByteOrderMark() throws Exception {
+        final byte[] bytes = CSV.getBytes(StandardCharsets.UTF_8);
+
+        final List<BatchProcessingModel> batches =
+                ChunkedCsvBatchReaderTest.readAll(createSubject(BatchParseEngineModel.SEQUENTIAL).open(createCsvSource(bytes), 2));
+
+        assertThat(ChunkedCsvBatchReaderTest.getRecords(batches)).containsExactly(List.of("a", "b"), List.of("c", "d"));
+        assertThat(batches.get(0).getStartOffset()).isEqualTo("header1,header2\n".length());
+    }
+
+    private CsvBatchReaderService createSubject(BatchParseEngineModel batchParseEngine) {
+        return new CsvBatchReaderService(
+                BatchConfigModel.builder()
+                        .batchParseEngine(batchParseEngine)
+                        .build(),
+                AsyncBatchConfigModel.builder()
+                        .parsePool(parsePool)
+                        .parsePrefetch(2)
+                        .build());
+    }
+
+    private static CsvSourceModel createCsvSource(byte[] bytes) {
+        return CsvSourceModel.builder()
+                .inputStreamOpener(offset -> ChunkedCsvBatchReaderTest.open(bytes, offset))
+                .delimiter(',')
+                .build();
+    }
+
+    private static byte[] withBom(String csv) {
+        final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        bytes.writeBytes(BOM);
+        bytes.writeBytes(csv.getBytes(StandardCharsets.UTF_8));
+        return bytes.toByteArray();
+    }
+
+}
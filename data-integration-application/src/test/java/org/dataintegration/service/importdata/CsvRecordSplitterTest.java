@@ -0,0 +1,140 @@
+package org.dataintegration.service.importdata;
+
+import org.dataintegration.model.CsvChunkModel;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CsvRecordSplitterTest {
+
+    @Test
+    void testNextChunkQuotedFieldsWithEscapedQuotes() throws IOException {
+        final List<String> chunks = split("a,\"b \"\"c\"\", d\"\ne,\"f\"\"\"\n", 1);
+
+        assertThat(chunks).containsExactly("a,\"b \"\"c\"\", d\"\n", "e,\"f\"\"\"\n");
+    }
+
+    @Test
+    void testNextChunkBackslashEscapedQuote() throws IOException {
+        final List<String> chunks = split("a,\"b \\\"\nc\"\nd\n", 1);
+
+        assertThat(chunks).containsExactly("a,\"b \\\"\nc\"\n", "d\n");
+    }
+
+    @Test
+    void testNextChunkCarriageReturnLineFeed() throws IOException {
+        final List<String> chunks = split("a,b\r\nc,d\r\ne,f\r\n", 2);
+
+        assertThat(chunks).containsExactly("a,b\r\nc,d\r\n", "e,f\r\n");
+    }
+
+    @Test
+    void testNextChunkCarriageReturnLineFeedAtChunkEnd() throws IOException {
+        final CsvRecordSplitter subject = createSplitter("a\r\nb\r\n", 0);
+
+        final CsvChunkModel first = subject.nextChunk(1);
+        final CsvChunkModel second = subject.nextChunk(1);
+
+        assertThat(first.getBytes()).asString(StandardCharsets.UTF_8).isEqualTo("a\r\n");
+        assertThat(first.getEndOffset()).isEqualTo(3);
+        assertThat(second.getBytes()).asString(StandardCharsets.UTF_8).isEqualTo("b\r\n");
+        assertThat(subject.nextChunk(1)).isNull();
+    }
+
+    @Test
+    void testNextChunkLoneCarriageReturn() throws IOException {
+        final List<String> chunks = split("a\rb\rc", 1);
+
+        assertThat(chunks).containsExactly("a\r", "b\r", "c");
+    }
+
+    @Test
+    void testNextChunkLineBreaksInsideQuotes() throws IOException {
+        final CsvRecordSplitter subject = createSplitter("\"a\nb\",\"c\r\nd\re\"\nf\n", 0);
+
+        final CsvChunkModel chunk = subject.nextChunk(10);
+
+        assertThat(chunk.getRecordCount()).isEqualTo(2);
+        assertThat(chunk.getBytes()).asString(StandardCharsets.UTF_8).isEqualTo("\"a\nb\",\"c\r\nd\re\"\nf\n");
+    }
+
+    @Test
+    void testNextChunkWithoutTrailingLineBreak() throws IOException {
+        final CsvRecordSplitter subject = createSplitter("a\nb", 0);
+
+        final CsvChunkModel chunk = subject.nextChunk(10);
+
+        assertThat(chunk.getRecordCount()).isEqualTo(2);
+        assertThat(chunk.getEndOffset()).isEqualTo(3);
+        assertThat(subject.nextChunk(10)).isNull();
+    }
+
+    @Test
+    void testNextChunkEmptyLines() throws IOException {
+        final CsvRecordSplitter subject = createSplitter("a\n\n\r\nb\n", 0);
+
+        final CsvChunkModel chunk = subject.nextChunk(10);
+
+        assertThat(chunk.getRecordCount()).isEqualTo(4);
+    }
+
+    @Test
+    void testNextChunkRecordAcrossBuffers() throws IOException {
+        final String field = "x".repeat(100 * 1024);
+        final List<String> chunks = split("a\n\"" + field + "\n" + field + "\"\nb\n", 1);
+
+        assertThat(chunks).containsExactly("a\n", "\"" + field + "\n" + field + "\"\n", "b\n");
+    }
+
+    @Test
+    void testNextChunkOffsets() throws IOException {
+        final CsvRecordSplitter subject = createSplitter("ab\ncd\nef\n", 10);
+
+        final CsvChunkModel first = subject.nextChunk(2);
+        final CsvChunkModel second = subject.nextChunk(2);
+
+        assertThat(first.getStartOffset()).isEqualTo(10);
+        assertThat(first.getEndOffset()).isEqualTo(16);
+        assertThat(first.getRecordCount()).isEqualTo(2);
+        assertThat(second.getStartOffset()).isEqualTo(16);
+        assertThat(second.getEndOffset()).isEqualTo(19);
+        assertThat(second.getRecordCount()).isEqualTo(1);
+        assertThat(subject.getPosition()).isEqualTo(19);
+    }
+
+    @Test
+    void testNextChunkMultibyteCharacters() throws IOException {
+        final CsvRecordSplitter subject = createSplitter("ä,\"ö\nü\"\n€\n", 0);
+
+        final CsvChunkModel chunk = subject.nextChunk(1);
+
+        assertThat(chunk.getBytes()).asString(StandardCharsets.UTF_8).isEqualTo("ä,\"ö\nü\"\n");
+        assertThat(chunk.getEndOffset()).isEqualTo(chunk.getBytes().length);
+    }
+
+    @Test
+    void testNextChunkEmpty() throws IOException {
+        assertThat(createSplitter("", 0).nextChunk(1)).isNull();
+    }
+
+    private static List<String> split(String csv, int maxRecords) throws IOException {
+        final CsvRecordSplitter subject = createSplitter(csv, 0);
+        final List<String> chunks = new ArrayList<>();
+        CsvChunkModel chunk;
+        while ((chunk = subject.nextChunk(maxRecords)) != null) {
+            chunks.add(new String(chunk.getBytes(), StandardCharsets.UTF_8));
+        }
+        return chunks;
+    }
+
+    private static CsvRecordSplitter createSplitter(String csv, long startOffset) {
+        return new CsvRecordSplitter(new ByteArrayInputStream(csv.getBytes(StandardCharsets.UTF_8)), startOffset);
+    }
+
+}
@@ -0,0 +1,80 @@
+package org.dataintegration.service.importdata;
+
+import org.dataintegration.jpa.entity.ScopeEntity;
+import org.dataintegration.model.BatchProcessingModel;
+import org.dataintegration.service.CheckpointsService;
+import org.dataintegration.service.ImportProgressService;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.BitSet;
+import java.util.UUID;
+import java.util.concurrent.Phaser;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class HandleBatchServiceTest {
+
+    private static final UUID PROJECT_ID = UUID.randomUUID();
+    private static final UUID SCOPE_ID = UUID.randomUUID();
+
+    @Mock
+    private HandleAsyncBatchService handleAsyncBatchService;
+
+    @Mock
+    private CheckpointsService checkpointsService;
+
+    @Mock
+    private ImportProgressService importProgressService;
+
+    @InjectMocks
+    private HandleBatchService subject;
+
+    private final AtomicBoolean failed = new AtomicBoolean();
+    private final Phaser activeBatchesScope = new Phaser(1);
+
+    @Test
+    void testHandleBatch() {
+        final BatchProcessingModel batchProcessing = handleBatch(HandleBatchService.TOTAL_BATCHES_UPDATE_INTERVAL - 1);
+
+        verify(checkpointsService, never()).updateTotalBatches(eq(SCOPE_ID), anyLong());
+        verify(importProgressService).updateTotalBatches(SCOPE_ID, HandleBatchService.TOTAL_BATCHES_UPDATE_INTERVAL - 1);
+        verify(handleAsyncBatchService).handleAsyncBatch(batchProcessing, failed, activeBatchesScope);
+    }
+
+    @Test
+    void testHandleBatchUpdatesCheckpoint() {
+        handleBatch(HandleBatchService.TOTAL_BATCHES_UPDATE_INTERVAL * 2);
+
+        verify(checkpointsService).updateTotalBatches(SCOPE_ID, HandleBatchService.TOTAL_BATCHES_UPDATE_INTERVAL * 2);
+        verify(importProgressService).updateTotalBatches(SCOPE_ID, HandleBatchService.TOTAL_BATCHES_UPDATE_INTERVAL * 2);
+    }
+
+    @Test
+    void testSealTotalBatches() {
+        subject.sealTotalBatches(SCOPE_ID, 7);
+
+        verify(checkpointsService).updateTotalBatches(SCOPE_ID, 7);
+        verify(importProgressService).updateTotalBatches(SCOPE_ID, 7);
+    }
+
+    private BatchProcessingModel handleBatch(long batchIndex) {
+        final ScopeEntity scopeEntity = new ScopeEntity();
+        scopeEntity.setId(SCOPE_ID);
+        scopeEntity.setKey("scope");
+        final BatchProcessingModel batchProcessing = BatchProcessingModel.builder()
+                .batchIndex(batchIndex)
+                .build();
+        subject.handleBatch(PROJECT_ID, batchProcessing, 10, scopeEntity, new BitSet(), failed, activeBatchesScope);
+        return batchProcessing;
+    }
+
+}
@@ -0,0 +1,71 @@
+package org.dataintegration.service.importdata;
+
+import org.dataintegration.jpa.entity.ScopeEntity;
+import org.dataintegration.model.BatchConfigModel;
+import org.dataintegration.model.CsvSourceModel;
+import org.dataintegration.model.cache.DataIntegrationCache;
+import org.dataintegration.service.CheckpointsService;
+import org.dataintegration.service.ImportProgressService;
+import org.dataintegration.service.ScopesService;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class ImportDataServiceImplTest {
+
+    private static final UUID PROJECT_ID = UUID.randomUUID();
+    private static final UUID SCOPE_ID = UUID.randomUUID();
+    private static final int BATCH_SIZE = 10;
+
+    @Mock
+    private ScopesService scopesService;
+
+    @Mock
+    private CheckpointsService checkpointsService;
+
+    @Mock
+    private BatchProcessingService batchProcessingService;
+
+    @Mock
+    private ImportProgressService importProgressService;
+
+    @Spy
+    private DataIntegrationCache dataIntegrationCache = new DataIntegrationCache();
+
+    @Spy
+    private BatchConfigModel batchConfig = BatchConfigModel.builder()
+            .batchSize(BATCH_SIZE)
+            .batchRetryScopeMax(1)
+            .build();
+
+    @InjectMocks
+    private ImportDataServiceImpl subject;
+
+    @Test
+    void testImportDataReleasesScopeIfCheckpointLookupFails() {
+        final ScopeEntity scopeEntity = new ScopeEntity();
+        scopeEntity.setId(SCOPE_ID);
+        scopeEntity.setKey("scope.csv");
+        when(scopesService.get(SCOPE_ID)).thenReturn(scopeEntity);
+        when(checkpointsService.createOrGetBatchSize(scopeEntity, BATCH_SIZE)).thenReturn(BATCH_SIZE);
+        when(checkpointsService.getProcessedBatches(SCOPE_ID)).thenThrow(new IllegalStateException("failed"));
+
+        assertThat(subject.importData(CsvSourceModel.builder().build(), PROJECT_ID, SCOPE_ID)).isFalse();
+
+        assertThat(dataIntegrationCache.getProcessingScopes()).doesNotContain(SCOPE_ID);
+        verify(importProgressService).finish(SCOPE_ID, false);
+        verifyNoInteractions(batchProcessingService);
+    }
+
+}
@@ -0,0 +1,74 @@
+package org.dataintegration.usecase;
+
+import org.dataintegration.model.CsvSourceModel;
+import org.dataintegration.service.ImportDataService;
+import org.dataintegration.service.ProjectsService;
+import org.dataintegration.service.S3Service;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class ImportDataUsecaseTest {
+
+    private static final UUID PROJECT_ID = UUID.randomUUID();
+    private static final UUID SCOPE_ID = UUID.randomUUID();
+    private static final String CSV = "header1,header2\na,b\n\"c\nd\",ä\n";
+
+    @TempDir
+    private Path tempDir;
+
+    @Mock
+    private ProjectsService projectsService;
+
+    @Mock
+    private S3Service s3Service;
+
+    @Mock
+    private ImportDataService importDataService;
+
+    @InjectMocks
+    private ImportDataUsecase subject;
+
+    @Test
+    void testImportFromFileOpensAtOffset() throws Exception {
+        final byte[] bytes = CSV.getBytes(StandardCharsets.UTF_8);
+        final Path file = Files.write(tempDir.resolve("import.csv"), bytes);
+        final List<byte[]> reads = new ArrayList<>();
+        when(importDataService.importData(any(CsvSourceModel.class), eq(PROJECT_ID), eq(SCOPE_ID))).thenAnswer(invocation -> {
+            final CsvSourceModel csvSource = invocation.getArgument(0);
+            for (long offset = 0; offset <= bytes.length; offset++) {
+                try (InputStream inputStream = csvSource.getInputStreamOpener().open(offset)) {
+                    reads.add(inputStream.readAllBytes());
+                }
+            }
+            return true;
+        });
+
+        subject.importFromFile(file, PROJECT_ID, SCOPE_ID, ',', "createdBy");
+
+        assertThat(reads).hasSize(bytes.length + 1);
+        for (int offset = 0; offset <= bytes.length; offset++) {
+            assertThat(reads.get(offset)).isEqualTo(Arrays.copyOfRange(bytes, offset, bytes.length));
+        }
+        assertThat(file).doesNotExist();
+    }
+
+}
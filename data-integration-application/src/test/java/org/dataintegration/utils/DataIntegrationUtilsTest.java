@@ -0,0 +1,46 @@
+package org.dataintegration.utils;
+
+import org.dataintegration.exception.InvalidSeekException;
+import org.junit.jupiter.api.Test;
+
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.assertj.core.api.Assertions.assertThatNoException;
+
+class DataIntegrationUtilsTest {
+
+    @Test
+    void testGetSeekSize() {
+        assertThat(DataIntegrationUtils.getSeekSize(1)).isEqualTo(1);
+        assertThat(DataIntegrationUtils.getSeekSize(DataIntegrationUtils.MAX_SEEK_SIZE))
+                .isEqualTo(DataIntegrationUtils.MAX_SEEK_SIZE);
+    }
+
+    @Test
+    void testGetSeekSizeCapped() {
+        assertThat(DataIntegrationUtils.getSeekSize(Integer.MAX_VALUE)).isEqualTo(DataIntegrationUtils.MAX_SEEK_SIZE);
+    }
+
+    @Test
+    void testGetSeekSizeInvalid() {
+        assertThatExceptionOfType(InvalidSeekException.class).isThrownBy(() -> DataIntegrationUtils.getSeekSize(0));
+        assertThatExceptionOfType(InvalidSeekException.class).isThrownBy(() -> DataIntegrationUtils.getSeekSize(-1));
+    }
+
+    @Test
+    void testCheckSeekPosition() {
+        assertThatNoException().isThrownBy(() -> DataIntegrationUtils.checkSeekPosition(null, null));
+        assertThatNoException().isThrownBy(() -> DataIntegrationUtils.checkSeekPosition(10L, UUID.randomUUID()));
+    }
+
+    @Test
+    void testCheckSeekPositionIncomplete() {
+        assertThatExceptionOfType(InvalidSeekException.class)
+                .isThrownBy(() -> DataIntegrationUtils.checkSeekPosition(10L, null));
+        assertThatExceptionOfType(InvalidSeekException.class)
+                .isThrownBy(() -> DataIntegrationUtils.checkSeekPosition(null, UUID.randomUUID()));
+    }
+
+}
@@ -0,0 +1,88 @@
+--
+-- Opt-in partitioned storage layout
+--
+-- Converts item into a table list-partitioned by scope_id and mapped_item into a table list-partitioned by mapping_id, with
+-- one partition per scope and per mapping. Run once on a database that is migrated to the latest schema version while the
+-- application is stopped, then start it with partitioning.enabled=true. The application creates the partitions of new scopes and
+-- mappings and drops the partitions of purged ones.
+--
+-- Every unique constraint of a partitioned table has to contain the partition key, so the primary keys become
+-- (id, scope_id) and (id, mapping_id) and the foreign key from mapped_item to item is dropped. Indexes that only cover
+-- the partition key are left out, since every partition holds a single scope or mapping.
+--
+
+BEGIN;
+
+ALTER TABLE public.mapped_item DROP CONSTRAINT fkib1gny4fa52a9vyvgx3a3dwwt;
+
+ALTER TABLE public.item RENAME TO item_unpartitioned;
+ALTER TABLE public.mapped_item RENAME TO mapped_item_unpartitioned;
+
+CREATE TABLE public.item (
+    id uuid NOT NULL,
+    cells jsonb NOT NULL,
+    line_number bigint NOT NULL,
+    original_values jsonb,
+    scope_id uuid NOT NULL
+) PARTITION BY LIST (scope_id);
+
+ALTER TABLE public.item OWNER TO postgres;
+
+CREATE TABLE public.mapped_item (
+    id uuid NOT NULL,
+    error_messages jsonb,
+    properties jsonb,
+    status character varying(255) NOT NULL,
+    item_id uuid NOT NULL,
+    mapping_id uuid NOT NULL
+) PARTITION BY LIST (mapping_id);
+
+ALTER TABLE public.mapped_item OWNER TO postgres;
+
+DO $$
+DECLARE
+    partition_key uuid;
+BEGIN
+    FOR partition_key IN SELECT id FROM public.scope LOOP
+        EXECUTE format('CREATE TABLE public.%I PARTITION OF public.item FOR VALUES IN (%L)',
+                       'item_' || replace(partition_key::text, '-', ''), partition_key);
+    END LOOP;
+    FOR partition_key IN SELECT id FROM public.mapping LOOP
+        EXECUTE format('CREATE TABLE public.%I PARTITION OF public.mapped_item FOR VALUES IN (%L)',
+                       'mapped_item_' || replace(partition_key::text, '-', ''), partition_key);
+    END LOOP;
+END $$;
+
+INSERT INTO public.item (id, cells, line_number, original_values, scope_id)
+SELECT id, cells, line_number, original_values, scope_id FROM public.item_unpartitioned;
+
+INSERT INTO public.mapped_item (id, error_messages, properties, status, item_id, mapping_id)
+SELECT id, error_messages, properties, status, item_id, mapping_id FROM public.mapped_item_unpartitioned;
+
+DROP TABLE public.mapped_item_unpartitioned;
+DROP TABLE public.item_unpartitioned;
+
+ALTER TABLE ONLY public.item
+    ADD CONSTRAINT item_pkey PRIMARY KEY (id, scope_id);
+
+ALTER TABLE ONLY public.mapped_item
+    ADD CONSTRAINT mapped_item_pkey PRIMARY KEY (id, mapping_id);
+
+ALTER TABLE ONLY public.mapped_item
+    ADD CONSTRAINT uk_mapped_item_item_id_mapping_id UNIQUE (item_id, mapping_id);
+
+CREATE INDEX idx_item_cells_trgm ON public.item USING gin (((cells)::text) public.gin_trgm_ops);
+
+CREATE INDEX idx_item_scope_id_line_number_id ON public.item USING btree (scope_id, line_number, id);
+
+CREATE INDEX idx_mapped_item_mapping_id_item_id ON public.mapped_item USING btree (mapping_id, item_id);
+
+CREATE INDEX idx_mapped_item_mapping_id_status ON public.mapped_item USING btree (mapping_id, status);
+
+ALTER TABLE public.item
+    ADD CONSTRAINT fkjg4v0oornw0k2dph1b0e90kfl FOREIGN KEY (scope_id) REFERENCES public.scope(id);
+
+ALTER TABLE public.mapped_item
+    ADD CONSTRAINT fk6edf5gj2fynogxbyhe7kl76p5 FOREIGN KEY (mapping_id) REFERENCES public.mapping(id);
+
+COMMIT;
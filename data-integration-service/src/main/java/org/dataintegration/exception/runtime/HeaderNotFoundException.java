@@ -0,0 +1,7 @@
+package org.dataintegration.exception.runtime;
+
+import lombok.experimental.StandardException;
+
+@StandardException
+public class HeaderNotFoundException extends DataIntegrationRuntimeException {
+}
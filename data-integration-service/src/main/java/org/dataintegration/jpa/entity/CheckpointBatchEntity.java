@@ -30,6 +30,10 @@ public class CheckpointBatchEntity {
 
     private long batchIndex;
 
+    private Long startOffset;
+
+    private Long endOffset;
+
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "checkpoint_id", nullable = false)
     private CheckpointEntity checkpoint;
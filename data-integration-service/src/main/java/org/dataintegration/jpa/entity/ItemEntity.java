@@ -15,12 +15,12 @@ import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
-import org.dataintegration.model.ItemPropertiesModel;
 import org.hibernate.annotations.JdbcTypeCode;
 import org.hibernate.annotations.UuidGenerator;
 import org.hibernate.type.SqlTypes;
 
 import java.util.HashSet;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.UUID;
@@ -29,8 +29,7 @@ import java.util.UUID;
 @Table(
         name = "item",
         indexes = {
-                @Index(name = "idx_item_line_number", columnList = "lineNumber"),
-                @Index(name = "idx_item_scope_id", columnList = "scope_id")
+                @Index(name = "idx_item_scope_id_line_number_id", columnList = "scope_id, lineNumber, id")
         }
 )
 @Getter
@@ -49,7 +48,10 @@ public class ItemEntity {
     @NotNull
     @Column(nullable = false)
     @JdbcTypeCode(SqlTypes.JSON)
-    private Map<String, ItemPropertiesModel> properties;
+    private List<String> cells;
+
+    @JdbcTypeCode(SqlTypes.JSON)
+    private Map<String, String> originalValues;
 
     @OneToMany(mappedBy = "item", fetch = FetchType.LAZY)
     private Set<MappedItemEntity> mappings = new HashSet<>();
@@ -1,16 +1,32 @@
 package org.dataintegration.jpa.repository;
 
+import jakarta.transaction.Transactional;
 import org.dataintegration.jpa.entity.CheckpointBatchEntity;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
 
 public interface JpaCheckpointBatchRepository extends JpaRepository<CheckpointBatchEntity, UUID> {
 
-    @SuppressWarnings("checkstyle:MethodName")
-    boolean existsByCheckpoint_ScopeIdAndBatchIndex(UUID scopeId, Long batchIndex);
+    @Query("""
+        SELECT cb.batchIndex FROM CheckpointBatchEntity cb
+        JOIN cb.checkpoint cp
+        WHERE cp.scope.id = :scopeId
+    """)
+    List<Long> findBatchIndicesByScopeId(@Param("scopeId") UUID scopeId);
+
+    @Query("""
+        SELECT cb.endOffset FROM CheckpointBatchEntity cb
+        JOIN cb.checkpoint cp
+        WHERE cp.scope.id = :scopeId
+            AND cb.batchIndex = :batchIndex
+    """)
+    Optional<Long> findEndOffsetByScopeIdAndBatchIndex(@Param("scopeId") UUID scopeId, @Param("batchIndex") long batchIndex);
 
     @Query("""
         SELECT COUNT(cb.batchIndex) FROM CheckpointBatchEntity cb
@@ -19,4 +35,27 @@ public interface JpaCheckpointBatchRepository extends JpaRepository<CheckpointBa
     """)
     long countBatchIndexByScopeId(@Param("scopeId") UUID scopeId);
 
+    @Modifying
+    @Transactional
+    @Query(value = """
+        INSERT INTO checkpoint_batch (id, batch_index, start_offset, end_offset, checkpoint_id)
+        VALUES (:id, :batchIndex, :startOffset, :endOffset, :checkpointId)
+        ON CONFLICT (checkpoint_id, batch_index) DO NOTHING
+        """, nativeQuery = true)
+    int insertIfAbsent(@Param("id") UUID id, @Param("batchIndex") long batchIndex, @Param("startOffset") long startOffset,
+                       @Param("endOffset") long endOffset, @Param("checkpointId") UUID checkpointId);
+
+    @Modifying
+    @Transactional
+    @Query(value = """
+        DELETE FROM checkpoint_batch
+        WHERE id IN (
+            SELECT cb.id FROM checkpoint_batch cb
+            JOIN checkpoint c ON c.id = cb.checkpoint_id
+            WHERE c.scope_id = :scopeId
+            LIMIT :limit
+        )
+        """, nativeQuery = true)
+    int deleteChunkByScopeId(@Param("scopeId") UUID scopeId, @Param("limit") int limit);
+
 }
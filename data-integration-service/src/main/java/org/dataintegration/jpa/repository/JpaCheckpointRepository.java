@@ -4,6 +4,7 @@ import jakarta.transaction.Transactional;
 import org.dataintegration.jpa.entity.CheckpointEntity;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
 import java.util.Optional;
@@ -14,9 +15,27 @@ public interface JpaCheckpointRepository extends JpaRepository<CheckpointEntity,
     @SuppressWarnings("checkstyle:MethodName")
     Optional<CheckpointEntity> findByScope_Id(@Param("scopeId") UUID scopeID);
 
+    @Modifying
+    @Transactional
+    @Query("""
+        UPDATE CheckpointEntity
+        SET totalBatches = :totalBatches
+        WHERE scope.id = :scopeId
+            AND totalBatches < :totalBatches
+    """)
+    void updateTotalBatches(@Param("scopeId") UUID scopeId, @Param("totalBatches") long totalBatches);
+
     @Modifying
     @Transactional
     @SuppressWarnings("checkstyle:MethodName")
     void deleteByScope_Id(UUID scopeId);
 
+    @Modifying
+    @Transactional
+    @Query(value = """
+        DELETE FROM checkpoint
+        WHERE scope_id = :scopeId
+        """, nativeQuery = true)
+    int deleteAllByScopeId(@Param("scopeId") UUID scopeId);
+
 }
@@ -1,16 +1,80 @@
 package org.dataintegration.jpa.repository;
 
+import jakarta.transaction.Transactional;
 import org.dataintegration.jpa.entity.ItemEntity;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.UUID;
 
 public interface JpaItemRepository extends JpaRepository<ItemEntity, UUID> {
 
+    /**
+     * Sets the cell of {@code :targetColumn} to {@code :newValue} (padding the cells with nulls if the column does not exist yet)
+     * and keeps the original values in sync, the same way as {@code ItemPropertiesService.updateProperty} does.
+     */
+    String SET_ITEM_PROPERTY = """
+            SET cells = CASE
+                WHEN jsonb_array_length(i.cells) > :targetColumn
+                THEN jsonb_set(i.cells, ARRAY[CAST(:targetColumn AS text)],
+                        COALESCE(to_jsonb(CAST(:newValue AS text)), CAST('null' AS jsonb)))
+                ELSE i.cells
+                    || COALESCE((
+                        SELECT jsonb_agg(CAST('null' AS jsonb))
+                        FROM generate_series(jsonb_array_length(i.cells), CAST(:targetColumn AS integer) - 1)
+                    ), CAST('[]' AS jsonb))
+                    || jsonb_build_array(CAST(:newValue AS text))
+            END,
+            original_values = CASE
+                WHEN i.cells ->> CAST(:targetColumn AS integer) IS NULL THEN i.original_values
+                ELSE NULLIF(CASE
+                    WHEN COALESCE(i.original_values ->> CAST(:targetHeader AS text), i.cells ->> CAST(:targetColumn AS integer))
+                        = CAST(:newValue AS text)
+                    THEN COALESCE(i.original_values, CAST('{}' AS jsonb)) - CAST(:targetHeader AS text)
+                    ELSE COALESCE(i.original_values, CAST('{}' AS jsonb)) || jsonb_build_object(CAST(:targetHeader AS text),
+                        COALESCE(i.original_values ->> CAST(:targetHeader AS text), i.cells ->> CAST(:targetColumn AS integer)))
+                END, CAST('{}' AS jsonb))
+            END
+            """;
+
+    /**
+     * {@code :value} as a prefix pattern for ILIKE, where wildcards and backslashes in {@code :value} match literally.
+     */
+    String VALUE_PREFIX_PATTERN = "CONCAT(replace(replace(replace(CAST(:value AS text), '\\', '\\\\'), '%', '\\%'), '_', '\\_'), '%')";
+
+    /**
+     * Prefilter for the trigram index on the cells. Looks for {@code :value} the way it is escaped in the json text of the
+     * cells (without the closing quote), so it holds for every item with a cell that starts with {@code :value}.
+     */
+    String CELLS_CONTAIN_VALUE = "CAST(i.cells AS text) ILIKE CONCAT('%', replace(replace(replace("
+            + "LEFT(CAST(to_jsonb(CAST(:value AS text)) AS text), -1), '\\', '\\\\'), '%', '\\%'), '_', '\\_'), '%')";
+
+    /**
+     * The cell of {@code :column} starts with {@code :value}.
+     */
+    String CELL_STARTS_WITH_VALUE = "(" + CELLS_CONTAIN_VALUE
+            + " AND i.cells ->> CAST(:column AS integer) ILIKE " + VALUE_PREFIX_PATTERN + ")";
+
+    /**
+     * Any cell starts with {@code :value}.
+     */
+    String ANY_CELL_STARTS_WITH_VALUE = "(" + CELLS_CONTAIN_VALUE
+            + " AND EXISTS (SELECT 1 FROM jsonb_array_elements_text(i.cells) AS cell(value) WHERE cell.value ILIKE "
+            + VALUE_PREFIX_PATTERN + "))";
+
+    /**
+     * Search of the item grids: the cell of {@code :column} starts with {@code :value}, or any cell if {@code :column} is
+     * null. Every item matches if {@code :value} is null.
+     */
+    String MATCHES_SEARCH = "(:value IS NULL OR :column IS NOT NULL AND " + CELL_STARTS_WITH_VALUE
+            + " OR :column IS NULL AND " + ANY_CELL_STARTS_WITH_VALUE + ")";
+
     @Query(value = """
             SELECT * FROM item i
             WHERE i.scope_id = :scopeId
@@ -20,11 +84,10 @@ public interface JpaItemRepository extends JpaRepository<ItemEntity, UUID> {
     @Query(value = """
         SELECT * FROM item i
         WHERE i.scope_id = :scopeId
-        AND (:headerName IS NULL OR :value IS NULL OR i.properties -> :headerName ->> 'value' ILIKE CONCAT(:value, '%'))
-        """, nativeQuery = true)
+        AND (:column IS NULL OR :value IS NULL OR\s""" + CELL_STARTS_WITH_VALUE + ")", nativeQuery = true)
     Page<ItemEntity> findAllByScopeIdAndDynamicHeader(
             @Param("scopeId") UUID scopeId,
-            @Param("headerName") String headerName,
+            @Param("column") Integer column,
             @Param("value") String value,
             Pageable pageable
     );
@@ -32,15 +95,7 @@ public interface JpaItemRepository extends JpaRepository<ItemEntity, UUID> {
     @Query(value = """
             SELECT * FROM item i
             WHERE i.scope_id = :scopeId
-            AND (
-                :value IS NULL 
-                OR EXISTS (
-                    SELECT 1
-                    FROM jsonb_each(i.properties) AS prop(key, val)
-                    WHERE val->>'value' ILIKE CONCAT(:value, '%')
-                )
-            )
-            """, nativeQuery = true)
+            AND (:value IS NULL OR\s""" + ANY_CELL_STARTS_WITH_VALUE + ")", nativeQuery = true)
     Page<ItemEntity> findAllByScopeIdWithFreeTextSearch(
             @Param("scopeId") UUID scopeId,
             @Param("value") String value,
@@ -61,7 +116,8 @@ public interface JpaItemRepository extends JpaRepository<ItemEntity, UUID> {
     @Query(value = """
             SELECT * FROM item i
             WHERE i.scope_id = :scopeId
-            AND (:headerName IS NULL OR :value IS NULL OR i.properties -> :headerName ->> 'value' ILIKE CONCAT(:value, '%'))
+            AND (:column IS NULL OR :value IS NULL OR\s""" + CELL_STARTS_WITH_VALUE + """
+            )
             AND (:mappingId IS NULL OR NOT EXISTS (
                 SELECT 1 FROM mapped_item mi
                 WHERE mi.item_id = i.id AND mi.mapping_id = :mappingId
@@ -70,7 +126,7 @@ public interface JpaItemRepository extends JpaRepository<ItemEntity, UUID> {
     Page<ItemEntity> findAllByScopeIdAndMappingIdNotInMappedItemsAndDynamicHeader(
             @Param("scopeId") UUID scopeId,
             @Param("mappingId") UUID mappingId,
-            @Param("headerName") String headerName,
+            @Param("column") Integer column,
             @Param("value") String value,
             Pageable pageable
     );
@@ -78,13 +134,7 @@ public interface JpaItemRepository extends JpaRepository<ItemEntity, UUID> {
     @Query(value = """
             SELECT * FROM item i
             WHERE i.scope_id = :scopeId
-            AND (
-                :value IS NULL 
-                OR EXISTS (
-                    SELECT 1
-                    FROM jsonb_each(i.properties) AS prop(key, val)
-                    WHERE val->>'value' ILIKE CONCAT(:value, '%')
-                )
+            AND (:value IS NULL OR\s""" + ANY_CELL_STARTS_WITH_VALUE + """
             )
             AND (:mappingId IS NULL OR NOT EXISTS (
                 SELECT 1 FROM mapped_item mi
@@ -98,4 +148,98 @@ public interface JpaItemRepository extends JpaRepository<ItemEntity, UUID> {
             Pageable pageable
     );
 
+    @Query(value = """
+            SELECT * FROM item i
+            WHERE i.scope_id = :scopeId
+            AND (CAST(:afterLineNumber AS bigint) IS NULL
+                OR (i.line_number, i.id) > (CAST(:afterLineNumber AS bigint), CAST(:afterId AS uuid)))
+            AND (:mappingId IS NULL OR NOT EXISTS (
+                SELECT 1 FROM mapped_item mi
+                WHERE mi.item_id = i.id AND mi.mapping_id = :mappingId
+            ))
+            AND\s""" + MATCHES_SEARCH + """
+            ORDER BY i.line_number, i.id
+            """, nativeQuery = true)
+    List<ItemEntity> findAllByScopeIdAfter(
+            @Param("scopeId") UUID scopeId,
+            @Param("mappingId") UUID mappingId,
+            @Param("column") Integer column,
+            @Param("value") String value,
+            @Param("afterLineNumber") Long afterLineNumber,
+            @Param("afterId") UUID afterId,
+            Pageable pageable
+    );
+
+    @Query(value = """
+            SELECT COUNT(*) FROM item i
+            WHERE i.scope_id = :scopeId
+            AND (:mappingId IS NULL OR NOT EXISTS (
+                SELECT 1 FROM mapped_item mi
+                WHERE mi.item_id = i.id AND mi.mapping_id = :mappingId
+            ))
+            AND\s""" + MATCHES_SEARCH, nativeQuery = true)
+    long countAllByScopeId(
+            @Param("scopeId") UUID scopeId,
+            @Param("mappingId") UUID mappingId,
+            @Param("column") Integer column,
+            @Param("value") String value
+    );
+
+    @Query("""
+        SELECT DISTINCT i.scope.id FROM ItemEntity i
+        WHERE i.id IN :itemIds
+    """)
+    List<UUID> findScopeIdsByItemIds(@Param("itemIds") Collection<UUID> itemIds);
+
+    @Modifying
+    @Transactional
+    @Query(value = "UPDATE item i " + SET_ITEM_PROPERTY + """
+            WHERE i.scope_id = :scopeId
+            AND i.id IN :itemIds
+            """, nativeQuery = true)
+    int updatePropertyByScopeIdAndItemIds(
+            @Param("scopeId") UUID scopeId,
+            @Param("itemIds") Collection<UUID> itemIds,
+            @Param("targetColumn") int targetColumn,
+            @Param("targetHeader") String targetHeader,
+            @Param("newValue") String newValue
+    );
+
+    @Modifying
+    @Transactional
+    @Query(value = "UPDATE item i " + SET_ITEM_PROPERTY + """
+            WHERE i.scope_id = :scopeId
+            AND (:mappingId IS NULL OR NOT EXISTS (
+                SELECT 1 FROM mapped_item mi
+                WHERE mi.item_id = i.id AND mi.mapping_id = :mappingId
+            ))
+            AND\s""" + MATCHES_SEARCH, nativeQuery = true)
+    int updatePropertyByScopeId(
+            @Param("scopeId") UUID scopeId,
+            @Param("mappingId") UUID mappingId,
+            @Param("column") Integer column,
+            @Param("value") String value,
+            @Param("targetColumn") int targetColumn,
+            @Param("targetHeader") String targetHeader,
+            @Param("newValue") String newValue
+    );
+
+    @Query(value = """
+            SELECT COALESCE(MAX(i.line_number) + 1, 0) FROM item i
+            WHERE i.scope_id = :scopeId
+            """, nativeQuery = true)
+    long findLineNumberBoundByScopeId(@Param("scopeId") UUID scopeId);
+
+    @Modifying
+    @Transactional
+    @Query(value = """
+        DELETE FROM item
+        WHERE id IN (
+            SELECT i.id FROM item i
+            WHERE i.scope_id = :scopeId
+            LIMIT :limit
+        )
+        """, nativeQuery = true)
+    int deleteChunkByScopeId(@Param("scopeId") UUID scopeId, @Param("limit") int limit);
+
 }
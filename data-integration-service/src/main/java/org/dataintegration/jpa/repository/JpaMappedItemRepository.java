@@ -2,6 +2,7 @@ package org.dataintegration.jpa.repository;
 
 import jakarta.transaction.Transactional;
 import org.dataintegration.jpa.entity.MappedItemEntity;
+import org.dataintegration.model.ItemMappingModel;
 import org.dataintegration.model.ItemStatusModel;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
@@ -10,13 +11,17 @@ import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.UUID;
 
 public interface JpaMappedItemRepository extends JpaRepository<MappedItemEntity, UUID> {
 
-    @SuppressWarnings("checkstyle:MethodName")
-    List<MappedItemEntity> findAllByItem_Id(UUID itemId);
+    @Query("""
+        SELECT new org.dataintegration.model.ItemMappingModel(mi.item.id, mi.mapping.id) FROM MappedItemEntity mi
+        WHERE mi.item.id IN :itemIds
+    """)
+    List<ItemMappingModel> findAllItemMappingsByItemIds(@Param("itemIds") Collection<UUID> itemIds);
 
     @SuppressWarnings("checkstyle:MethodName")
     Page<MappedItemEntity> findAllByMapping_Id(UUID mappingId, Pageable pageable);
@@ -24,22 +29,88 @@ public interface JpaMappedItemRepository extends JpaRepository<MappedItemEntity,
     @SuppressWarnings("checkstyle:MethodName")
     Page<MappedItemEntity> findAllByMapping_IdAndStatusNot(UUID mappingId, ItemStatusModel itemStatus, Pageable pageable);
 
-    @Modifying
-    @Transactional
     @Query("""
-        UPDATE MappedItemEntity
-        SET status = :itemStatus
-        WHERE id IN :mappedItemId
+        SELECT mi FROM MappedItemEntity mi
+        WHERE mi.mapping.id = :mappingId
+        AND (:excludedStatus IS NULL OR mi.status <> :excludedStatus)
+        AND (:afterLineNumber IS NULL
+            OR mi.item.lineNumber > :afterLineNumber
+            OR (mi.item.lineNumber = :afterLineNumber AND mi.id > :afterId))
+        ORDER BY mi.item.lineNumber, mi.id
     """)
-    void updateStatusById(@Param("mappedItemId") UUID mappedItemId, @Param("itemStatus") ItemStatusModel itemStatus);
+    List<MappedItemEntity> findAllByMappingIdAfter(@Param("mappingId") UUID mappingId,
+                                                   @Param("excludedStatus") ItemStatusModel excludedStatus,
+                                                   @Param("afterLineNumber") Long afterLineNumber,
+                                                   @Param("afterId") UUID afterId,
+                                                   Pageable pageable);
 
-    @Modifying
-    @Transactional
     @Query("""
-        UPDATE MappedItemEntity
-        SET errorMessages = :errorMessages
-        WHERE id IN :mappedItemId
+        SELECT COUNT(mi) FROM MappedItemEntity mi
+        WHERE mi.mapping.id = :mappingId
+        AND (:excludedStatus IS NULL OR mi.status <> :excludedStatus)
     """)
-    void updateErrorMessagesById(@Param("mappedItemId") UUID mappedItemId, @Param("errorMessages") List<String> errorMessages);
+    long countAllByMappingId(@Param("mappingId") UUID mappingId, @Param("excludedStatus") ItemStatusModel excludedStatus);
+
+    @Modifying
+    @Transactional
+    @Query(value = """
+            INSERT INTO mapped_item (id, status, item_id, mapping_id)
+            SELECT gen_random_uuid(), 'MAPPED', i.id, :mappingId
+            FROM item i
+            WHERE i.scope_id = :scopeId
+            AND i.id IN :itemIds
+            ON CONFLICT (item_id, mapping_id) DO NOTHING
+            """, nativeQuery = true)
+    int insertAllByScopeIdAndItemIds(
+            @Param("scopeId") UUID scopeId,
+            @Param("mappingId") UUID mappingId,
+            @Param("itemIds") Collection<UUID> itemIds
+    );
+
+    @Modifying
+    @Transactional
+    @Query(value = """
+            INSERT INTO mapped_item (id, status, item_id, mapping_id)
+            SELECT gen_random_uuid(), 'MAPPED', i.id, :mappingId
+            FROM item i
+            WHERE i.scope_id = :scopeId
+            AND i.line_number >= :fromLineNumber
+            AND i.line_number < :toLineNumber
+            AND\s""" + JpaItemRepository.MATCHES_SEARCH + """
+            ON CONFLICT (item_id, mapping_id) DO NOTHING
+            """, nativeQuery = true)
+    int insertAllByScopeIdAndLineNumberRange(
+            @Param("scopeId") UUID scopeId,
+            @Param("mappingId") UUID mappingId,
+            @Param("column") Integer column,
+            @Param("value") String value,
+            @Param("fromLineNumber") long fromLineNumber,
+            @Param("toLineNumber") long toLineNumber
+    );
+
+    @Modifying
+    @Transactional
+    @Query(value = """
+        DELETE FROM mapped_item
+        WHERE id IN (
+            SELECT mi.id FROM mapped_item mi
+            JOIN mapping m ON m.id = mi.mapping_id
+            WHERE m.scope_id = :scopeId
+            LIMIT :limit
+        )
+        """, nativeQuery = true)
+    int deleteChunkByScopeId(@Param("scopeId") UUID scopeId, @Param("limit") int limit);
+
+    @Modifying
+    @Transactional
+    @Query(value = """
+        DELETE FROM mapped_item
+        WHERE id IN (
+            SELECT mi.id FROM mapped_item mi
+            WHERE mi.mapping_id = :mappingId
+            LIMIT :limit
+        )
+        """, nativeQuery = true)
+    int deleteChunkByMappingId(@Param("mappingId") UUID mappingId, @Param("limit") int limit);
 
 }
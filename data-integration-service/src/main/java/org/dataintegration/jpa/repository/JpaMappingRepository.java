@@ -25,4 +25,25 @@ public interface JpaMappingRepository extends JpaRepository<MappingEntity, UUID>
     """)
     void markForDeletion(@Param("mappingId") UUID mappingId);
 
+    @Query("""
+        SELECT m.id FROM MappingEntity m
+        WHERE m.delete = true
+            AND m.scope.delete = false
+    """)
+    List<UUID> findAllIdsMarkedForDeletion();
+
+    @Query("""
+        SELECT m.id FROM MappingEntity m
+        WHERE m.scope.id = :scopeId
+    """)
+    List<UUID> findAllIdsByScopeId(@Param("scopeId") UUID scopeId);
+
+    @Modifying
+    @Transactional
+    @Query(value = """
+        DELETE FROM mapping
+        WHERE scope_id = :scopeId
+        """, nativeQuery = true)
+    int deleteAllByScopeId(@Param("scopeId") UUID scopeId);
+
 }
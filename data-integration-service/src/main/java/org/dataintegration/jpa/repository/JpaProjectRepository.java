@@ -29,4 +29,13 @@ public interface JpaProjectRepository extends JpaRepository<ProjectEntity, UUID>
 
     Page<ProjectEntity> findAllByCreatedByAndDeleteFalse(String createdBy, Pageable pageable);
 
+    @Modifying
+    @Transactional
+    @Query(value = """
+        DELETE FROM project p
+        WHERE p.delete = true
+            AND NOT EXISTS (SELECT 1 FROM scope s WHERE s.project_id = p.id)
+        """, nativeQuery = true)
+    int deleteAllMarkedForDeletionWithoutScopes();
+
 }
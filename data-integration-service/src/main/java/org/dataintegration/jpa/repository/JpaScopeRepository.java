@@ -52,4 +52,10 @@ public interface JpaScopeRepository extends JpaRepository<ScopeEntity, UUID> {
     @SuppressWarnings("checkstyle:MethodName")
     Optional<ScopeEntity> findByIdAndDeleteFalse(UUID scopeId);
 
+    @Query("""
+        SELECT s.id FROM ScopeEntity s
+        WHERE s.delete = true
+    """)
+    List<UUID> findAllIdsMarkedForDeletion();
+
 }
@@ -3,10 +3,12 @@ package org.dataintegration.mapper;
 import org.dataintegration.jpa.entity.ItemEntity;
 import org.dataintegration.model.ItemModel;
 import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
 import org.mapstruct.ReportingPolicy;
 
 @Mapper(unmappedTargetPolicy = ReportingPolicy.IGNORE)
 public interface ItemMapper {
+    @Mapping(target = "properties", ignore = true)
     ItemModel itemEntityToItem(ItemEntity itemEntity);
 
 }
@@ -6,6 +6,7 @@ import lombok.Data;
 import lombok.NoArgsConstructor;
 import org.dataintegration.jpa.entity.ItemEntity;
 
+import java.util.BitSet;
 import java.util.List;
 import java.util.UUID;
 
@@ -20,7 +21,10 @@ public class BatchProcessingModel {
     private String scopeKey;
     private long batchIndex;
     private int batchSize;
+    private long startOffset;
+    private long endOffset;
 
     private List<ItemEntity> batch;
+    private BitSet processedBatches;
 
 }
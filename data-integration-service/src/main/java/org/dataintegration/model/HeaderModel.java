@@ -17,6 +17,7 @@ public class HeaderModel {
     private String id;
     private String display;
     private boolean hidden;
+    private Integer column;
 
     public HeaderModel(String id) {
         this.id = id + "_" + UUID.randomUUID();
@@ -0,0 +1,24 @@
+package org.dataintegration.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.Duration;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class HostClientConfigModel {
+
+    private int maxConnections;
+    private Duration pendingAcquireTimeout;
+    private Duration maxIdleTime;
+    private Duration connectTimeout;
+    private Duration responseTimeout;
+    private boolean compression;
+    private boolean http2;
+
+}
@@ -0,0 +1,19 @@
+package org.dataintegration.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.Duration;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class HostHeadersConfigModel {
+
+    private Duration ttl;
+    private Duration maxStale;
+
+}
@@ -0,0 +1,19 @@
+package org.dataintegration.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class HostHeadersModel {
+
+    private DataIntegrationHeaderAPIModel headers;
+    private Instant fetchedDate;
+
+}
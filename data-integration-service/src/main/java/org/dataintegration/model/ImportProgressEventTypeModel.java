@@ -0,0 +1,10 @@
+package org.dataintegration.model;
+
+public enum ImportProgressEventTypeModel {
+    STATUS,
+    ATTEMPT_STARTED,
+    BATCH_COMPLETED,
+    BATCH_FAILED,
+    FINISHED,
+    FAILED
+}
@@ -0,0 +1,25 @@
+package org.dataintegration.model;
+
+import lombok.Getter;
+import org.dataintegration.usecase.model.ImportProgressEventResponseModel;
+import reactor.core.publisher.Sinks;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+@Getter
+public class ImportProgressModel {
+
+    private final boolean external;
+    private final AtomicLong batchesProcessed;
+    private final AtomicLong totalBatches;
+    private final AtomicInteger attempt = new AtomicInteger();
+    private final Sinks.Many<ImportProgressEventResponseModel> events = Sinks.many().multicast().directBestEffort();
+
+    public ImportProgressModel(boolean external, long batchesProcessed, long totalBatches) {
+        this.external = external;
+        this.batchesProcessed = new AtomicLong(batchesProcessed);
+        this.totalBatches = new AtomicLong(totalBatches);
+    }
+
+}
@@ -0,0 +1,29 @@
+package org.dataintegration.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+import java.util.UUID;
+
+@Data
+@Builder(toBuilder = true)
+@NoArgsConstructor
+@AllArgsConstructor
+public class MappingJobModel {
+
+    private UUID id;
+    private UUID projectId;
+    private UUID mappingId;
+    private MappingJobTypeModel type;
+    private MappingJobStatusModel status;
+    private long total;
+    private long processed;
+    private long succeeded;
+    private long failed;
+    private String errorMessage;
+    private Instant finishedDate;
+
+}
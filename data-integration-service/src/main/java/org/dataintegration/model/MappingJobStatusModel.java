@@ -0,0 +1,7 @@
+package org.dataintegration.model;
+
+public enum MappingJobStatusModel {
+    RUNNING,
+    FINISHED,
+    FAILED
+}
@@ -0,0 +1,17 @@
+package org.dataintegration.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class MappingPlanModel {
+
+    private String[] targets;
+    private int[] sourceColumns;
+
+}
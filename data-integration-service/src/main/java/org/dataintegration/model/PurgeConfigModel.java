@@ -0,0 +1,20 @@
+package org.dataintegration.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.Duration;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class PurgeConfigModel {
+
+    private boolean enabled;
+    private int chunkSize;
+    private Duration pause;
+
+}
@@ -0,0 +1,26 @@
+package org.dataintegration.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+
+@Data
+@Builder(toBuilder = true)
+@NoArgsConstructor
+@AllArgsConstructor
+public class PurgeStatusModel {
+
+    private boolean running;
+    private Instant startedDate;
+    private Instant finishedDate;
+    private long purgedProjects;
+    private long purgedScopes;
+    private long purgedMappings;
+    private long deletedRows;
+    private long droppedPartitions;
+    private String errorMessage;
+
+}
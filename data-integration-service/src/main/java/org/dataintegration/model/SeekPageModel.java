@@ -0,0 +1,22 @@
+package org.dataintegration.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+import java.util.UUID;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class SeekPageModel<T> {
+
+    private List<T> content;
+    private Long nextLineNumber;
+    private UUID nextId;
+    private Long totalElements;
+
+}
@@ -1,11 +1,18 @@
 package org.dataintegration.model.cache;
 
 import lombok.Getter;
+import org.dataintegration.model.HostHeadersKeyModel;
+import org.dataintegration.model.HostHeadersModel;
+import org.dataintegration.model.ImportProgressModel;
+import org.dataintegration.model.MappingJobModel;
+import org.dataintegration.model.PurgeStatusModel;
 import org.springframework.stereotype.Component;
 
+import java.util.Map;
 import java.util.Set;
 import java.util.UUID;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReference;
 
 @Component
 @Getter
@@ -14,5 +21,11 @@ public class DataIntegrationCache {
     private final Set<UUID> interruptingScopes = ConcurrentHashMap.newKeySet();
     private final Set<UUID> processingScopes = ConcurrentHashMap.newKeySet();
     private final Set<UUID> markedForDeletionScopes = ConcurrentHashMap.newKeySet();
+    private final Map<UUID, ImportProgressModel> importProgress = new ConcurrentHashMap<>();
+    private final Map<UUID, MappingJobModel> mappingJobs = new ConcurrentHashMap<>();
+    private final Set<UUID> integratingMappings = ConcurrentHashMap.newKeySet();
+    private final Map<HostHeadersKeyModel, HostHeadersModel> hostHeaders = new ConcurrentHashMap<>();
+    private final Set<HostHeadersKeyModel> refreshingHostHeaders = ConcurrentHashMap.newKeySet();
+    private final AtomicReference<PurgeStatusModel> purgeStatus = new AtomicReference<>(PurgeStatusModel.builder().build());
 
 }
@@ -6,10 +6,13 @@ import org.dataintegration.jpa.entity.CheckpointEntity;
 import org.dataintegration.jpa.entity.ScopeEntity;
 import org.dataintegration.jpa.repository.JpaCheckpointBatchRepository;
 import org.dataintegration.jpa.repository.JpaCheckpointRepository;
+import org.dataintegration.model.ImportProgressModel;
 import org.dataintegration.model.cache.DataIntegrationCache;
 import org.dataintegration.usecase.model.CurrentCheckpointStatusResponseModel;
 import org.springframework.stereotype.Service;
 
+import java.util.BitSet;
+import java.util.Optional;
 import java.util.UUID;
 
 /**
@@ -22,30 +25,42 @@ public class CheckpointsService {
     private final JpaCheckpointRepository jpaCheckpointRepository;
     private final JpaCheckpointBatchRepository jpaCheckpointBatchRepository;
     private final DataIntegrationCache dataIntegrationCache;
+    private final ImportProgressService importProgressService;
 
     /**
      * Create or get batch size from checkpoint entity by scope entity. Also creates or gets checkpoint entity by scope entity.
+     * A new checkpoint starts without total batches, they are discovered while streaming (see {@link #updateTotalBatches}).
      *
      * @param scopeEntity {@link ScopeEntity}
-     * @param lineCount line count (current line)
      * @param batchSize batch size (size of a batch)
      * @return batch size (either from database (checkpoint entity) if already exists or the inputted batch size when creating)
      */
-    public int createOrGetBatchSize(ScopeEntity scopeEntity, long lineCount, int batchSize) {
+    public int createOrGetBatchSize(ScopeEntity scopeEntity, int batchSize) {
         return jpaCheckpointRepository.findByScope_Id(scopeEntity.getId())
                 .map(CheckpointEntity::getBatchSize)
                 .orElseGet(() -> {
                     final CheckpointEntity checkpointEntity = new CheckpointEntity();
                     checkpointEntity.setScope(scopeEntity);
                     checkpointEntity.setBatchSize(batchSize);
-                    checkpointEntity.setTotalBatches((long) Math.ceil((double) lineCount / batchSize));
+                    checkpointEntity.setTotalBatches(0);
                     jpaCheckpointRepository.save(checkpointEntity);
                     return batchSize;
                 });
     }
 
+    /**
+     * Raise total batches of the checkpoint by scope id, a lower value than the current one is ignored.
+     *
+     * @param scopeId scope id from {@link ScopeEntity}
+     * @param totalBatches total batches (highest batch index sealed so far)
+     */
+    public void updateTotalBatches(UUID scopeId, long totalBatches) {
+        jpaCheckpointRepository.updateTotalBatches(scopeId, totalBatches);
+    }
+
     /**
      * Get current checkpoint status by scope entity.
+     * While the scope is imported on this instance, the progress is taken from memory instead of counting the checkpoint batches.
      *
      * @param scopeEntity {@link ScopeEntity}
      * @return {@link CurrentCheckpointStatusResponseModel} check code to see possibilities of different statuses
@@ -55,8 +70,11 @@ public class CheckpointsService {
         long batchesProcessed = isInterrupted ? 0 : -1;
         long totalBatches = isInterrupted ? 0 : -1;
         if (scopeEntity.getCheckpoint() != null) {
-            batchesProcessed = jpaCheckpointBatchRepository.countBatchIndexByScopeId(scopeEntity.getId());
-            totalBatches = scopeEntity.getCheckpoint().getTotalBatches();
+            final Optional<ImportProgressModel> importProgress = importProgressService.get(scopeEntity.getId());
+            batchesProcessed = importProgress.map(progress -> progress.getBatchesProcessed().get())
+                    .orElseGet(() -> jpaCheckpointBatchRepository.countBatchIndexByScopeId(scopeEntity.getId()));
+            totalBatches = importProgress.map(progress -> progress.getTotalBatches().get())
+                    .orElseGet(() -> scopeEntity.getCheckpoint().getTotalBatches());
         }
         return CurrentCheckpointStatusResponseModel.builder()
                 .batchesProcessed(batchesProcessed)
@@ -68,14 +86,27 @@ public class CheckpointsService {
     }
 
     /**
-     * Checks if a batch is already processed by scope id and the batch index.
+     * Get all already processed batches by scope id with a single query.
+     *
+     * @param scopeId scope id from {@link ScopeEntity}
+     * @return {@link BitSet} with a bit set for each processed batch index
+     */
+    public BitSet getProcessedBatches(UUID scopeId) {
+        final BitSet processedBatches = new BitSet();
+        jpaCheckpointBatchRepository.findBatchIndicesByScopeId(scopeId)
+                .forEach(batchIndex -> processedBatches.set(Math.toIntExact(batchIndex)));
+        return processedBatches;
+    }
+
+    /**
+     * Get the byte offset where a processed batch ends by scope id and batch index.
      *
      * @param scopeId scope id from {@link ScopeEntity}
      * @param batchIndex batch index (counter for each batch)
-     * @return true if that batch is already processed and false if not
+     * @return byte offset in the source file, empty if the batch is not processed or was processed without offsets
      */
-    public boolean isBatchAlreadyProcessed(UUID scopeId, long batchIndex) {
-        return jpaCheckpointBatchRepository.existsByCheckpoint_ScopeIdAndBatchIndex(scopeId, batchIndex);
+    public Optional<Long> getBatchEndOffset(UUID scopeId, long batchIndex) {
+        return jpaCheckpointBatchRepository.findEndOffsetByScopeIdAndBatchIndex(scopeId, batchIndex);
     }
 
     /**
@@ -0,0 +1,104 @@
+package org.dataintegration.service;
+
+import io.netty.channel.ChannelOption;
+import jakarta.annotation.PreDestroy;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.dataintegration.jpa.entity.HostEntity;
+import org.dataintegration.model.HostClientConfigModel;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
+import org.springframework.stereotype.Service;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.netty.http.HttpProtocol;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
+
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Service for the web clients of the hosts. Every host gets one {@link WebClient} with its own connection pool, so connections
+ * to a host are reused across header and integration requests instead of opening a new pool per request. The client of a host
+ * is dropped and its pool disposed when the host is updated or deleted.
+ */
+@Service
+@RequiredArgsConstructor
+public class HostClientsService {
+
+    private final HostClientConfigModel hostClientConfig;
+    private final Map<UUID, HostClient> hostClients = new ConcurrentHashMap<>();
+
+    /**
+     * Get the pooled web client of a host. A client that was created for a different base url is replaced.
+     *
+     * @param host {@link HostEntity}
+     * @return {@link WebClient} with the base url of the host
+     */
+    public WebClient getWebClient(HostEntity host) {
+        return hostClients.compute(host.getId(), (hostId, hostClient) -> {
+            if (hostClient != null && hostClient.getBaseUrl().equals(host.getBaseUrl())) {
+                return hostClient;
+            }
+            if (hostClient != null) {
+                hostClient.dispose();
+            }
+            return createHostClient(host);
+        }).getWebClient();
+    }
+
+    /**
+     * Drop the web client of a host and dispose its connection pool.
+     *
+     * @param hostId host id
+     */
+    public void invalidate(UUID hostId) {
+        final HostClient hostClient = hostClients.remove(hostId);
+        if (hostClient != null) {
+            hostClient.dispose();
+        }
+    }
+
+    /**
+     * Dispose the connection pools of all hosts on shutdown.
+     */
+    @PreDestroy
+    public void destroy() {
+        hostClients.keySet().forEach(this::invalidate);
+    }
+
+    private HostClient createHostClient(HostEntity host) {
+        final ConnectionProvider connectionProvider = ConnectionProvider.builder("host-" + host.getId())
+                .maxConnections(hostClientConfig.getMaxConnections())
+                .pendingAcquireTimeout(hostClientConfig.getPendingAcquireTimeout())
+                .maxIdleTime(hostClientConfig.getMaxIdleTime())
+                .build();
+        final HttpClient httpClient = HttpClient.create(connectionProvider)
+                .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, (int) hostClientConfig.getConnectTimeout().toMillis())
+                .responseTimeout(hostClientConfig.getResponseTimeout())
+                .compress(hostClientConfig.isCompression())
+                .protocol(hostClientConfig.isHttp2()
+                        ? new HttpProtocol[]{HttpProtocol.H2, HttpProtocol.HTTP11}
+                        : new HttpProtocol[]{HttpProtocol.HTTP11});
+        final WebClient webClient = WebClient.builder()
+                .baseUrl(host.getBaseUrl())
+                .clientConnector(new ReactorClientHttpConnector(httpClient))
+                .build();
+        return new HostClient(host.getBaseUrl(), connectionProvider, webClient);
+    }
+
+    @Getter
+    @RequiredArgsConstructor
+    private static class HostClient {
+
+        private final String baseUrl;
+        private final ConnectionProvider connectionProvider;
+        private final WebClient webClient;
+
+        void dispose() {
+            connectionProvider.disposeLater().subscribe();
+        }
+
+    }
+
+}
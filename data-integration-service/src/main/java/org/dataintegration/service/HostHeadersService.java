@@ -0,0 +1,101 @@
+package org.dataintegration.service;
+
+import lombok.RequiredArgsConstructor;
+import org.dataintegration.model.DataIntegrationHeaderAPIModel;
+import org.dataintegration.model.HostHeadersConfigModel;
+import org.dataintegration.model.HostHeadersKeyModel;
+import org.dataintegration.model.HostHeadersModel;
+import org.dataintegration.model.cache.DataIntegrationCache;
+import org.springframework.stereotype.Service;
+
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * Service for the cached headers of the hosts, per host and language. Cached headers are fresh for the configured ttl, after
+ * that they are still served but should be refreshed in the background. Headers older than the configured max stale are not
+ * served anymore and have to be fetched again.
+ */
+@Service
+@RequiredArgsConstructor
+public class HostHeadersService {
+
+    private final DataIntegrationCache dataIntegrationCache;
+    private final HostHeadersConfigModel hostHeadersConfig;
+
+    /**
+     * Get cached headers of a host.
+     *
+     * @param hostId   host id
+     * @param language language
+     * @return cached {@link DataIntegrationHeaderAPIModel} or null, if there are none or they are older than max stale
+     */
+    public DataIntegrationHeaderAPIModel get(UUID hostId, String language) {
+        final HostHeadersKeyModel key = createKey(hostId, language);
+        final HostHeadersModel hostHeaders = dataIntegrationCache.getHostHeaders().get(key);
+        if (hostHeaders == null) {
+            return null;
+        }
+        if (hostHeaders.getFetchedDate().isBefore(Instant.now().minus(hostHeadersConfig.getMaxStale()))) {
+            dataIntegrationCache.getHostHeaders().remove(key, hostHeaders);
+            return null;
+        }
+        return hostHeaders.getHeaders();
+    }
+
+    /**
+     * Mark cached headers of a host as refreshing, if they are older than the ttl and not already refreshing.
+     *
+     * @param hostId   host id
+     * @param language language
+     * @return true if the caller should refresh the headers, otherwise false
+     */
+    public boolean startRefresh(UUID hostId, String language) {
+        final HostHeadersKeyModel key = createKey(hostId, language);
+        final HostHeadersModel hostHeaders = dataIntegrationCache.getHostHeaders().get(key);
+        return hostHeaders != null
+                && hostHeaders.getFetchedDate().isBefore(Instant.now().minus(hostHeadersConfig.getTtl()))
+                && dataIntegrationCache.getRefreshingHostHeaders().add(key);
+    }
+
+    /**
+     * Unmark headers of a host as refreshing.
+     *
+     * @param hostId   host id
+     * @param language language
+     */
+    public void finishRefresh(UUID hostId, String language) {
+        dataIntegrationCache.getRefreshingHostHeaders().remove(createKey(hostId, language));
+    }
+
+    /**
+     * Cache fetched headers of a host.
+     *
+     * @param hostId   host id
+     * @param language language
+     * @param headers  fetched {@link DataIntegrationHeaderAPIModel}
+     */
+    public void put(UUID hostId, String language, DataIntegrationHeaderAPIModel headers) {
+        dataIntegrationCache.getHostHeaders().put(createKey(hostId, language), HostHeadersModel.builder()
+                .headers(headers)
+                .fetchedDate(Instant.now())
+                .build());
+    }
+
+    /**
+     * Remove all cached headers of a host.
+     *
+     * @param hostId host id
+     */
+    public void evict(UUID hostId) {
+        dataIntegrationCache.getHostHeaders().keySet().removeIf(key -> key.getHostId().equals(hostId));
+    }
+
+    private static HostHeadersKeyModel createKey(UUID hostId, String language) {
+        return HostHeadersKeyModel.builder()
+                .hostId(hostId)
+                .language(language)
+                .build();
+    }
+
+}
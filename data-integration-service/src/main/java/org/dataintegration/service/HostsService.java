@@ -13,6 +13,7 @@ import org.dataintegration.model.DataIntegrationHeaderDataAPIModel;
 import org.springframework.stereotype.Service;
 
 import java.util.List;
+import java.util.Objects;
 import java.util.UUID;
 
 /**
@@ -25,6 +26,8 @@ public class HostsService {
     private final JpaHostRepository jpaHostRepository;
     private final JpaDatabaseRepository jpaDatabaseRepository;
     private final UrlService urlService;
+    private final HostClientsService hostClientsService;
+    private final HostHeadersService hostHeadersService;
 
     /**
      * Create or update host.
@@ -42,17 +45,22 @@ public class HostsService {
         if (!urlService.isDomainValid(hostEntity.getBaseUrl())) {
             throw new HostDomainValidationException();
         }
-        return jpaHostRepository.save(hostEntity);
+        final HostEntity savedHostEntity = jpaHostRepository.save(hostEntity);
+        hostClientsService.invalidate(savedHostEntity.getId());
+        hostHeadersService.evict(savedHostEntity.getId());
+        return savedHostEntity;
     }
 
     /**
-     * Update headers by host id.
+     * Update headers of host, if they differ from the stored headers.
      *
-     * @param hostId host id
+     * @param hostEntity {@link HostEntity}
      * @param headers headers
      */
-    public void updateHeadersByHostId(UUID hostId, List<DataIntegrationHeaderDataAPIModel> headers) {
-        jpaHostRepository.updateHeadersByHostId(hostId, headers);
+    public void updateHeaders(HostEntity hostEntity, List<DataIntegrationHeaderDataAPIModel> headers) {
+        if (!Objects.equals(hostEntity.getHeaders(), headers)) {
+            jpaHostRepository.updateHeadersByHostId(hostEntity.getId(), headers);
+        }
     }
 
     /**
@@ -95,6 +103,8 @@ public class HostsService {
      */
     public void deleteHost(UUID hostId) {
         jpaHostRepository.deleteById(hostId);
+        hostClientsService.invalidate(hostId);
+        hostHeadersService.evict(hostId);
     }
 
 }
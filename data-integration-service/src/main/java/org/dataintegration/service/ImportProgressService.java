@@ -0,0 +1,152 @@
+package org.dataintegration.service;
+
+import lombok.RequiredArgsConstructor;
+import org.dataintegration.model.ImportProgressEventTypeModel;
+import org.dataintegration.model.ImportProgressModel;
+import org.dataintegration.model.cache.DataIntegrationCache;
+import org.dataintegration.usecase.model.CurrentCheckpointStatusResponseModel;
+import org.dataintegration.usecase.model.ImportProgressEventResponseModel;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Service for the progress of imports running on this instance. Progress is counted in memory and published as events to
+ * every subscriber of the scope, so clients do not have to poll the checkpoint status. Slow subscribers miss events instead
+ * of slowing down the batches, every event carries the complete status.
+ */
+@Service
+@RequiredArgsConstructor
+public class ImportProgressService {
+
+    private final DataIntegrationCache dataIntegrationCache;
+
+    /**
+     * Start tracking the progress of an import.
+     *
+     * @param scopeId          scope id
+     * @param external         whether the scope is external
+     * @param batchesProcessed batches already processed by previous imports
+     * @param totalBatches     total batches known so far
+     */
+    public void start(UUID scopeId, boolean external, long batchesProcessed, long totalBatches) {
+        dataIntegrationCache.getImportProgress().put(scopeId, new ImportProgressModel(external, batchesProcessed, totalBatches));
+    }
+
+    /**
+     * Get the progress of a running import.
+     *
+     * @param scopeId scope id
+     * @return {@link ImportProgressModel}, empty if the scope is not imported on this instance
+     */
+    public Optional<ImportProgressModel> get(UUID scopeId) {
+        return Optional.ofNullable(dataIntegrationCache.getImportProgress().get(scopeId));
+    }
+
+    /**
+     * Publish the start of an import attempt.
+     *
+     * @param scopeId scope id
+     * @param attempt attempt, starting at 1
+     */
+    public void startAttempt(UUID scopeId, int attempt) {
+        get(scopeId).ifPresent(importProgress -> {
+            importProgress.getAttempt().set(attempt);
+            emit(importProgress, ImportProgressEventTypeModel.ATTEMPT_STARTED, null, null);
+        });
+    }
+
+    /**
+     * Raise the total batches of a running import, a lower value than the current one is ignored.
+     *
+     * @param scopeId      scope id
+     * @param totalBatches total batches (highest batch index sealed so far)
+     */
+    public void updateTotalBatches(UUID scopeId, long totalBatches) {
+        get(scopeId).ifPresent(importProgress -> importProgress.getTotalBatches().accumulateAndGet(totalBatches, Math::max));
+    }
+
+    /**
+     * Count and publish a completed batch.
+     *
+     * @param scopeId    scope id
+     * @param batchIndex batch index
+     */
+    public void completeBatch(UUID scopeId, long batchIndex) {
+        get(scopeId).ifPresent(importProgress -> {
+            importProgress.getBatchesProcessed().incrementAndGet();
+            emit(importProgress, ImportProgressEventTypeModel.BATCH_COMPLETED, batchIndex, null);
+        });
+    }
+
+    /**
+     * Publish a failed batch.
+     *
+     * @param scopeId    scope id
+     * @param batchIndex batch index
+     * @param message    error message
+     */
+    public void failBatch(UUID scopeId, long batchIndex, String message) {
+        get(scopeId).ifPresent(importProgress ->
+                emit(importProgress, ImportProgressEventTypeModel.BATCH_FAILED, batchIndex, message));
+    }
+
+    /**
+     * Publish the end of an import, complete the event stream and stop tracking the progress.
+     *
+     * @param scopeId scope id
+     * @param success whether the import finished successfully
+     */
+    public void finish(UUID scopeId, boolean success) {
+        final ImportProgressModel importProgress = dataIntegrationCache.getImportProgress().remove(scopeId);
+        if (importProgress != null) {
+            emit(importProgress, success ? ImportProgressEventTypeModel.FINISHED : ImportProgressEventTypeModel.FAILED, null, null);
+            synchronized (importProgress) {
+                importProgress.getEvents().tryEmitComplete();
+            }
+        }
+    }
+
+    /**
+     * Get the events of a running import, starting with its current status.
+     *
+     * @param scopeId scope id
+     * @return {@link Flux} of {@link ImportProgressEventResponseModel}, empty if the scope is not imported on this instance
+     */
+    public Flux<ImportProgressEventResponseModel> getEvents(UUID scopeId) {
+        return get(scopeId)
+                .map(importProgress -> importProgress.getEvents().asFlux()
+                        .startWith(createEvent(importProgress, ImportProgressEventTypeModel.STATUS, null, null)))
+                .orElseGet(Flux::empty);
+    }
+
+    private void emit(ImportProgressModel importProgress, ImportProgressEventTypeModel type, Long batchIndex, String message) {
+        final ImportProgressEventResponseModel event = createEvent(importProgress, type, batchIndex, message);
+        // batches complete on several threads, but a sink only accepts one emitter at a time
+        synchronized (importProgress) {
+            importProgress.getEvents().tryEmitNext(event);
+        }
+    }
+
+    private static ImportProgressEventResponseModel createEvent(ImportProgressModel importProgress,
+                                                                ImportProgressEventTypeModel type, Long batchIndex,
+                                                                String message) {
+        final boolean ended = type == ImportProgressEventTypeModel.FINISHED || type == ImportProgressEventTypeModel.FAILED;
+        return ImportProgressEventResponseModel.builder()
+                .type(type)
+                .attempt(importProgress.getAttempt().get())
+                .batchIndex(batchIndex)
+                .message(message)
+                .status(CurrentCheckpointStatusResponseModel.builder()
+                        .batchesProcessed(importProgress.getBatchesProcessed().get())
+                        .totalBatches(importProgress.getTotalBatches().get())
+                        .processing(!ended)
+                        .finished(type == ImportProgressEventTypeModel.FINISHED)
+                        .external(importProgress.isExternal())
+                        .build())
+                .build();
+    }
+
+}
@@ -2,13 +2,14 @@ package org.dataintegration.service;
 
 import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
-import org.dataintegration.jpa.entity.CheckpointBatchEntity;
 import org.dataintegration.jpa.entity.CheckpointEntity;
 import org.dataintegration.jpa.repository.JpaCheckpointBatchRepository;
 import org.dataintegration.jpa.repository.JpaItemRepository;
 import org.dataintegration.model.BatchProcessingModel;
 import org.springframework.stereotype.Service;
 
+import java.util.UUID;
+
 /**
  * Service for inserting item in batches.
  */
@@ -21,18 +22,22 @@ public class ItemBatchInsertService {
 
     /**
      * Insert a batch of items and also save to the corresponding checkpoint entity.
+     * The checkpoint batch is claimed first, so a batch that was already committed (e.g. a retry after a lost commit
+     * acknowledgement) is skipped instead of inserting its items again.
      *
      * @param batchProcessing {@link BatchProcessingModel} items are included in the batch processing model
      * @param checkpointEntity {@link CheckpointEntity}
+     * @return true if the batch was inserted, false if it was already committed before
      */
     @Transactional
-    public void insertBatch(BatchProcessingModel batchProcessing, CheckpointEntity checkpointEntity) {
+    public boolean insertBatch(BatchProcessingModel batchProcessing, CheckpointEntity checkpointEntity) {
+        final int claimed = jpaCheckpointBatchRepository.insertIfAbsent(UUID.randomUUID(), batchProcessing.getBatchIndex(),
+                batchProcessing.getStartOffset(), batchProcessing.getEndOffset(), checkpointEntity.getId());
+        if (claimed == 0) {
+            return false;
+        }
         jpaItemRepository.saveAll(batchProcessing.getBatch());
-
-        final CheckpointBatchEntity checkpointBatchEntity = new CheckpointBatchEntity();
-        checkpointBatchEntity.setBatchIndex(batchProcessing.getBatchIndex());
-        checkpointBatchEntity.setCheckpoint(checkpointEntity);
-        jpaCheckpointBatchRepository.save(checkpointBatchEntity);
+        return true;
     }
 
 }
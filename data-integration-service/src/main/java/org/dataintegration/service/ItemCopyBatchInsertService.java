@@ -0,0 +1,88 @@
+package org.dataintegration.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.transaction.Transactional;
+import lombok.RequiredArgsConstructor;
+import org.dataintegration.jpa.entity.CheckpointEntity;
+import org.dataintegration.jpa.entity.ItemEntity;
+import org.dataintegration.model.BatchProcessingModel;
+import org.postgresql.PGConnection;
+import org.postgresql.copy.CopyIn;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+
+import java.nio.charset.StandardCharsets;
+import java.sql.SQLException;
+import java.util.UUID;
+
+/**
+ * Service for inserting items in batches through the PostgreSQL COPY protocol.
+ * Bypasses the persistence context, so ids are generated up front and the checkpoint batch is written on the same connection.
+ */
+@Service
+@RequiredArgsConstructor
+public class ItemCopyBatchInsertService {
+
+    private static final String COPY_ITEM_SQL = "COPY item (id, line_number, cells, scope_id) FROM STDIN WITH (FORMAT csv)";
+    private static final String INSERT_CHECKPOINT_BATCH_SQL = """
+            INSERT INTO checkpoint_batch (id, batch_index, start_offset, end_offset, checkpoint_id) VALUES (?, ?, ?, ?, ?)
+            ON CONFLICT (checkpoint_id, batch_index) DO NOTHING
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ObjectMapper objectMapper;
+
+    /**
+     * Copy a batch of items into the item table and also save the corresponding checkpoint batch row.
+     * The checkpoint batch row is claimed first, so a batch that was already committed is skipped.
+     *
+     * @param batchProcessing {@link BatchProcessingModel} items are included in the batch processing model
+     * @param checkpointEntity {@link CheckpointEntity}
+     * @return true if the batch was inserted, false if it was already committed before
+     */
+    @Transactional
+    public boolean insertBatch(BatchProcessingModel batchProcessing, CheckpointEntity checkpointEntity) {
+        final int claimed = jdbcTemplate.update(INSERT_CHECKPOINT_BATCH_SQL, UUID.randomUUID(), batchProcessing.getBatchIndex(),
+                batchProcessing.getStartOffset(), batchProcessing.getEndOffset(), checkpointEntity.getId());
+        if (claimed == 0) {
+            return false;
+        }
+
+        jdbcTemplate.execute((ConnectionCallback<Long>) connection -> {
+            final CopyIn copyIn = connection.unwrap(PGConnection.class).getCopyAPI().copyIn(COPY_ITEM_SQL);
+            try {
+                for (ItemEntity itemEntity : batchProcessing.getBatch()) {
+                    final byte[] row = toCsvRow(itemEntity, batchProcessing.getScopeId());
+                    copyIn.writeToCopy(row, 0, row.length);
+                }
+                return copyIn.endCopy();
+            } finally {
+                if (copyIn.isActive()) {
+                    copyIn.cancelCopy();
+                }
+            }
+        });
+        return true;
+    }
+
+    private byte[] toCsvRow(ItemEntity itemEntity, UUID scopeId) throws SQLException {
+        if (itemEntity.getId() == null) {
+            itemEntity.setId(UUID.randomUUID());
+        }
+        final String cells;
+        try {
+            cells = objectMapper.writeValueAsString(itemEntity.getCells());
+        } catch (JsonProcessingException ex) {
+            throw new SQLException("Could not serialize cells of line " + itemEntity.getLineNumber(), ex);
+        }
+        final String row = itemEntity.getId() + "," + itemEntity.getLineNumber() + "," + quote(cells) + "," + scopeId + "\n";
+        return row.getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static String quote(String value) {
+        return "\"" + value.replace("\"", "\"\"") + "\"";
+    }
+
+}
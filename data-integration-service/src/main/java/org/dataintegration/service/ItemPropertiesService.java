@@ -0,0 +1,167 @@
+package org.dataintegration.service;
+
+import org.dataintegration.exception.runtime.HeaderNotFoundException;
+import org.dataintegration.jpa.entity.ItemEntity;
+import org.dataintegration.model.HeaderModel;
+import org.dataintegration.model.ItemPropertiesModel;
+import org.springframework.stereotype.Service;
+import org.springframework.util.StringUtils;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Service for item properties.
+ * Items store their values positionally in cells, where the position is the column of the scope header. Only the original
+ * values of edited cells are kept by header id.
+ */
+@Service
+public class ItemPropertiesService {
+
+    /**
+     * Create the cells of a new item.
+     *
+     * @param line    values of a csv line, in the same order as the headers
+     * @param headers headers of the scope
+     * @return {@link List} of cell values, indexed by header column
+     * @throws HeaderNotFoundException in case a header has no column
+     */
+    public List<String> createCells(String[] line, Collection<HeaderModel> headers) throws HeaderNotFoundException {
+        final List<String> cells = new ArrayList<>(headers.size());
+        int i = 0;
+        for (HeaderModel header : headers) {
+            final int column = getColumn(header);
+            while (cells.size() <= column) {
+                cells.add(null);
+            }
+            cells.set(column, line[i++]);
+        }
+        return cells;
+    }
+
+    /**
+     * Get header by header id.
+     *
+     * @param headers headers of the scope
+     * @param key     header id
+     * @return {@link HeaderModel}
+     * @throws HeaderNotFoundException in case the scope has no header with that id or the header has no column
+     */
+    public HeaderModel getHeader(Collection<HeaderModel> headers, String key) throws HeaderNotFoundException {
+        for (HeaderModel header : headers) {
+            if (header.getId().equals(key)) {
+                getColumn(header);
+                return header;
+            }
+        }
+        throw new HeaderNotFoundException("Header " + key + " not found.");
+    }
+
+    /**
+     * Get the column that is searched for by a search header.
+     *
+     * @param headers      headers of the scope
+     * @param searchHeader header id that is searched for, empty for a free text search
+     * @return column of the search header, or null if there is no search header or the scope has no such header
+     */
+    public Integer getSearchColumn(Collection<HeaderModel> headers, String searchHeader) {
+        if (!StringUtils.hasText(searchHeader)) {
+            return null;
+        }
+        return headers.stream()
+                .filter(header -> header.getId().equals(searchHeader))
+                .findFirst()
+                .map(HeaderModel::getColumn)
+                .orElse(null);
+    }
+
+    /**
+     * Get all properties of an item.
+     *
+     * @param itemEntity {@link ItemEntity}
+     * @param headers    headers of the scope
+     * @return {@link Map} where key is the header id and value is the {@link ItemPropertiesModel}, headers without a value
+     * are left out
+     */
+    public Map<String, ItemPropertiesModel> getProperties(ItemEntity itemEntity, Collection<HeaderModel> headers) {
+        final Map<String, ItemPropertiesModel> properties = new LinkedHashMap<>(headers.size());
+        for (HeaderModel header : headers) {
+            final ItemPropertiesModel itemProperties = getProperty(itemEntity, header);
+            if (itemProperties != null) {
+                properties.put(header.getId(), itemProperties);
+            }
+        }
+        return properties;
+    }
+
+    /**
+     * Get a single property of an item.
+     *
+     * @param itemEntity {@link ItemEntity}
+     * @param headers    headers of the scope
+     * @param key        header id
+     * @return {@link ItemPropertiesModel} or null if the header is unknown or the item has no value for it
+     */
+    public ItemPropertiesModel getProperty(ItemEntity itemEntity, Collection<HeaderModel> headers, String key) {
+        for (HeaderModel header : headers) {
+            if (header.getId().equals(key)) {
+                return getProperty(itemEntity, header);
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Update a single property of an item. The first value of a cell is kept as original value as long as the cell is edited.
+     *
+     * @param itemEntity {@link ItemEntity}
+     * @param header     {@link HeaderModel} of the property
+     * @param newValue   new value
+     * @throws HeaderNotFoundException in case the header has no column
+     */
+    public void updateProperty(ItemEntity itemEntity, HeaderModel header, String newValue) throws HeaderNotFoundException {
+        final int column = getColumn(header);
+        final List<String> cells = new ArrayList<>(itemEntity.getCells());
+        while (cells.size() <= column) {
+            cells.add(null);
+        }
+        final Map<String, String> originalValues = itemEntity.getOriginalValues() == null
+                ? new HashMap<>()
+                : new HashMap<>(itemEntity.getOriginalValues());
+        final String value = cells.set(column, newValue);
+        if (value != null) {
+            final String originalValue = originalValues.getOrDefault(header.getId(), value);
+            if (originalValue.equals(newValue)) {
+                originalValues.remove(header.getId());
+            } else {
+                originalValues.put(header.getId(), originalValue);
+            }
+        }
+        itemEntity.setCells(cells);
+        itemEntity.setOriginalValues(originalValues.isEmpty() ? null : originalValues);
+    }
+
+    private static int getColumn(HeaderModel header) throws HeaderNotFoundException {
+        if (header.getColumn() == null) {
+            throw new HeaderNotFoundException("Header " + header.getId() + " has no column.");
+        }
+        return header.getColumn();
+    }
+
+    private ItemPropertiesModel getProperty(ItemEntity itemEntity, HeaderModel header) {
+        final List<String> cells = itemEntity.getCells();
+        final Integer column = header.getColumn();
+        if (column == null || column >= cells.size() || cells.get(column) == null) {
+            return null;
+        }
+        return ItemPropertiesModel.builder()
+                .value(cells.get(column))
+                .originalValue(itemEntity.getOriginalValues() == null ? null : itemEntity.getOriginalValues().get(header.getId()))
+                .build();
+    }
+
+}
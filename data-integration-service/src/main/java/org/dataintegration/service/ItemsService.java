@@ -1,10 +1,12 @@
 package org.dataintegration.service;
 
+import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
+import org.dataintegration.exception.runtime.HeaderNotFoundException;
 import org.dataintegration.exception.runtime.ItemNotFoundException;
 import org.dataintegration.jpa.entity.ItemEntity;
 import org.dataintegration.jpa.repository.JpaItemRepository;
-import org.dataintegration.model.ItemPropertiesModel;
+import org.dataintegration.model.HeaderModel;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
@@ -12,9 +14,12 @@ import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 import org.springframework.util.StringUtils;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
-import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
 
 /**
@@ -24,7 +29,10 @@ import java.util.UUID;
 @RequiredArgsConstructor
 public class ItemsService {
 
+    private static final int BULK_CHUNK_SIZE = 1000;
+
     private final JpaItemRepository jpaItemRepository;
+    private final ItemPropertiesService itemPropertiesService;
 
     /**
      * Get all items paginated and filtered.
@@ -32,20 +40,20 @@ public class ItemsService {
      * @param scopeId      scope id, so the items fetched are only from that scope
      * @param mappingId    mapping id that will be used to filter already mapped items
      * @param filterMappedItems boolean to indicate if mapped items will be filtered out (true = will be filtered out)
-     * @param searchHeader the header that is searched for (if null or empty then it is a free text search across all headers)
+     * @param searchColumn column of the header that is searched for (if null then it is a free text search across all headers)
      * @param searchText   text that is searched for
      * @param pageable     {@link Pageable}
      * @return {@link Page} of {@link ItemEntity}
      */
-    public Page<ItemEntity> getAll(UUID scopeId, UUID mappingId, boolean filterMappedItems, String searchHeader,
+    public Page<ItemEntity> getAll(UUID scopeId, UUID mappingId, boolean filterMappedItems, Integer searchColumn,
                                    String searchText, Pageable pageable) {
         final Pageable pageRequest = PageRequest.of(pageable.getPageNumber(), pageable.getPageSize(),
                 pageable.getSortOr(Sort.by(Sort.Direction.ASC, "line_number")));
         if (filterMappedItems && mappingId != null) {
             if (StringUtils.hasLength(searchText)) {
-                if (StringUtils.hasText(searchHeader)) {
+                if (searchColumn != null) {
                     return jpaItemRepository.findAllByScopeIdAndMappingIdNotInMappedItemsAndDynamicHeader(scopeId, mappingId,
-                            searchHeader, searchText, pageRequest);
+                            searchColumn, searchText, pageRequest);
                 } else {
                     return jpaItemRepository.findAllByScopeIdAndMappingIdNotInMappedItemsWithFreeTextSearch(scopeId, mappingId,
                             searchText, pageRequest);
@@ -55,8 +63,8 @@ public class ItemsService {
             }
         } else {
             if (StringUtils.hasLength(searchText)) {
-                if (StringUtils.hasText(searchHeader)) {
-                    return jpaItemRepository.findAllByScopeIdAndDynamicHeader(scopeId, searchHeader, searchText, pageRequest);
+                if (searchColumn != null) {
+                    return jpaItemRepository.findAllByScopeIdAndDynamicHeader(scopeId, searchColumn, searchText, pageRequest);
                 } else {
                     return jpaItemRepository.findAllByScopeIdWithFreeTextSearch(scopeId, searchText, pageRequest);
                 }
@@ -66,6 +74,41 @@ public class ItemsService {
         }
     }
 
+    /**
+     * Get the next items after a (line number, id) position, ordered by line number and id. Unlike {@link #getAll(UUID, UUID,
+     * boolean, Integer, String, Pageable)} this seeks instead of skipping rows, so deep pages cost as much as the first one.
+     *
+     * @param scopeId           scope id, so the items fetched are only from that scope
+     * @param mappingId         mapping id that will be used to filter already mapped items
+     * @param filterMappedItems boolean to indicate if mapped items will be filtered out (true = will be filtered out)
+     * @param searchColumn      column of the header that is searched for (if null then it is a free text search across all headers)
+     * @param searchText        text that is searched for
+     * @param afterLineNumber   line number of the last item of the previous page (null for the first page)
+     * @param afterId           id of the last item of the previous page (null for the first page)
+     * @param size              maximum number of items
+     * @return {@link List} of {@link ItemEntity}
+     */
+    public List<ItemEntity> getAllAfter(UUID scopeId, UUID mappingId, boolean filterMappedItems, Integer searchColumn,
+                                        String searchText, Long afterLineNumber, UUID afterId, int size) {
+        return jpaItemRepository.findAllByScopeIdAfter(scopeId, filterMappedItems ? mappingId : null, searchColumn,
+                StringUtils.hasLength(searchText) ? searchText : null, afterLineNumber, afterId, PageRequest.of(0, size));
+    }
+
+    /**
+     * Count all items with the same filters as {@link #getAllAfter}.
+     *
+     * @param scopeId           scope id
+     * @param mappingId         mapping id that will be used to filter already mapped items
+     * @param filterMappedItems boolean to indicate if mapped items will be filtered out (true = will be filtered out)
+     * @param searchColumn      column of the header that is searched for (if null then it is a free text search across all headers)
+     * @param searchText        text that is searched for
+     * @return number of items
+     */
+    public long count(UUID scopeId, UUID mappingId, boolean filterMappedItems, Integer searchColumn, String searchText) {
+        return jpaItemRepository.countAllByScopeId(scopeId, filterMappedItems ? mappingId : null, searchColumn,
+                StringUtils.hasLength(searchText) ? searchText : null);
+    }
+
     /**
      * Get all items by item ids.
      *
@@ -91,28 +134,83 @@ public class ItemsService {
     /**
      * Update item property.
      *
-     * @param itemId   item id
-     * @param key      key
-     * @param newValue new value
+     * @param itemEntity {@link ItemEntity}
+     * @param headers    headers of the scope of the item
+     * @param key        key
+     * @param newValue   new value
      * @return updated {@link ItemEntity}
+     * @throws HeaderNotFoundException in case the scope has no header with that key
      */
-    public ItemEntity updateItemProperty(UUID itemId, String key, String newValue) {
-        final ItemEntity itemEntity = getItem(itemId);
-        final Map<String, ItemPropertiesModel> properties = itemEntity.getProperties();
-        if (properties.get(key) == null) {
-            properties.put(key, ItemPropertiesModel.builder()
-                    .value(newValue)
-                    .build());
-            return jpaItemRepository.save(itemEntity);
-        }
-        final String originalValueInDatabase = Optional.ofNullable(properties.get(key).getOriginalValue())
-                .orElseGet(() -> properties.get(key).getValue());
-        final boolean edited = !originalValueInDatabase.equals(newValue);
-        properties.put(key, ItemPropertiesModel.builder()
-                .value(newValue)
-                .originalValue(edited ? originalValueInDatabase : null)
-                .build());
+    public ItemEntity updateItemProperty(ItemEntity itemEntity, Collection<HeaderModel> headers, String key, String newValue)
+            throws HeaderNotFoundException {
+        final HeaderModel header = itemPropertiesService.getHeader(headers, key);
+        itemPropertiesService.updateProperty(itemEntity, header, newValue);
         return jpaItemRepository.save(itemEntity);
     }
 
+    /**
+     * Get the distinct scope ids of items.
+     *
+     * @param itemIds list of item ids
+     * @return {@link List} of scope ids
+     */
+    public List<UUID> getScopeIds(List<UUID> itemIds) {
+        final Set<UUID> scopeIds = new LinkedHashSet<>();
+        for (int i = 0; i < itemIds.size(); i += BULK_CHUNK_SIZE) {
+            scopeIds.addAll(jpaItemRepository.findScopeIdsByItemIds(itemIds.subList(i, Math.min(i + BULK_CHUNK_SIZE, itemIds.size()))));
+        }
+        return new ArrayList<>(scopeIds);
+    }
+
+    /**
+     * Update item property of all given items directly in the database, one statement per scope and chunk of item ids. Either
+     * all items are updated or none.
+     *
+     * @param headersByScope header of the property by scope id, item ids of other scopes are ignored
+     * @param itemIds        list of item ids
+     * @param newValue       new value
+     * @return number of updated items
+     */
+    @Transactional
+    public int updateItemProperties(Map<UUID, HeaderModel> headersByScope, List<UUID> itemIds, String newValue) {
+        int updated = 0;
+        for (Map.Entry<UUID, HeaderModel> headerByScope : headersByScope.entrySet()) {
+            final HeaderModel header = headerByScope.getValue();
+            for (int i = 0; i < itemIds.size(); i += BULK_CHUNK_SIZE) {
+                updated += jpaItemRepository.updatePropertyByScopeIdAndItemIds(headerByScope.getKey(),
+                        itemIds.subList(i, Math.min(i + BULK_CHUNK_SIZE, itemIds.size())), header.getColumn(), header.getId(),
+                        newValue);
+            }
+        }
+        return updated;
+    }
+
+    /**
+     * Update item property of all items matching the same filters as {@link #getAllAfter} in a single statement.
+     *
+     * @param scopeId           scope id
+     * @param mappingId         mapping id that will be used to filter already mapped items
+     * @param filterMappedItems boolean to indicate if mapped items will be filtered out (true = will be filtered out)
+     * @param searchColumn      column of the header that is searched for (if null then it is a free text search across all headers)
+     * @param searchText        text that is searched for
+     * @param header            header of the property
+     * @param newValue          new value
+     * @return number of updated items
+     */
+    public int updateItemProperties(UUID scopeId, UUID mappingId, boolean filterMappedItems, Integer searchColumn,
+                                    String searchText, HeaderModel header, String newValue) {
+        return jpaItemRepository.updatePropertyByScopeId(scopeId, filterMappedItems ? mappingId : null, searchColumn,
+                StringUtils.hasLength(searchText) ? searchText : null, header.getColumn(), header.getId(), newValue);
+    }
+
+    /**
+     * Get the exclusive upper bound of the line numbers of a scope.
+     *
+     * @param scopeId scope id
+     * @return highest line number + 1, or 0 if the scope has no items
+     */
+    public long getLineNumberBound(UUID scopeId) {
+        return jpaItemRepository.findLineNumberBoundByScopeId(scopeId);
+    }
+
 }
@@ -1,10 +1,13 @@
 package org.dataintegration.service;
 
+import lombok.RequiredArgsConstructor;
 import org.dataintegration.jpa.entity.MappedItemEntity;
 import org.dataintegration.jpa.entity.MappingEntity;
+import org.dataintegration.model.HeaderModel;
 import org.dataintegration.model.ItemPropertiesModel;
 import org.springframework.stereotype.Service;
 
+import java.util.Collection;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Optional;
@@ -13,18 +16,23 @@ import java.util.Optional;
  * Service for mapped item properties.
  */
 @Service
+@RequiredArgsConstructor
 public class MappedItemsPropertiesService {
 
+    private final ItemPropertiesService itemPropertiesService;
+
     /**
      * Create or get properties.
      *
      * @param mappedItemEntity {@link MappedItemEntity}
+     * @param headers          headers of the scope of the item
      * @param mappedKey        mapped key name
      * @param newValue         new value
      * @return {@link Map} where key {@link String} is the mappedKey, and value {@link ItemPropertiesModel} is either
      * the created property, or if already there then the retrieved.
      */
-    public Map<String, ItemPropertiesModel> createOrGetProperties(MappedItemEntity mappedItemEntity, String mappedKey,
+    public Map<String, ItemPropertiesModel> createOrGetProperties(MappedItemEntity mappedItemEntity,
+                                                                  Collection<HeaderModel> headers, String mappedKey,
                                                                   String newValue) {
         final Map<String, ItemPropertiesModel> mappedItemProperties = Optional.ofNullable(mappedItemEntity.getProperties())
                 .orElse(new HashMap<>());
@@ -33,7 +41,8 @@ public class MappedItemsPropertiesService {
             for (String value : mappingEntry.getValue()) {
                 if (value.equals(mappedKey)) {
                     final ItemPropertiesModel copiedItemProperties =
-                            Optional.ofNullable(mappedItemEntity.getItem().getProperties().get(mappingEntry.getKey()))
+                            Optional.ofNullable(itemPropertiesService.getProperty(mappedItemEntity.getItem(), headers,
+                                            mappingEntry.getKey()))
                                     .orElse(ItemPropertiesModel.builder()
                                             .value("")
                                             .build());
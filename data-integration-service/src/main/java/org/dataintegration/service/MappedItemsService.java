@@ -1,19 +1,27 @@
 package org.dataintegration.service;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
 import org.dataintegration.exception.runtime.MappedItemFrozenException;
 import org.dataintegration.exception.runtime.MappedItemNotFoundException;
 import org.dataintegration.jpa.entity.MappedItemEntity;
 import org.dataintegration.jpa.repository.JpaMappedItemRepository;
+import org.dataintegration.model.DataIntegrationResultAPIModel;
+import org.dataintegration.model.HeaderModel;
 import org.dataintegration.model.ItemPropertiesModel;
 import org.dataintegration.model.ItemStatusModel;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Service;
+import org.springframework.util.StringUtils;
 
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -26,8 +34,13 @@ import java.util.UUID;
 @RequiredArgsConstructor
 public class MappedItemsService {
 
+    private static final String UPDATE_INTEGRATION_RESULT_SQL =
+            "UPDATE mapped_item SET status = ?, error_messages = CAST(? AS jsonb), properties = CAST(? AS jsonb) WHERE id = ?";
+
     private final JpaMappedItemRepository jpaMappedItemRepository;
     private final MappedItemsPropertiesService mappedItemsPropertiesService;
+    private final JdbcTemplate jdbcTemplate;
+    private final ObjectMapper objectMapper;
 
     /**
      * Apply mapped items by saving them.
@@ -39,20 +52,49 @@ public class MappedItemsService {
     }
 
     /**
-     * Get items with mappings.
+     * Apply mapping to the given items of a scope directly in the database. Items that are already mapped are skipped.
+     *
+     * @param scopeId   scope id, item ids of other scopes are ignored
+     * @param mappingId mapping id
+     * @param itemIds   item ids
+     * @return number of newly mapped items
+     */
+    public int applyMapping(UUID scopeId, UUID mappingId, Collection<UUID> itemIds) {
+        return jpaMappedItemRepository.insertAllByScopeIdAndItemIds(scopeId, mappingId, itemIds);
+    }
+
+    /**
+     * Apply mapping to all items of a line number range of a scope that match the search directly in the database. Items that
+     * are already mapped are skipped.
+     *
+     * @param scopeId        scope id
+     * @param mappingId      mapping id
+     * @param searchColumn   column of the header that is searched for (if null then it is a free text search across all headers)
+     * @param searchText     text that is searched for
+     * @param fromLineNumber first line number (inclusive)
+     * @param toLineNumber   last line number (exclusive)
+     * @return number of newly mapped items
+     */
+    public int applyMapping(UUID scopeId, UUID mappingId, Integer searchColumn, String searchText, long fromLineNumber,
+                            long toLineNumber) {
+        return jpaMappedItemRepository.insertAllByScopeIdAndLineNumberRange(scopeId, mappingId, searchColumn,
+                StringUtils.hasLength(searchText) ? searchText : null, fromLineNumber, toLineNumber);
+    }
+
+    /**
+     * Get items with mappings. All item ids are looked up in a single query that only selects the id pairs.
      *
      * @param itemIds item ids
-     * @return {@link Map} where key is equal to item ids and value is {@link List} of mapped item ids
+     * @return {@link Map} where key is equal to item ids and value is {@link List} of mapping ids (empty if item is not mapped)
      */
-    @Transactional
     public Map<UUID, List<UUID>> getItemsWithMappings(List<UUID> itemIds) {
         final Map<UUID, List<UUID>> itemToMappingsMap = new HashMap<>();
-        itemIds.forEach(itemId -> {
-            final List<MappedItemEntity> mappedItemEntities = jpaMappedItemRepository.findAllByItem_Id(itemId);
-            itemToMappingsMap.put(itemId, mappedItemEntities.stream()
-                    .map(mappedItemEntity -> mappedItemEntity.getMapping().getId())
-                    .toList());
-        });
+        if (itemIds.isEmpty()) {
+            return itemToMappingsMap;
+        }
+        itemIds.forEach(itemId -> itemToMappingsMap.put(itemId, new ArrayList<>()));
+        jpaMappedItemRepository.findAllItemMappingsByItemIds(itemIds).forEach(itemMapping ->
+                itemToMappingsMap.get(itemMapping.getItemId()).add(itemMapping.getMappingId()));
         return itemToMappingsMap;
     }
 
@@ -75,34 +117,82 @@ public class MappedItemsService {
     }
 
     /**
-     * Get by mapped item ids.
+     * Get the next mapped items after a (line number, id) position, ordered by item line number and mapped item id.
+     * The line number lives on the item, so no index returns the mapped items in that order: every page reads the mapped items
+     * of the mapping through idx_mapped_item_mapping_id_item_id, joins their items and sorts them (top-N). The cost grows with
+     * the size of the mapping, not with the page depth like OFFSET does, and pages stay stable while items are integrated.
      *
-     * @param mappedItemIds {@link List} of mapped item ids
+     * @param mappingId             mapping id
+     * @param filterIntegratedItems filter already integrated items (true = filtered out)
+     * @param afterLineNumber       item line number of the last mapped item of the previous page (null for the first page)
+     * @param afterId               id of the last mapped item of the previous page (null for the first page)
+     * @param size                  maximum number of mapped items
      * @return {@link List} of {@link MappedItemEntity}
      */
-    public List<MappedItemEntity> getByMappedItemIds(List<UUID> mappedItemIds) {
-        return jpaMappedItemRepository.findAllById(mappedItemIds);
+    public List<MappedItemEntity> getByMappingAfter(UUID mappingId, boolean filterIntegratedItems, Long afterLineNumber,
+                                                    UUID afterId, int size) {
+        return jpaMappedItemRepository.findAllByMappingIdAfter(mappingId, filterIntegratedItems ? ItemStatusModel.INTEGRATED : null,
+                afterLineNumber, afterId, PageRequest.of(0, size));
     }
 
+    /**
+     * Count mapped items by mapping id.
+     *
+     * @param mappingId             mapping id
+     * @param filterIntegratedItems filter already integrated items (true = filtered out)
+     * @return number of mapped items
+     */
+    public long count(UUID mappingId, boolean filterIntegratedItems) {
+        return jpaMappedItemRepository.countAllByMappingId(mappingId, filterIntegratedItems ? ItemStatusModel.INTEGRATED : null);
+    }
 
     /**
-     * Update mapped item status by mapped item id.
+     * Get by mapped item ids.
      *
-     * @param mappedItemId mapped item id
-     * @param itemStatus   {@link ItemStatusModel}
+     * @param mappedItemIds {@link List} of mapped item ids
+     * @return {@link List} of {@link MappedItemEntity}
      */
-    public void updateMappedItemStatusByMappedItemId(UUID mappedItemId, ItemStatusModel itemStatus) {
-        jpaMappedItemRepository.updateStatusById(mappedItemId, itemStatus);
+    public List<MappedItemEntity> getByMappedItemIds(List<UUID> mappedItemIds) {
+        return jpaMappedItemRepository.findAllById(mappedItemIds);
     }
 
     /**
-     * Update error messages by mapped item id.
+     * Apply the integration results of a host in a single JDBC batch. Every result updates status and error messages of its
+     * mapped item, integrated mapped items additionally get the integrated data as frozen properties. Results of mapped items
+     * that are not part of the integrated mapped items are ignored.
      *
-     * @param mappedItemId  mapped item id
-     * @param errorMessages {@link List} of error messages
+     * @param mappedItemEntities integrated {@link MappedItemEntity}s
+     * @param headers            headers of the scope of the items
+     * @param integrationResults {@link List} of {@link DataIntegrationResultAPIModel}
+     * @throws MappedItemFrozenException in case a mapped item was already integrated before
      */
-    public void updateErrorMessagesByMappedItemId(UUID mappedItemId, List<String> errorMessages) {
-        jpaMappedItemRepository.updateErrorMessagesById(mappedItemId, errorMessages);
+    @Transactional
+    public void applyIntegrationResults(Collection<MappedItemEntity> mappedItemEntities, Collection<HeaderModel> headers,
+                                        List<DataIntegrationResultAPIModel> integrationResults) throws MappedItemFrozenException {
+        final Map<UUID, MappedItemEntity> mappedItemEntitiesById = new HashMap<>();
+        mappedItemEntities.forEach(mappedItemEntity -> mappedItemEntitiesById.put(mappedItemEntity.getId(), mappedItemEntity));
+        final List<Object[]> batchArgs = new ArrayList<>(integrationResults.size());
+        for (DataIntegrationResultAPIModel integrationResult : integrationResults) {
+            final MappedItemEntity mappedItemEntity = mappedItemEntitiesById.get(integrationResult.getInput().getMappedItemId());
+            if (mappedItemEntity == null) {
+                continue;
+            }
+            final boolean integrated = integrationResult.getErrorMessages().isEmpty();
+            if (integrated) {
+                checkNotFrozen(mappedItemEntity);
+                integrationResult.getInput().getData().forEach((mappedKey, newValue) ->
+                        setMappedItemProperty(mappedItemEntity, headers, mappedKey, newValue));
+            }
+            batchArgs.add(new Object[]{
+                    (integrated ? ItemStatusModel.INTEGRATED : ItemStatusModel.FAILED).name(),
+                    toJson(integrationResult.getErrorMessages()),
+                    mappedItemEntity.getProperties() != null ? toJson(mappedItemEntity.getProperties()) : null,
+                    mappedItemEntity.getId()
+            });
+        }
+        if (!batchArgs.isEmpty()) {
+            jdbcTemplate.batchUpdate(UPDATE_INTEGRATION_RESULT_SQL, batchArgs);
+        }
     }
 
     /**
@@ -120,24 +210,17 @@ public class MappedItemsService {
     /**
      * Update mapped item property
      *
-     * @param mappedItemId mapped item id
-     * @param mappedKey    mapped key name
-     * @param newValue     new value
+     * @param mappedItemEntity {@link MappedItemEntity}
+     * @param headers          headers of the scope of the item
+     * @param mappedKey        mapped key name
+     * @param newValue         new value
      * @return updated {@link MappedItemEntity}
      * @throws MappedItemFrozenException in case the mapped item is integrated, the data can not be updated
      */
-    public MappedItemEntity updateMappedItemProperty(UUID mappedItemId, String mappedKey, String newValue) {
-        final MappedItemEntity mappedItemEntity = getMappedItem(mappedItemId);
-        if (mappedItemEntity.getStatus() == ItemStatusModel.INTEGRATED) {
-            throw new MappedItemFrozenException("Mapped item with id " + mappedItemId + " is frozen (readonly).");
-        }
-        final Map<String, ItemPropertiesModel> mappedItemProperties =
-                mappedItemsPropertiesService.createOrGetProperties(mappedItemEntity, mappedKey, newValue);
-        final ItemPropertiesModel itemProperties = newValue != null ? mappedItemProperties.get(mappedKey).toBuilder()
-                .value(newValue)
-                .build() : null;
-        mappedItemProperties.put(mappedKey, itemProperties);
-        mappedItemEntity.setProperties(mappedItemProperties);
+    public MappedItemEntity updateMappedItemProperty(MappedItemEntity mappedItemEntity, Collection<HeaderModel> headers,
+                                                     String mappedKey, String newValue) {
+        checkNotFrozen(mappedItemEntity);
+        setMappedItemProperty(mappedItemEntity, headers, mappedKey, newValue);
         return jpaMappedItemRepository.save(mappedItemEntity);
     }
 
@@ -150,4 +233,29 @@ public class MappedItemsService {
         jpaMappedItemRepository.deleteAllById(mappedItemIds);
     }
 
+    private void checkNotFrozen(MappedItemEntity mappedItemEntity) throws MappedItemFrozenException {
+        if (mappedItemEntity.getStatus() == ItemStatusModel.INTEGRATED) {
+            throw new MappedItemFrozenException("Mapped item with id " + mappedItemEntity.getId() + " is frozen (readonly).");
+        }
+    }
+
+    private void setMappedItemProperty(MappedItemEntity mappedItemEntity, Collection<HeaderModel> headers, String mappedKey,
+                                       String newValue) {
+        final Map<String, ItemPropertiesModel> mappedItemProperties =
+                mappedItemsPropertiesService.createOrGetProperties(mappedItemEntity, headers, mappedKey, newValue);
+        final ItemPropertiesModel itemProperties = newValue != null ? mappedItemProperties.get(mappedKey).toBuilder()
+                .value(newValue)
+                .build() : null;
+        mappedItemProperties.put(mappedKey, itemProperties);
+        mappedItemEntity.setProperties(mappedItemProperties);
+    }
+
+    private String toJson(Object value) {
+        try {
+            return objectMapper.writeValueAsString(value);
+        } catch (JsonProcessingException ex) {
+            throw new IllegalStateException("Could not serialize integration result.", ex);
+        }
+    }
+
 }
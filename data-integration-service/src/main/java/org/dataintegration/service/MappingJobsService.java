@@ -0,0 +1,136 @@
+package org.dataintegration.service;
+
+import lombok.RequiredArgsConstructor;
+import org.dataintegration.exception.runtime.MappingIntegrationRunningException;
+import org.dataintegration.exception.runtime.MappingJobNotFoundException;
+import org.dataintegration.model.MappingJobModel;
+import org.dataintegration.model.MappingJobStatusModel;
+import org.dataintegration.model.MappingJobTypeModel;
+import org.dataintegration.model.cache.DataIntegrationCache;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * Service for long-running jobs of a mapping, like applying a mapping or integrating its mapped items. Jobs only live in
+ * memory, each update replaces the job in the cache, so readers always see a consistent snapshot. Finished jobs are kept for
+ * {@link #FINISHED_JOB_RETENTION}, so clients can still poll the result.
+ * Only one integration runs per mapping at a time, no matter if it runs as job or synchronously, otherwise the same mapped
+ * items would be sent to the host twice.
+ */
+@Service
+@RequiredArgsConstructor
+public class MappingJobsService {
+
+    static final Duration FINISHED_JOB_RETENTION = Duration.ofHours(1);
+
+    private final DataIntegrationCache dataIntegrationCache;
+
+    /**
+     * Create a running mapping job and remove expired finished jobs.
+     *
+     * @param projectId project id
+     * @param mappingId mapping id
+     * @param type      {@link MappingJobTypeModel}
+     * @param total     total amount of work (item ids, item lines or mapped items) of the job
+     * @return created {@link MappingJobModel}
+     */
+    public MappingJobModel create(UUID projectId, UUID mappingId, MappingJobTypeModel type, long total) {
+        final Instant expired = Instant.now().minus(FINISHED_JOB_RETENTION);
+        dataIntegrationCache.getMappingJobs().values().removeIf(job ->
+                job.getFinishedDate() != null && job.getFinishedDate().isBefore(expired));
+        final MappingJobModel mappingJob = MappingJobModel.builder()
+                .id(UUID.randomUUID())
+                .projectId(projectId)
+                .mappingId(mappingId)
+                .type(type)
+                .status(MappingJobStatusModel.RUNNING)
+                .total(total)
+                .build();
+        dataIntegrationCache.getMappingJobs().put(mappingJob.getId(), mappingJob);
+        return mappingJob;
+    }
+
+    /**
+     * Mark a mapping as being integrated, has to be released with {@link #finishIntegration}.
+     *
+     * @param mappingId mapping id
+     * @throws MappingIntegrationRunningException in case the mapping is already being integrated
+     */
+    public void startIntegration(UUID mappingId) throws MappingIntegrationRunningException {
+        if (!dataIntegrationCache.getIntegratingMappings().add(mappingId)) {
+            throw new MappingIntegrationRunningException("Mapping " + mappingId + " is already being integrated.");
+        }
+    }
+
+    /**
+     * Release a mapping marked by {@link #startIntegration}.
+     *
+     * @param mappingId mapping id
+     */
+    public void finishIntegration(UUID mappingId) {
+        dataIntegrationCache.getIntegratingMappings().remove(mappingId);
+    }
+
+    /**
+     * Get mapping job of a project.
+     *
+     * @param projectId project id
+     * @param jobId     job id
+     * @return {@link MappingJobModel}
+     * @throws MappingJobNotFoundException in case the job does not exist (anymore) or belongs to another project
+     */
+    public MappingJobModel get(UUID projectId, UUID jobId) throws MappingJobNotFoundException {
+        final MappingJobModel mappingJob = dataIntegrationCache.getMappingJobs().get(jobId);
+        if (mappingJob == null || !mappingJob.getProjectId().equals(projectId)) {
+            throw new MappingJobNotFoundException("Mapping job " + jobId + " not found.");
+        }
+        return mappingJob;
+    }
+
+    /**
+     * Add progress to a mapping job.
+     *
+     * @param jobId     job id
+     * @param processed processed amount of work
+     * @param succeeded amount of items that succeeded (newly mapped or integrated)
+     * @param failed    amount of items that failed
+     */
+    public void addProgress(UUID jobId, long processed, long succeeded, long failed) {
+        dataIntegrationCache.getMappingJobs().computeIfPresent(jobId, (id, mappingJob) -> mappingJob.toBuilder()
+                .processed(mappingJob.getProcessed() + processed)
+                .succeeded(mappingJob.getSucceeded() + succeeded)
+                .failed(mappingJob.getFailed() + failed)
+                .build());
+    }
+
+    /**
+     * Mark a mapping job as finished.
+     *
+     * @param jobId job id
+     */
+    public void finish(UUID jobId) {
+        dataIntegrationCache.getMappingJobs().computeIfPresent(jobId, (id, mappingJob) -> mappingJob.toBuilder()
+                .status(MappingJobStatusModel.FINISHED)
+                .processed(mappingJob.getTotal())
+                .finishedDate(Instant.now())
+                .build());
+    }
+
+    /**
+     * Mark a mapping job as failed.
+     *
+     * @param jobId        job id
+     * @param errorMessage error message
+     */
+    public void fail(UUID jobId, String errorMessage) {
+        dataIntegrationCache.getMappingJobs().computeIfPresent(jobId, (id, mappingJob) -> mappingJob.toBuilder()
+                .status(MappingJobStatusModel.FAILED)
+                .errorMessage(errorMessage)
+                .finishedDate(Instant.now())
+                .build());
+    }
+
+}
@@ -0,0 +1,108 @@
+package org.dataintegration.service;
+
+import org.dataintegration.jpa.entity.MappedItemEntity;
+import org.dataintegration.jpa.entity.MappingEntity;
+import org.dataintegration.model.DataIntegrationHeaderAPIModel;
+import org.dataintegration.model.DataIntegrationHeaderDataAPIModel;
+import org.dataintegration.model.DataIntegrationInputAPIModel;
+import org.dataintegration.model.DataIntegrationInputDataAPIModel;
+import org.dataintegration.model.HeaderModel;
+import org.dataintegration.model.ItemPropertiesModel;
+import org.dataintegration.model.MappingPlanModel;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Service for mapping plans. A mapping plan resolves a mapping against the scope headers and the host headers once, so the
+ * integration payload of every mapped item is built from plain arrays instead of looking up headers per cell.
+ */
+@Service
+public class MappingPlanService {
+
+    private static final int NO_COLUMN = -1;
+    private static final String DEFAULT_VALUE = "";
+
+    /**
+     * Compile the mapping plan of a mapping. Targets are ordered like the host headers, targets that are not mapped are left out.
+     * If several sources map to the same target, the last one wins.
+     *
+     * @param mapping     {@link MappingEntity}
+     * @param headers     headers of the scope
+     * @param hostHeaders {@link DataIntegrationHeaderAPIModel} of the host
+     * @return {@link MappingPlanModel}
+     */
+    public MappingPlanModel compile(MappingEntity mapping, Collection<HeaderModel> headers, DataIntegrationHeaderAPIModel hostHeaders) {
+        final Map<String, Integer> columns = new HashMap<>();
+        for (HeaderModel header : headers) {
+            columns.put(header.getId(), header.getColumn() != null ? header.getColumn() : NO_COLUMN);
+        }
+        final Map<String, Integer> targetColumns = new HashMap<>();
+        mapping.getMapping().forEach((source, targets) -> {
+            for (String target : targets) {
+                targetColumns.put(target, columns.getOrDefault(source, NO_COLUMN));
+            }
+        });
+
+        final List<String> targets = new ArrayList<>(targetColumns.size());
+        final int[] sourceColumns = new int[hostHeaders.getHeaders().size()];
+        for (DataIntegrationHeaderDataAPIModel hostHeader : hostHeaders.getHeaders()) {
+            final Integer sourceColumn = targetColumns.get(hostHeader.getId());
+            if (sourceColumn != null) {
+                sourceColumns[targets.size()] = sourceColumn;
+                targets.add(hostHeader.getId());
+            }
+        }
+        return MappingPlanModel.builder()
+                .targets(targets.toArray(String[]::new))
+                .sourceColumns(Arrays.copyOf(sourceColumns, targets.size()))
+                .build();
+    }
+
+    /**
+     * Create the integration input of mapped items. A value edited on the mapped item wins over the value of the item, targets
+     * without a value are sent as empty string.
+     *
+     * @param mappingPlan {@link MappingPlanModel}
+     * @param mappedItems {@link List} of {@link MappedItemEntity}
+     * @return {@link DataIntegrationInputAPIModel}
+     */
+    public DataIntegrationInputAPIModel createInput(MappingPlanModel mappingPlan, List<MappedItemEntity> mappedItems) {
+        final String[] targets = mappingPlan.getTargets();
+        final int[] sourceColumns = mappingPlan.getSourceColumns();
+        final List<DataIntegrationInputDataAPIModel> inputs = new ArrayList<>(mappedItems.size());
+        for (MappedItemEntity mappedItem : mappedItems) {
+            final Map<String, ItemPropertiesModel> properties = mappedItem.getProperties();
+            final List<String> cells = mappedItem.getItem().getCells();
+            final Map<String, String> data = HashMap.newHashMap(targets.length);
+            for (int i = 0; i < targets.length; i++) {
+                final ItemPropertiesModel property = properties != null ? properties.get(targets[i]) : null;
+                if (property != null) {
+                    data.put(targets[i], property.getValue());
+                } else {
+                    data.put(targets[i], getCell(cells, sourceColumns[i]));
+                }
+            }
+            inputs.add(DataIntegrationInputDataAPIModel.builder()
+                    .mappedItemId(mappedItem.getId())
+                    .data(data)
+                    .build());
+        }
+        return DataIntegrationInputAPIModel.builder()
+                .inputs(inputs)
+                .build();
+    }
+
+    private static String getCell(List<String> cells, int column) {
+        if (column == NO_COLUMN || column >= cells.size() || cells.get(column) == null) {
+            return DEFAULT_VALUE;
+        }
+        return cells.get(column);
+    }
+
+}
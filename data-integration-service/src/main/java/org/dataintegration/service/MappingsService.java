@@ -24,6 +24,7 @@ public class MappingsService {
 
     private final JpaMappingRepository jpaMappingRepository;
     private final MappingsValidationService mappingsValidationService;
+    private final PartitionsService partitionsService;
 
     /**
      * Create or update mapping.
@@ -32,7 +33,9 @@ public class MappingsService {
      * @return {@link MappingEntity}
      */
     public MappingEntity createOrUpdateMapping(MappingEntity mappingEntity) {
-        return jpaMappingRepository.save(mappingEntity);
+        final MappingEntity savedMappingEntity = jpaMappingRepository.save(mappingEntity);
+        partitionsService.createMappingPartition(savedMappingEntity.getId());
+        return savedMappingEntity;
     }
 
     /**
@@ -0,0 +1,99 @@
+package org.dataintegration.service;
+
+import lombok.RequiredArgsConstructor;
+import org.dataintegration.model.PartitioningConfigModel;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+
+import java.util.UUID;
+
+/**
+ * Service for the partitions of the opt-in partitioned storage layout (data-integration-partitioning.sql), where item is
+ * list-partitioned by scope and mapped_item by mapping. Every scope and mapping gets its own partition, so deleting a scope
+ * or mapping is a partition detach and drop instead of deleting its rows. Without partitioning all methods do nothing.
+ */
+@Service
+@RequiredArgsConstructor
+public class PartitionsService {
+
+    private static final String ITEM_TABLE = "item";
+    private static final String MAPPED_ITEM_TABLE = "mapped_item";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final PartitioningConfigModel partitioningConfig;
+
+    /**
+     * Check if the partitioned storage layout is enabled.
+     *
+     * @return true if item and mapped_item are partitioned, otherwise false
+     */
+    public boolean isEnabled() {
+        return partitioningConfig.isEnabled();
+    }
+
+    /**
+     * Create the item partition of a scope, if it does not exist yet.
+     *
+     * @param scopeId scope id
+     */
+    public void createScopePartition(UUID scopeId) {
+        createPartition(ITEM_TABLE, scopeId);
+    }
+
+    /**
+     * Create the mapped item partition of a mapping, if it does not exist yet.
+     *
+     * @param mappingId mapping id
+     */
+    public void createMappingPartition(UUID mappingId) {
+        createPartition(MAPPED_ITEM_TABLE, mappingId);
+    }
+
+    /**
+     * Detach and drop the item partition of a scope, if it exists.
+     *
+     * @param scopeId scope id
+     * @return true if a partition was dropped, otherwise false
+     */
+    public boolean dropScopePartition(UUID scopeId) {
+        return dropPartition(ITEM_TABLE, scopeId);
+    }
+
+    /**
+     * Detach and drop the mapped item partition of a mapping, if it exists.
+     *
+     * @param mappingId mapping id
+     * @return true if a partition was dropped, otherwise false
+     */
+    public boolean dropMappingPartition(UUID mappingId) {
+        return dropPartition(MAPPED_ITEM_TABLE, mappingId);
+    }
+
+    private void createPartition(String table, UUID key) {
+        if (!isEnabled() || exists(table, key)) {
+            return;
+        }
+        jdbcTemplate.execute("CREATE TABLE IF NOT EXISTS " + getPartition(table, key) + " PARTITION OF " + table
+                + " FOR VALUES IN ('" + key + "')");
+    }
+
+    private boolean dropPartition(String table, UUID key) {
+        if (!isEnabled() || !exists(table, key)) {
+            return false;
+        }
+        final String partition = getPartition(table, key);
+        jdbcTemplate.execute("ALTER TABLE " + table + " DETACH PARTITION " + partition + " CONCURRENTLY");
+        jdbcTemplate.execute("DROP TABLE " + partition);
+        return true;
+    }
+
+    private boolean exists(String table, UUID key) {
+        return Boolean.TRUE.equals(jdbcTemplate.queryForObject("SELECT to_regclass(?) IS NOT NULL", Boolean.class,
+                getPartition(table, key)));
+    }
+
+    private static String getPartition(String table, UUID key) {
+        return table + "_" + key.toString().replace("-", "");
+    }
+
+}
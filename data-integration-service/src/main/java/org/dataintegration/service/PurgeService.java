@@ -0,0 +1,158 @@
+package org.dataintegration.service;
+
+import lombok.RequiredArgsConstructor;
+import org.dataintegration.jpa.repository.JpaCheckpointBatchRepository;
+import org.dataintegration.jpa.repository.JpaCheckpointRepository;
+import org.dataintegration.jpa.repository.JpaItemRepository;
+import org.dataintegration.jpa.repository.JpaMappedItemRepository;
+import org.dataintegration.jpa.repository.JpaMappingRepository;
+import org.dataintegration.jpa.repository.JpaProjectRepository;
+import org.dataintegration.jpa.repository.JpaScopeRepository;
+import org.dataintegration.model.PurgeConfigModel;
+import org.dataintegration.model.PurgeStatusModel;
+import org.dataintegration.model.cache.DataIntegrationCache;
+import org.springframework.stereotype.Service;
+
+import java.time.Instant;
+import java.util.UUID;
+import java.util.function.IntUnaryOperator;
+import java.util.function.UnaryOperator;
+
+/**
+ * Service for purging projects, scopes and mappings that are marked for deletion, together with their items, mapped items and
+ * checkpoints. Large tables are deleted in chunks, each chunk in its own short transaction with a pause in between, so
+ * running imports are not blocked. With partitioned storage the partitions of items and mapped items are dropped instead.
+ * The work is derived from the delete flags only, so an interrupted purge just continues on the next run.
+ */
+@Service
+@RequiredArgsConstructor
+public class PurgeService {
+
+    private final JpaProjectRepository jpaProjectRepository;
+    private final JpaScopeRepository jpaScopeRepository;
+    private final JpaMappingRepository jpaMappingRepository;
+    private final JpaMappedItemRepository jpaMappedItemRepository;
+    private final JpaItemRepository jpaItemRepository;
+    private final JpaCheckpointRepository jpaCheckpointRepository;
+    private final JpaCheckpointBatchRepository jpaCheckpointBatchRepository;
+    private final PartitionsService partitionsService;
+    private final DataIntegrationCache dataIntegrationCache;
+    private final PurgeConfigModel purgeConfig;
+
+    /**
+     * Purge everything that is marked for deletion. Scopes that are still being imported are skipped until the next run.
+     *
+     * @return {@link PurgeStatusModel} of the run, or of the current run if a purge is already running
+     */
+    public PurgeStatusModel purge() {
+        final PurgeStatusModel startedStatus = PurgeStatusModel.builder()
+                .running(true)
+                .startedDate(Instant.now())
+                .build();
+        final PurgeStatusModel previousStatus =
+                dataIntegrationCache.getPurgeStatus().getAndUpdate(status -> status.isRunning() ? status : startedStatus);
+        if (previousStatus.isRunning()) {
+            return previousStatus;
+        }
+        try {
+            for (UUID scopeId : jpaScopeRepository.findAllIdsMarkedForDeletion()) {
+                if (!dataIntegrationCache.getProcessingScopes().contains(scopeId)) {
+                    purgeScope(scopeId);
+                    updateStatus(status -> status.toBuilder().purgedScopes(status.getPurgedScopes() + 1).build());
+                }
+            }
+            for (UUID mappingId : jpaMappingRepository.findAllIdsMarkedForDeletion()) {
+                purgeMapping(mappingId);
+                updateStatus(status -> status.toBuilder().purgedMappings(status.getPurgedMappings() + 1).build());
+            }
+            final int purgedProjects = jpaProjectRepository.deleteAllMarkedForDeletionWithoutScopes();
+            return updateStatus(status -> status.toBuilder()
+                    .running(false)
+                    .finishedDate(Instant.now())
+                    .purgedProjects(purgedProjects)
+                    .deletedRows(status.getDeletedRows() + purgedProjects)
+                    .build());
+        } catch (RuntimeException ex) {
+            updateStatus(status -> status.toBuilder()
+                    .running(false)
+                    .finishedDate(Instant.now())
+                    .errorMessage(ex.getMessage())
+                    .build());
+            throw ex;
+        }
+    }
+
+    /**
+     * Get the status of the current or last purge.
+     *
+     * @return {@link PurgeStatusModel}
+     */
+    public PurgeStatusModel getStatus() {
+        return dataIntegrationCache.getPurgeStatus().get();
+    }
+
+    private void purgeScope(UUID scopeId) {
+        if (partitionsService.isEnabled()) {
+            jpaMappingRepository.findAllIdsByScopeId(scopeId)
+                    .forEach(mappingId -> addDroppedPartition(partitionsService.dropMappingPartition(mappingId)));
+        } else {
+            deleteInChunks(limit -> jpaMappedItemRepository.deleteChunkByScopeId(scopeId, limit));
+        }
+        deleteInChunks(limit -> jpaCheckpointBatchRepository.deleteChunkByScopeId(scopeId, limit));
+        if (partitionsService.isEnabled()) {
+            addDroppedPartition(partitionsService.dropScopePartition(scopeId));
+        } else {
+            deleteInChunks(limit -> jpaItemRepository.deleteChunkByScopeId(scopeId, limit));
+        }
+        final int deletedRows = jpaCheckpointRepository.deleteAllByScopeId(scopeId) + jpaMappingRepository.deleteAllByScopeId(scopeId);
+        jpaScopeRepository.deleteById(scopeId);
+        addDeletedRows(deletedRows + 1);
+        dataIntegrationCache.getMarkedForDeletionScopes().remove(scopeId);
+    }
+
+    private void purgeMapping(UUID mappingId) {
+        if (partitionsService.isEnabled()) {
+            addDroppedPartition(partitionsService.dropMappingPartition(mappingId));
+        } else {
+            deleteInChunks(limit -> jpaMappedItemRepository.deleteChunkByMappingId(mappingId, limit));
+        }
+        jpaMappingRepository.deleteById(mappingId);
+        addDeletedRows(1);
+    }
+
+    private void deleteInChunks(IntUnaryOperator deleteChunk) {
+        final int chunkSize = purgeConfig.getChunkSize();
+        int deletedRows;
+        do {
+            deletedRows = deleteChunk.applyAsInt(chunkSize);
+            addDeletedRows(deletedRows);
+            if (deletedRows == chunkSize) {
+                pause();
+            }
+        } while (deletedRows == chunkSize);
+    }
+
+    private void pause() {
+        try {
+            Thread.sleep(purgeConfig.getPause().toMillis());
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Purge was interrupted.", ex);
+        }
+    }
+
+    private void addDeletedRows(long deletedRows) {
+        updateStatus(status -> status.toBuilder().deletedRows(status.getDeletedRows() + deletedRows).build());
+    }
+
+    private void addDroppedPartition(boolean dropped) {
+        if (dropped) {
+            updateStatus(status -> status.toBuilder().droppedPartitions(status.getDroppedPartitions() + 1).build());
+        }
+    }
+
+    private PurgeStatusModel updateStatus(UnaryOperator<PurgeStatusModel> update) {
+        return dataIntegrationCache.getPurgeStatus().updateAndGet(update);
+    }
+
+}
@@ -19,6 +19,7 @@ import java.util.Comparator;
 import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
 import java.util.UUID;
@@ -35,6 +36,7 @@ public class ScopesService {
 
     private final JpaScopeRepository jpaScopeRepository;
     private final DataIntegrationCache dataIntegrationCache;
+    private final PartitionsService partitionsService;
 
     /**
      * Create or get scope by scope key through project.
@@ -53,7 +55,9 @@ public class ScopesService {
                     scopeEntity.setFinished(false);
                     scopeEntity.setDelete(false);
                     scopeEntity.setProject(projectEntity);
-                    return jpaScopeRepository.save(scopeEntity);
+                    final ScopeEntity savedScopeEntity = jpaScopeRepository.save(scopeEntity);
+                    partitionsService.createScopePartition(savedScopeEntity.getId());
+                    return savedScopeEntity;
                 });
     }
 
@@ -128,6 +132,18 @@ public class ScopesService {
         final Map<String, HeaderModel> existingHeadersMap = updatedHeaders.stream()
                 .collect(Collectors.toMap(HeaderModel::getId, header -> header));
 
+        // columns are positions in the item cells, they never change once assigned
+        int nextColumn = updatedHeaders.stream()
+                .map(HeaderModel::getColumn)
+                .filter(Objects::nonNull)
+                .mapToInt(column -> column + 1)
+                .max()
+                .orElse(0);
+        for (HeaderModel header : updatedHeaders) {
+            if (header.getColumn() == null) {
+                header.setColumn(nextColumn++);
+            }
+        }
         for (HeaderModel header : headers) {
             if (existingHeadersMap.containsKey(header.getId())) {
                 HeaderModel existingHeader = existingHeadersMap.get(header.getId());
@@ -135,6 +151,7 @@ public class ScopesService {
                 existingHeader.setHidden(header.isHidden());
             } else {
                 final HeaderModel newHeader = new HeaderModel(header.getId());
+                newHeader.setColumn(nextColumn++);
                 updatedHeaders.add(newHeader);
             }
         }
@@ -2,11 +2,16 @@ package org.dataintegration.usecase;
 
 import lombok.RequiredArgsConstructor;
 import org.dataintegration.jpa.entity.ScopeEntity;
+import org.dataintegration.model.ImportProgressEventTypeModel;
 import org.dataintegration.service.CheckpointsService;
+import org.dataintegration.service.ImportProgressService;
 import org.dataintegration.service.ProjectsService;
 import org.dataintegration.service.ScopesService;
 import org.dataintegration.usecase.api.CheckpointsMethods;
 import org.dataintegration.usecase.model.CurrentCheckpointStatusResponseModel;
+import org.dataintegration.usecase.model.ImportProgressEventResponseModel;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
 
 import java.util.UUID;
 
@@ -19,6 +24,7 @@ class Checkpoints implements CheckpointsMethods {
     private final ProjectsService projectsService;
     private final ScopesService scopesService;
     private final CheckpointsService checkpointsService;
+    private final ImportProgressService importProgressService;
 
     @Override
     public CurrentCheckpointStatusResponseModel getCurrentCheckpointStatus(UUID projectId, UUID scopeId, String createdBy) {
@@ -26,4 +32,15 @@ class Checkpoints implements CheckpointsMethods {
         final ScopeEntity scopeEntity = scopesService.get(scopeId);
         return checkpointsService.getCurrentCheckpointStatus(scopeEntity);
     }
+
+    @Override
+    public Flux<ImportProgressEventResponseModel> getImportProgressEvents(UUID projectId, UUID scopeId, String createdBy) {
+        projectsService.isPermitted(projectId, createdBy);
+        final ScopeEntity scopeEntity = scopesService.get(scopeId);
+        return importProgressService.getEvents(scopeId)
+                .switchIfEmpty(Mono.fromSupplier(() -> ImportProgressEventResponseModel.builder()
+                        .type(ImportProgressEventTypeModel.STATUS)
+                        .status(checkpointsService.getCurrentCheckpointStatus(scopeEntity))
+                        .build()));
+    }
 }
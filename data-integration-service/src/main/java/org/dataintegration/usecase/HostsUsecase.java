@@ -6,12 +6,14 @@ import org.dataintegration.mapper.CreateOrUpdateHostsMapper;
 import org.dataintegration.mapper.HostMapper;
 import org.dataintegration.model.DataIntegrationHeaderAPIModel;
 import org.dataintegration.model.HostModel;
+import org.dataintegration.service.HostClientsService;
+import org.dataintegration.service.HostHeadersService;
 import org.dataintegration.service.HostsService;
 import org.dataintegration.usecase.model.CreateOrUpdateHostsRequestModel;
 import org.mapstruct.factory.Mappers;
 import org.springframework.stereotype.Component;
-import org.springframework.web.reactive.function.client.WebClient;
 import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
 
 import java.util.Optional;
 import java.util.Set;
@@ -29,6 +31,8 @@ public class HostsUsecase {
             Mappers.getMapper(CreateOrUpdateHostsMapper.class);
     private final HostMapper hostMapper = Mappers.getMapper(HostMapper.class);
     private final HostsService hostsService;
+    private final HostClientsService hostClientsService;
+    private final HostHeadersService hostHeadersService;
 
     /**
      * Create or update host.
@@ -56,7 +60,8 @@ public class HostsUsecase {
     }
 
     /**
-     * Get host headers.
+     * Get host headers. Cached headers are returned right away and refreshed in the background once they are older than the
+     * ttl. Without usable cached headers the host is called, and if that fails the stored headers of the host are returned.
      *
      * @param hostId host id
      * @param language language
@@ -64,26 +69,18 @@ public class HostsUsecase {
      * @return {@link DataIntegrationHeaderAPIModel}
      */
     public DataIntegrationHeaderAPIModel getHostHeaders(UUID hostId, String language, String token) {
-        final HostEntity host = hostsService.getHost(hostId);
-        final WebClient webClient = WebClient.builder()
-                .baseUrl(host.getBaseUrl())
-                .build();
-        DataIntegrationHeaderAPIModel dataIntegrationHeader = webClient.get()
-                .uri(uriBuilder -> uriBuilder.path(host.getHeaderPath())
-                        .queryParam("language", language)
-                        .build()
-                )
-                .headers(header -> header.setBearerAuth(token))
-                .retrieve()
-                .onStatus(httpStatusCode -> httpStatusCode.is4xxClientError() || httpStatusCode.is5xxServerError(),
-                        clientResponse -> clientResponse.bodyToMono(String.class)
-                                .flatMap(body -> Mono.error(new RuntimeException(body))))
-                .bodyToMono(DataIntegrationHeaderAPIModel.class)
-                .onErrorResume(e -> Mono.empty())
-                .block();
+        final DataIntegrationHeaderAPIModel cachedHeaders = hostHeadersService.get(hostId, language);
+        if (cachedHeaders != null) {
+            if (hostHeadersService.startRefresh(hostId, language)) {
+                refreshHostHeaders(hostId, language, token);
+            }
+            return cachedHeaders;
+        }
 
+        final HostEntity host = hostsService.getHost(hostId);
+        final DataIntegrationHeaderAPIModel dataIntegrationHeader = fetchHostHeaders(host, language, token).block();
         if (dataIntegrationHeader != null) {
-            hostsService.updateHeadersByHostId(hostId,  dataIntegrationHeader.getHeaders());
+            storeHostHeaders(host, language, dataIntegrationHeader);
             return dataIntegrationHeader;
         }
 
@@ -101,4 +98,35 @@ public class HostsUsecase {
         hostsService.deleteHost(hostId);
     }
 
+    private void refreshHostHeaders(UUID hostId, String language, String token) {
+        Mono.fromCallable(() -> hostsService.getHost(hostId))
+                .subscribeOn(Schedulers.boundedElastic())
+                .flatMap(host -> fetchHostHeaders(host, language, token)
+                        .publishOn(Schedulers.boundedElastic())
+                        .doOnNext(dataIntegrationHeader -> storeHostHeaders(host, language, dataIntegrationHeader)))
+                .onErrorResume(e -> Mono.empty())
+                .doFinally(signal -> hostHeadersService.finishRefresh(hostId, language))
+                .subscribe();
+    }
+
+    private Mono<DataIntegrationHeaderAPIModel> fetchHostHeaders(HostEntity host, String language, String token) {
+        return hostClientsService.getWebClient(host).get()
+                .uri(uriBuilder -> uriBuilder.path(host.getHeaderPath())
+                        .queryParam("language", language)
+                        .build()
+                )
+                .headers(header -> header.setBearerAuth(token))
+                .retrieve()
+                .onStatus(httpStatusCode -> httpStatusCode.is4xxClientError() || httpStatusCode.is5xxServerError(),
+                        clientResponse -> clientResponse.bodyToMono(String.class)
+                                .flatMap(body -> Mono.error(new RuntimeException(body))))
+                .bodyToMono(DataIntegrationHeaderAPIModel.class)
+                .onErrorResume(e -> Mono.empty());
+    }
+
+    private void storeHostHeaders(HostEntity host, String language, DataIntegrationHeaderAPIModel dataIntegrationHeader) {
+        hostsService.updateHeaders(host, dataIntegrationHeader.getHeaders());
+        hostHeadersService.put(host.getId(), language, dataIntegrationHeader);
+    }
+
 }
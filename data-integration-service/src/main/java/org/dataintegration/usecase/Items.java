@@ -7,6 +7,8 @@ import org.dataintegration.mapper.ItemMapper;
 import org.dataintegration.model.HeaderModel;
 import org.dataintegration.model.ItemModel;
 import org.dataintegration.model.ItemPropertiesModel;
+import org.dataintegration.model.SeekPageModel;
+import org.dataintegration.service.ItemPropertiesService;
 import org.dataintegration.service.ItemsService;
 import org.dataintegration.service.MappedItemsService;
 import org.dataintegration.service.ProjectsService;
@@ -17,7 +19,9 @@ import org.mapstruct.factory.Mappers;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
+import org.springframework.util.StringUtils;
 
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
@@ -30,13 +34,15 @@ class Items implements ItemsMethods {
     private final ProjectsService projectsService;
     private final ScopesService scopesService;
     private final ItemsService itemsService;
+    private final ItemPropertiesService itemPropertiesService;
     private final MappedItemsService mappedItemsService;
 
     @Override
     public ItemModel updateItemProperty(UUID projectId, UUID itemId, String key, String newValue, String createdBy) {
         projectsService.isPermitted(projectId, createdBy);
-        final ItemEntity itemEntity = itemsService.updateItemProperty(itemId, key, newValue);
-        return itemMapper.itemEntityToItem(itemEntity);
+        final ItemEntity itemEntity = itemsService.getItem(itemId);
+        final Set<HeaderModel> headers = scopesService.get(itemEntity.getScope().getId()).getHeaders();
+        return toItem(itemsService.updateItemProperty(itemEntity, headers, key, newValue), headers);
     }
 
     @Transactional
@@ -44,9 +50,27 @@ class Items implements ItemsMethods {
     public void updateItemProperties(UUID projectId, UpdateItemPropertiesRequestModel updateItemPropertiesRequest, String key,
                                      String newValue, String createdBy) {
         projectsService.isPermitted(projectId, createdBy);
-        for (UUID itemId : updateItemPropertiesRequest.getItemIds()) {
-            itemsService.updateItemProperty(itemId, key, newValue);
+        final List<UUID> itemIds = updateItemPropertiesRequest.getItemIds();
+        final Map<UUID, HeaderModel> headersByScope = new LinkedHashMap<>();
+        for (UUID scopeId : itemsService.getScopeIds(itemIds)) {
+            headersByScope.put(scopeId, itemPropertiesService.getHeader(scopesService.get(scopeId).getHeaders(), key));
         }
+        itemsService.updateItemProperties(headersByScope, itemIds, newValue);
+    }
+
+    @Override
+    public int updateFilteredItemProperties(UUID projectId, UUID scopeId, UUID mappingId, boolean filterMappedItems,
+                                            String searchHeader, String searchText, String key, String newValue,
+                                            String createdBy) {
+        projectsService.isPermitted(projectId, createdBy);
+        final Set<HeaderModel> headers = scopesService.getAndCheckIfScopeFinished(scopeId).getHeaders();
+        final HeaderModel header = itemPropertiesService.getHeader(headers, key);
+        final Integer searchColumn = itemPropertiesService.getSearchColumn(headers, searchHeader);
+        if (StringUtils.hasText(searchHeader) && searchColumn == null) {
+            return 0;
+        }
+        return itemsService.updateItemProperties(scopeId, mappingId, filterMappedItems, searchColumn, searchText, header,
+                newValue);
     }
 
     @Override
@@ -54,16 +78,48 @@ class Items implements ItemsMethods {
                                        String searchHeader, String searchText, String createdBy, Pageable pageable) {
         projectsService.isPermitted(projectId, createdBy);
         final Set<HeaderModel> headers = scopesService.getAndCheckIfScopeFinished(scopeId).getHeaders();
+        final Integer searchColumn = itemPropertiesService.getSearchColumn(headers, searchHeader);
+        if (StringUtils.hasText(searchHeader) && searchColumn == null) {
+            return Page.empty(pageable);
+        }
         final Page<ItemEntity> itemEntityPage =
-                itemsService.getAll(scopeId, mappingId, filterMappedItems, searchHeader, searchText, pageable);
+                itemsService.getAll(scopeId, mappingId, filterMappedItems, searchColumn, searchText, pageable);
+        return new PageImpl<>(toItems(itemEntityPage.getContent(), headers), itemEntityPage.getPageable(),
+                itemEntityPage.getTotalElements());
+    }
 
+    @Override
+    public SeekPageModel<ItemModel> seekAllItems(UUID projectId, UUID scopeId, UUID mappingId, boolean filterMappedItems,
+                                                 String searchHeader, String searchText, Long afterLineNumber, UUID afterId,
+                                                 int size, boolean count, String createdBy) {
+        projectsService.isPermitted(projectId, createdBy);
+        final Set<HeaderModel> headers = scopesService.getAndCheckIfScopeFinished(scopeId).getHeaders();
+        final Integer searchColumn = itemPropertiesService.getSearchColumn(headers, searchHeader);
+        if (StringUtils.hasText(searchHeader) && searchColumn == null) {
+            return SeekPageModel.<ItemModel>builder()
+                    .content(List.of())
+                    .totalElements(count ? 0L : null)
+                    .build();
+        }
+        final List<ItemEntity> itemEntities = itemsService.getAllAfter(scopeId, mappingId, filterMappedItems, searchColumn,
+                searchText, afterLineNumber, afterId, size);
+        final ItemEntity last = itemEntities.size() == size ? itemEntities.get(size - 1) : null;
+        return SeekPageModel.<ItemModel>builder()
+                .content(toItems(itemEntities, headers))
+                .nextLineNumber(last != null ? last.getLineNumber() : null)
+                .nextId(last != null ? last.getId() : null)
+                .totalElements(count ? itemsService.count(scopeId, mappingId, filterMappedItems, searchColumn, searchText) : null)
+                .build();
+    }
+
+    private List<ItemModel> toItems(List<ItemEntity> itemEntities, Set<HeaderModel> headers) {
         final Map<UUID, List<UUID>> itemToMappingsMap =
-                mappedItemsService.getItemsWithMappings(itemEntityPage.stream()
+                mappedItemsService.getItemsWithMappings(itemEntities.stream()
                         .map(ItemEntity::getId)
                         .toList());
 
-        final List<ItemModel> items = itemEntityPage.stream()
-                .map(itemMapper::itemEntityToItem)
+        return itemEntities.stream()
+                .map(itemEntity -> toItem(itemEntity, headers))
                 .map(item -> {
                     for (HeaderModel header : headers) {
                         if (item.getProperties().get(header.getId()) == null) {
@@ -77,7 +133,12 @@ class Items implements ItemsMethods {
                     return item;
                 })
                 .toList();
-        return new PageImpl<>(items, itemEntityPage.getPageable(), itemEntityPage.getTotalElements());
+    }
+
+    private ItemModel toItem(ItemEntity itemEntity, Set<HeaderModel> headers) {
+        final ItemModel item = itemMapper.itemEntityToItem(itemEntity);
+        item.setProperties(itemPropertiesService.getProperties(itemEntity, headers));
+        return item;
     }
 
 }
@@ -8,16 +8,23 @@ import org.dataintegration.jpa.entity.MappingEntity;
 import org.dataintegration.mapper.MappedItemMapper;
 import org.dataintegration.model.DataIntegrationAPIModel;
 import org.dataintegration.model.DataIntegrationHeaderAPIModel;
-import org.dataintegration.model.DataIntegrationHeaderDataAPIModel;
 import org.dataintegration.model.DataIntegrationInputAPIModel;
-import org.dataintegration.model.DataIntegrationInputDataAPIModel;
 import org.dataintegration.model.DataIntegrationResultAPIModel;
-import org.dataintegration.model.ItemPropertiesModel;
-import org.dataintegration.model.ItemStatusModel;
+import org.dataintegration.model.HeaderModel;
+import org.dataintegration.model.IntegrationConfigModel;
 import org.dataintegration.model.MappedItemModel;
+import org.dataintegration.model.MappingJobModel;
+import org.dataintegration.model.MappingPlanModel;
+import org.dataintegration.model.MappingJobTypeModel;
+import org.dataintegration.model.SeekPageModel;
+import org.dataintegration.service.HostClientsService;
+import org.dataintegration.service.ItemPropertiesService;
 import org.dataintegration.service.MappedItemsService;
+import org.dataintegration.service.MappingJobsService;
+import org.dataintegration.service.MappingPlanService;
 import org.dataintegration.service.MappingsService;
 import org.dataintegration.service.ProjectsService;
+import org.dataintegration.service.ScopesService;
 import org.dataintegration.usecase.api.MappedItemsMethods;
 import org.dataintegration.usecase.model.ApplyUnmappingRequestModel;
 import org.dataintegration.usecase.model.IntegrateRequestModel;
@@ -28,14 +35,15 @@ import org.springframework.data.domain.Pageable;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.web.reactive.function.BodyInserters;
-import org.springframework.web.reactive.function.client.WebClient;
 import org.springframework.web.server.ResponseStatusException;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+import reactor.util.function.Tuple2;
+import reactor.util.function.Tuples;
 
-import java.util.ArrayList;
-import java.util.HashMap;
 import java.util.List;
-import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
 
 @RequiredArgsConstructor
@@ -43,132 +51,190 @@ class MappedItems implements MappedItemsMethods {
 
     private final MappedItemMapper mappedItemMapper = Mappers.getMapper(MappedItemMapper.class);
     private final ProjectsService projectsService;
+    private final ScopesService scopesService;
     private final MappingsService mappingsService;
     private final MappedItemsService mappedItemsService;
+    private final ItemPropertiesService itemPropertiesService;
+    private final MappingPlanService mappingPlanService;
     private final HostsUsecase hostsUsecase;
+    private final HostClientsService hostClientsService;
+    private final MappingJobsService mappingJobsService;
+    private final IntegrationConfigModel integrationConfig;
 
-    @SuppressWarnings("checkstyle:MethodLength")
     @Override
     public DataIntegrationAPIModel integrateMappedItems(UUID projectId, UUID mappingId, String language,
                                                         IntegrateRequestModel integrateRequest, String createdBy, String token) {
         projectsService.isPermitted(projectId, createdBy);
         final MappingEntity mapping = mappingsService.get(mappingId);
-        final DatabaseEntity database = mapping.getDatabase();
-        final HostEntity host = database.getHost();
-
-        final Map<String, String[]> mappings = new HashMap<>();
-        mapping.getMapping().forEach((source, targets) -> {
-            for (String target : targets) {
-                mappings.put(target, new String[]{source});
+        mappingJobsService.startIntegration(mappingId);
+        try {
+            final Set<HeaderModel> headers = getHeaders(mapping);
+            final MappingPlanModel mappingPlan = getMappingPlan(mapping, headers, language, token);
+            final List<MappedItemEntity> mappedItems = mappedItemsService.getByMappedItemIds(integrateRequest.getMappedItemIds());
+
+            final DataIntegrationAPIModel dataIntegrationAPIResponse =
+                    integrate(mapping.getDatabase(), language, token, mappingPlanService.createInput(mappingPlan, mappedItems))
+                            .block();
+
+            if (dataIntegrationAPIResponse != null) {
+                mappedItemsService.applyIntegrationResults(mappedItems, headers,
+                        dataIntegrationAPIResponse.getIntegrationResults());
             }
-        });
-
-        final DataIntegrationHeaderAPIModel hostHeaders = hostsUsecase.getHostHeaders(host.getId(), language, token);
-        final List<MappedItemEntity> mappedItems = mappedItemsService.getByMappedItemIds(integrateRequest.getMappedItemIds());
-
-        final List<DataIntegrationInputDataAPIModel> inputs = new ArrayList<>();
-        for (MappedItemEntity mappedItem : mappedItems) {
-            final Map<String, String> data = new HashMap<>();
-            for (DataIntegrationHeaderDataAPIModel target : hostHeaders.getHeaders()) {
-                final String[] sources = mappings.get(target.getId());
-                if (sources != null) {
-                    for (String source : sources) {
-                        final ItemPropertiesModel itemProperties;
-                        if (mappedItem.getProperties() != null && mappedItem.getProperties().containsKey(target.getId())
-                                && mappedItem.getProperties().get(target.getId()) != null) {
-                            itemProperties = mappedItem.getProperties().get(target.getId());
-                        } else {
-                            final ItemPropertiesModel itemPropertiesFromItem = mappedItem.getItem().getProperties().get(source);
-                            if (itemPropertiesFromItem == null) {
-                                itemProperties = ItemPropertiesModel.builder()
-                                        .value("")
-                                        .build();
-                            } else {
-                                itemProperties = itemPropertiesFromItem;
-                            }
-                        }
-                        data.put(target.getId(), itemProperties.getValue());
-                    }
-                }
-            }
-            final DataIntegrationInputDataAPIModel dataIntegrationInputDataAPI = DataIntegrationInputDataAPIModel.builder()
-                    .mappedItemId(mappedItem.getId())
-                    .data(data)
-                    .build();
-            inputs.add(dataIntegrationInputDataAPI);
+
+            return dataIntegrationAPIResponse;
+        } finally {
+            mappingJobsService.finishIntegration(mappingId);
         }
+    }
 
-        final DataIntegrationInputAPIModel dataIntegrationInputAPI = DataIntegrationInputAPIModel.builder()
-                .inputs(inputs)
-                .build();
+    @Override
+    public MappingJobModel createIntegrationJob(UUID projectId, UUID mappingId, String createdBy) {
+        projectsService.isPermitted(projectId, createdBy);
+        mappingsService.get(mappingId);
+        mappingJobsService.startIntegration(mappingId);
+        try {
+            return mappingJobsService.create(projectId, mappingId, MappingJobTypeModel.INTEGRATION,
+                    mappedItemsService.count(mappingId, true));
+        } catch (RuntimeException ex) {
+            mappingJobsService.finishIntegration(mappingId);
+            throw ex;
+        }
+    }
 
-        final WebClient webClient = WebClient.builder()
-                .baseUrl(host.getBaseUrl())
-                .build();
-        final DataIntegrationAPIModel dataIntegrationAPIResponse = webClient.post()
-                .uri(uriBuilder -> uriBuilder.path(host.getIntegrationPath() + "/{atlas}")
-                        .queryParam("language", language)
-                        .build(database.getName())
-                )
-                .headers(header -> header.setBearerAuth(token))
-                .header(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
-                .body(BodyInserters.fromValue(dataIntegrationInputAPI))
-                .retrieve()
-                .onStatus(statusCode -> statusCode.is4xxClientError() || statusCode.is5xxServerError(),
-                        response -> response.bodyToMono(String.class)
-                                .defaultIfEmpty("Error in response")
-                                .flatMap(body -> Mono.error(new ResponseStatusException(response.statusCode(), body)))
-                )
-                .bodyToMono(DataIntegrationAPIModel.class)
-                .block();
-
-        if (dataIntegrationAPIResponse != null) {
-            for (DataIntegrationResultAPIModel dataIntegrationResultAPI : dataIntegrationAPIResponse.getIntegrationResults()) {
-                final UUID mappedItemId = dataIntegrationResultAPI.getInput().getMappedItemId();
-                final ItemStatusModel itemStatus =
-                        dataIntegrationResultAPI.getErrorMessages().isEmpty() ? ItemStatusModel.INTEGRATED
-                                : ItemStatusModel.FAILED;
-                if (itemStatus == ItemStatusModel.INTEGRATED) {
-                    final Map<String, String> data = dataIntegrationResultAPI.getInput().getData();
-                    for (Map.Entry<String, String> entry : data.entrySet()) {
-                        final String mappedKey = entry.getKey();
-                        final String newValue = entry.getValue();
-                        mappedItemsService.updateMappedItemProperty(mappedItemId, mappedKey, newValue);
-                    }
-                }
-                mappedItemsService.updateMappedItemStatusByMappedItemId(mappedItemId, itemStatus);
-                mappedItemsService.updateErrorMessagesByMappedItemId(mappedItemId,
-                        dataIntegrationResultAPI.getErrorMessages());
+    @Override
+    public void failIntegrationJob(MappingJobModel mappingJob, String errorMessage) {
+        mappingJobsService.fail(mappingJob.getId(), errorMessage);
+        mappingJobsService.finishIntegration(mappingJob.getMappingId());
+    }
+
+    @Override
+    public void runIntegrationJob(MappingJobModel mappingJob, String language, String token) {
+        final UUID jobId = mappingJob.getId();
+        try {
+            final MappingEntity mapping = mappingsService.get(mappingJob.getMappingId());
+            final Set<HeaderModel> headers = getHeaders(mapping);
+            final MappingPlanModel mappingPlan = getMappingPlan(mapping, headers, language, token);
+
+            final Iterable<Tuple2<List<MappedItemEntity>, DataIntegrationAPIModel>> integratedChunks =
+                    getNotIntegratedChunks(mapping.getId())
+                            .flatMapSequential(chunk -> integrate(mapping.getDatabase(), language, token,
+                                            mappingPlanService.createInput(mappingPlan, chunk))
+                                            .defaultIfEmpty(new DataIntegrationAPIModel(List.of()))
+                                            .map(response -> Tuples.of(chunk, response)),
+                                    integrationConfig.getConcurrency())
+                            .toIterable(1);
+            for (Tuple2<List<MappedItemEntity>, DataIntegrationAPIModel> integratedChunk : integratedChunks) {
+                final List<DataIntegrationResultAPIModel> integrationResults = integratedChunk.getT2().getIntegrationResults();
+                mappedItemsService.applyIntegrationResults(integratedChunk.getT1(), headers, integrationResults);
+                final long failed = integrationResults.stream()
+                        .filter(integrationResult -> !integrationResult.getErrorMessages().isEmpty())
+                        .count();
+                mappingJobsService.addProgress(jobId, integratedChunk.getT1().size(), integrationResults.size() - failed, failed);
             }
+            mappingJobsService.finish(jobId);
+        } catch (RuntimeException ex) {
+            mappingJobsService.fail(jobId, ex.getMessage());
+            throw ex;
+        } finally {
+            mappingJobsService.finishIntegration(mappingJob.getMappingId());
         }
-
-        return dataIntegrationAPIResponse;
     }
 
     @Override
     public MappedItemModel updateMappedItemProperty(UUID projectId, UUID mappedItemId, String key, String newValue,
                                                     String createdBy) {
         projectsService.isPermitted(projectId, createdBy);
-        final MappedItemEntity mappedItemEntity = mappedItemsService.updateMappedItemProperty(mappedItemId, key, newValue);
-        return mappedItemMapper.mappedItemEntityToMappedItem(mappedItemEntity);
+        final MappedItemEntity mappedItemEntity = mappedItemsService.getMappedItem(mappedItemId);
+        final Set<HeaderModel> headers = getHeaders(mappedItemEntity.getMapping());
+        return toMappedItem(mappedItemsService.updateMappedItemProperty(mappedItemEntity, headers, key, newValue), headers);
     }
 
     @Override
     public Page<MappedItemModel> getAllMappedItems(UUID projectId, UUID mappingId, boolean filterIntegratedItems,
                                                    String createdBy, Pageable pageable) {
         projectsService.isPermitted(projectId, createdBy);
+        final Set<HeaderModel> headers = getHeaders(mappingsService.get(mappingId));
         final Page<MappedItemEntity> mappedItemEntities =
                 mappedItemsService.getByMapping(mappingId, filterIntegratedItems, pageable);
         final List<MappedItemModel> mappedItems = mappedItemEntities.stream()
-                .map(mappedItemMapper::mappedItemEntityToMappedItem)
+                .map(mappedItemEntity -> toMappedItem(mappedItemEntity, headers))
                 .toList();
         return new PageImpl<>(mappedItems, mappedItemEntities.getPageable(), mappedItemEntities.getTotalElements());
     }
 
+    @Override
+    public SeekPageModel<MappedItemModel> seekAllMappedItems(UUID projectId, UUID mappingId, boolean filterIntegratedItems,
+                                                             Long afterLineNumber, UUID afterId, int size, boolean count,
+                                                             String createdBy) {
+        projectsService.isPermitted(projectId, createdBy);
+        final Set<HeaderModel> headers = getHeaders(mappingsService.get(mappingId));
+        final List<MappedItemEntity> mappedItemEntities =
+                mappedItemsService.getByMappingAfter(mappingId, filterIntegratedItems, afterLineNumber, afterId, size);
+        final MappedItemEntity last = mappedItemEntities.size() == size ? mappedItemEntities.get(size - 1) : null;
+        return SeekPageModel.<MappedItemModel>builder()
+                .content(mappedItemEntities.stream()
+                        .map(mappedItemEntity -> toMappedItem(mappedItemEntity, headers))
+                        .toList())
+                .nextLineNumber(last != null ? last.getItem().getLineNumber() : null)
+                .nextId(last != null ? last.getId() : null)
+                .totalElements(count ? mappedItemsService.count(mappingId, filterIntegratedItems) : null)
+                .build();
+    }
+
     @Override
     public void deleteMappedItems(UUID projectId, ApplyUnmappingRequestModel applyUnmappingRequest, String createdBy) {
         projectsService.isPermitted(projectId, createdBy);
         mappedItemsService.deleteMappedItems(applyUnmappingRequest.getMappedItemIds());
     }
 
+    private Flux<List<MappedItemEntity>> getNotIntegratedChunks(UUID mappingId) {
+        final int chunkSize = integrationConfig.getChunkSize();
+        return getNotIntegratedChunk(mappingId, null, chunkSize)
+                .expand(chunk -> chunk.size() < chunkSize ? Mono.empty()
+                        : getNotIntegratedChunk(mappingId, chunk.get(chunk.size() - 1), chunkSize))
+                .filter(chunk -> !chunk.isEmpty());
+    }
+
+    private Mono<List<MappedItemEntity>> getNotIntegratedChunk(UUID mappingId, MappedItemEntity after, int chunkSize) {
+        return Mono.fromCallable(() -> mappedItemsService.getByMappingAfter(mappingId, true,
+                        after != null ? after.getItem().getLineNumber() : null, after != null ? after.getId() : null, chunkSize))
+                .subscribeOn(Schedulers.boundedElastic());
+    }
+
+    private MappingPlanModel getMappingPlan(MappingEntity mapping, Set<HeaderModel> headers, String language, String token) {
+        final DataIntegrationHeaderAPIModel hostHeaders =
+                hostsUsecase.getHostHeaders(mapping.getDatabase().getHost().getId(), language, token);
+        return mappingPlanService.compile(mapping, headers, hostHeaders);
+    }
+
+    private Mono<DataIntegrationAPIModel> integrate(DatabaseEntity database, String language, String token,
+                                                    DataIntegrationInputAPIModel dataIntegrationInputAPI) {
+        final HostEntity host = database.getHost();
+        return hostClientsService.getWebClient(host).post()
+                .uri(uriBuilder -> uriBuilder.path(host.getIntegrationPath() + "/{atlas}")
+                        .queryParam("language", language)
+                        .build(database.getName())
+                )
+                .headers(header -> header.setBearerAuth(token))
+                .header(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
+                .body(BodyInserters.fromValue(dataIntegrationInputAPI))
+                .retrieve()
+                .onStatus(statusCode -> statusCode.is4xxClientError() || statusCode.is5xxServerError(),
+                        response -> response.bodyToMono(String.class)
+                                .defaultIfEmpty("Error in response")
+                                .flatMap(body -> Mono.error(new ResponseStatusException(response.statusCode(), body)))
+                )
+                .bodyToMono(DataIntegrationAPIModel.class);
+    }
+
+    private Set<HeaderModel> getHeaders(MappingEntity mapping) {
+        return scopesService.get(mapping.getScope().getId()).getHeaders();
+    }
+
+    private MappedItemModel toMappedItem(MappedItemEntity mappedItemEntity, Set<HeaderModel> headers) {
+        final MappedItemModel mappedItem = mappedItemMapper.mappedItemEntityToMappedItem(mappedItemEntity);
+        mappedItem.getItem().setProperties(itemPropertiesService.getProperties(mappedItemEntity.getItem(), headers));
+        return mappedItem;
+    }
+
 }
@@ -8,10 +8,14 @@ import org.dataintegration.jpa.entity.MappedItemEntity;
 import org.dataintegration.jpa.entity.MappingEntity;
 import org.dataintegration.jpa.entity.ScopeEntity;
 import org.dataintegration.mapper.MappingMapper;
+import org.dataintegration.model.MappingJobModel;
+import org.dataintegration.model.MappingJobTypeModel;
 import org.dataintegration.model.DataIntegrationHeaderAPIModel;
 import org.dataintegration.model.ItemStatusModel;
 import org.dataintegration.model.MappingModel;
+import org.dataintegration.service.MappingJobsService;
 import org.dataintegration.service.HostsService;
+import org.dataintegration.service.ItemPropertiesService;
 import org.dataintegration.service.ItemsService;
 import org.dataintegration.service.MappedItemsService;
 import org.dataintegration.service.MappingsService;
@@ -22,6 +26,7 @@ import org.dataintegration.usecase.model.ApplyMappingRequestModel;
 import org.dataintegration.usecase.model.CreateOrUpdateMappingsRequestModel;
 import org.mapstruct.factory.Mappers;
 import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.util.StringUtils;
 
 import java.util.HashMap;
 import java.util.List;
@@ -32,14 +37,19 @@ import java.util.UUID;
 @RequiredArgsConstructor
 class Mappings implements MappingsMethods {
 
+    private static final int APPLY_MAPPING_ITEM_IDS_CHUNK_SIZE = 1000;
+    private static final int APPLY_MAPPING_LINES_CHUNK_SIZE = 10000;
+
     private final MappingMapper mappingMapper = Mappers.getMapper(MappingMapper.class);
     private final ProjectsService projectsService;
     private final ScopesService scopesService;
     private final ItemsService itemsService;
+    private final ItemPropertiesService itemPropertiesService;
     private final MappingsService mappingsService;
     private final MappedItemsService mappedItemsService;
     private final HostsService hostsService;
     private final HostsUsecase hostsUsecase;
+    private final MappingJobsService mappingJobsService;
 
     @Override
     public MappingModel createOrUpdateMapping(UUID projectId, UUID scopeId,
@@ -96,6 +106,64 @@ class Mappings implements MappingsMethods {
         }
     }
 
+    @Override
+    public MappingJobModel createApplyMappingJob(UUID projectId, ApplyMappingRequestModel applyMappingRequest,
+                                                      String createdBy) {
+        projectsService.isPermitted(projectId, createdBy);
+        final UUID mappingId = applyMappingRequest.getMappingId();
+        final UUID scopeId = mappingsService.get(mappingId).getScope().getId();
+        final ScopeEntity scopeEntity = scopesService.getAndCheckIfScopeFinished(scopeId);
+        final List<UUID> itemIds = applyMappingRequest.getItemIds();
+        if (itemIds == null) {
+            // an unknown search header matches no items, so the job has nothing to process
+            final String searchHeader = applyMappingRequest.getHeader();
+            final boolean unknownSearchHeader = StringUtils.hasText(searchHeader)
+                    && itemPropertiesService.getSearchColumn(scopeEntity.getHeaders(), searchHeader) == null;
+            return mappingJobsService.create(projectId, mappingId, MappingJobTypeModel.APPLY_MAPPING,
+                    unknownSearchHeader ? 0 : itemsService.getLineNumberBound(scopeId));
+        }
+        final boolean scopeIdDoesNotMatch = itemsService.getScopeIds(itemIds).stream()
+                .anyMatch(itemScopeId -> !itemScopeId.equals(scopeId));
+        if (scopeIdDoesNotMatch) {
+            throw new MappingValidationException(
+                    "Items are not valid, because at least one of the items has a different scope than the scope of the specified mapping.");
+        }
+        return mappingJobsService.create(projectId, mappingId, MappingJobTypeModel.APPLY_MAPPING, itemIds.size());
+    }
+
+    @Override
+    public void runApplyMappingJob(MappingJobModel mappingJob, ApplyMappingRequestModel applyMappingRequest) {
+        final UUID jobId = mappingJob.getId();
+        try {
+            final UUID mappingId = mappingJob.getMappingId();
+            final UUID scopeId = mappingsService.get(mappingId).getScope().getId();
+            final List<UUID> itemIds = applyMappingRequest.getItemIds();
+            if (itemIds != null) {
+                for (int i = 0; i < itemIds.size(); i += APPLY_MAPPING_ITEM_IDS_CHUNK_SIZE) {
+                    final List<UUID> chunk = itemIds.subList(i, Math.min(i + APPLY_MAPPING_ITEM_IDS_CHUNK_SIZE, itemIds.size()));
+                    mappingJobsService.addProgress(jobId, chunk.size(), mappedItemsService.applyMapping(scopeId, mappingId, chunk), 0);
+                }
+            } else {
+                applyMappingByLineNumberRanges(mappingJob, scopeId, applyMappingRequest);
+            }
+            mappingJobsService.finish(jobId);
+        } catch (RuntimeException ex) {
+            mappingJobsService.fail(jobId, ex.getMessage());
+            throw ex;
+        }
+    }
+
+    @Override
+    public void failApplyMappingJob(MappingJobModel mappingJob, String errorMessage) {
+        mappingJobsService.fail(mappingJob.getId(), errorMessage);
+    }
+
+    @Override
+    public MappingJobModel getMappingJob(UUID projectId, UUID jobId, String createdBy) {
+        projectsService.isPermitted(projectId, createdBy);
+        return mappingJobsService.get(projectId, jobId);
+    }
+
     @Override
     public List<MappingModel> getAllMappings(UUID projectId, UUID scopeId, String createdBy) {
         projectsService.isPermitted(projectId, createdBy);
@@ -120,6 +188,22 @@ class Mappings implements MappingsMethods {
         mappingsService.markForDeletion(mappingId);
     }
 
+    private void applyMappingByLineNumberRanges(MappingJobModel mappingJob, UUID scopeId,
+                                                ApplyMappingRequestModel applyMappingRequest) {
+        final String searchHeader = applyMappingRequest.getHeader();
+        final Integer searchColumn =
+                itemPropertiesService.getSearchColumn(scopesService.get(scopeId).getHeaders(), searchHeader);
+        if (StringUtils.hasText(searchHeader) && searchColumn == null) {
+            return;
+        }
+        for (long from = 0; from < mappingJob.getTotal(); from += APPLY_MAPPING_LINES_CHUNK_SIZE) {
+            final long to = Math.min(from + APPLY_MAPPING_LINES_CHUNK_SIZE, mappingJob.getTotal());
+            final int mappedItems = mappedItemsService.applyMapping(scopeId, mappingJob.getMappingId(), searchColumn,
+                    applyMappingRequest.getSearch(), from, to);
+            mappingJobsService.addProgress(mappingJob.getId(), to - from, mappedItems, 0);
+        }
+    }
+
     private MappingEntity getNewMappingEntity() {
         final MappingEntity mappingEntity = new MappingEntity();
         mappingEntity.setDelete(false);
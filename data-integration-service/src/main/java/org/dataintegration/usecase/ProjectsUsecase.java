@@ -2,11 +2,17 @@ package org.dataintegration.usecase;
 
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
+import org.dataintegration.model.IntegrationConfigModel;
 import org.dataintegration.model.cache.DataIntegrationCache;
+import org.dataintegration.service.MappingJobsService;
 import org.dataintegration.service.CheckpointsService;
+import org.dataintegration.service.HostClientsService;
 import org.dataintegration.service.HostsService;
+import org.dataintegration.service.ItemPropertiesService;
+import org.dataintegration.service.ImportProgressService;
 import org.dataintegration.service.ItemsService;
 import org.dataintegration.service.MappedItemsService;
+import org.dataintegration.service.MappingPlanService;
 import org.dataintegration.service.MappingsService;
 import org.dataintegration.service.ProjectsService;
 import org.dataintegration.service.ScopesService;
@@ -25,12 +31,18 @@ public class ProjectsUsecase {
     private final ProjectsService projectsService;
     private final ScopesService scopesService;
     private final ItemsService itemsService;
+    private final ItemPropertiesService itemPropertiesService;
+    private final MappingPlanService mappingPlanService;
     private final CheckpointsService checkpointsService;
     private final MappingsService mappingsService;
     private final MappedItemsService mappedItemsService;
     private final HostsService hostsService;
     private final DataIntegrationCache dataIntegrationCache;
     private final HostsUsecase hostsUsecase;
+    private final HostClientsService hostClientsService;
+    private final MappingJobsService mappingJobsService;
+    private final ImportProgressService importProgressService;
+    private final IntegrationConfigModel integrationConfig;
 
     @Getter(lazy = true)
     private final ProjectsMethods projectsMethods = new Projects(projectsService, scopesService, mappingsService);
@@ -39,17 +51,20 @@ public class ProjectsUsecase {
     private final ScopesMethods scopesMethods = new Scopes(projectsService, scopesService, mappingsService, dataIntegrationCache);
 
     @Getter(lazy = true)
-    private final ItemsMethods itemsMethods = new Items(projectsService, scopesService, itemsService, mappedItemsService);
+    private final ItemsMethods itemsMethods =
+            new Items(projectsService, scopesService, itemsService, itemPropertiesService, mappedItemsService);
 
     @Getter(lazy = true)
-    private final CheckpointsMethods checkpointsMethods = new Checkpoints(projectsService, scopesService, checkpointsService);
+    private final CheckpointsMethods checkpointsMethods =
+            new Checkpoints(projectsService, scopesService, checkpointsService, importProgressService);
 
     @Getter(lazy = true)
     private final MappingsMethods mappingsMethods =
-            new Mappings(projectsService, scopesService, itemsService, mappingsService, mappedItemsService, hostsService,
-                    hostsUsecase);
+            new Mappings(projectsService, scopesService, itemsService, itemPropertiesService, mappingsService, mappedItemsService,
+                    hostsService, hostsUsecase, mappingJobsService);
 
     @Getter(lazy = true)
     private final MappedItemsMethods mappedItemsMethods =
-            new MappedItems(projectsService, mappingsService, mappedItemsService, hostsUsecase);
+            new MappedItems(projectsService, scopesService, mappingsService, mappedItemsService, itemPropertiesService,
+                    mappingPlanService, hostsUsecase, hostClientsService, mappingJobsService, integrationConfig);
 }
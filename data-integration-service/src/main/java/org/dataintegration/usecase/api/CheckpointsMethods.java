@@ -2,6 +2,8 @@ package org.dataintegration.usecase.api;
 
 import org.dataintegration.usecase.ProjectsUsecase;
 import org.dataintegration.usecase.model.CurrentCheckpointStatusResponseModel;
+import org.dataintegration.usecase.model.ImportProgressEventResponseModel;
+import reactor.core.publisher.Flux;
 
 import java.util.UUID;
 
@@ -19,4 +21,15 @@ public interface CheckpointsMethods {
      * @return {@link CurrentCheckpointStatusResponseModel}
      */
     CurrentCheckpointStatusResponseModel getCurrentCheckpointStatus(UUID projectId, UUID scopeId, String createdBy);
+
+    /**
+     * Get import progress events. Starts with the current status and completes when the import ends. If the scope is not
+     * imported on this instance, only the current status is returned.
+     *
+     * @param projectId project id
+     * @param scopeId scope id
+     * @param createdBy creator
+     * @return {@link Flux} of {@link ImportProgressEventResponseModel}
+     */
+    Flux<ImportProgressEventResponseModel> getImportProgressEvents(UUID projectId, UUID scopeId, String createdBy);
 }
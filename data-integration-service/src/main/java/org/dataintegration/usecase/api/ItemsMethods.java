@@ -1,6 +1,7 @@
 package org.dataintegration.usecase.api;
 
 import org.dataintegration.model.ItemModel;
+import org.dataintegration.model.SeekPageModel;
 import org.dataintegration.usecase.model.UpdateItemPropertiesRequestModel;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
@@ -13,6 +14,13 @@ public interface ItemsMethods {
     void updateItemProperties(UUID projectId, UpdateItemPropertiesRequestModel updateItemPropertiesRequest, String key,
                               String newValue, String createdBy);
 
+    int updateFilteredItemProperties(UUID projectId, UUID scopeId, UUID mappingId, boolean filterMappedItems, String header,
+                                     String search, String key, String newValue, String createdBy);
+
     Page<ItemModel> getAllItems(UUID projectId, UUID scopeId, UUID mappingId, boolean filterMappedItems, String header,
                                 String search, String createdBy, Pageable pageable);
+
+    SeekPageModel<ItemModel> seekAllItems(UUID projectId, UUID scopeId, UUID mappingId, boolean filterMappedItems, String header,
+                                          String search, Long afterLineNumber, UUID afterId, int size, boolean count,
+                                          String createdBy);
 }
@@ -2,6 +2,8 @@ package org.dataintegration.usecase.api;
 
 import org.dataintegration.model.DataIntegrationAPIModel;
 import org.dataintegration.model.MappedItemModel;
+import org.dataintegration.model.MappingJobModel;
+import org.dataintegration.model.SeekPageModel;
 import org.dataintegration.usecase.model.ApplyUnmappingRequestModel;
 import org.dataintegration.usecase.model.IntegrateRequestModel;
 import org.springframework.data.domain.Page;
@@ -13,10 +15,19 @@ public interface MappedItemsMethods {
     DataIntegrationAPIModel integrateMappedItems(UUID projectId, UUID mappingId, String language,
                                                  IntegrateRequestModel integrateRequest, String createdBy, String token);
 
+    MappingJobModel createIntegrationJob(UUID projectId, UUID mappingId, String createdBy);
+
+    void runIntegrationJob(MappingJobModel mappingJob, String language, String token);
+
+    void failIntegrationJob(MappingJobModel mappingJob, String errorMessage);
+
     MappedItemModel updateMappedItemProperty(UUID projectId, UUID mappedItemId, String key, String newValue, String createdBy);
 
     Page<MappedItemModel> getAllMappedItems(UUID projectId, UUID mappingId, boolean filterIntegratedItems, String createdBy,
                                             Pageable pageable);
 
+    SeekPageModel<MappedItemModel> seekAllMappedItems(UUID projectId, UUID mappingId, boolean filterIntegratedItems,
+                                                      Long afterLineNumber, UUID afterId, int size, boolean count, String createdBy);
+
     void deleteMappedItems(UUID projectId, ApplyUnmappingRequestModel applyUnmappingRequest, String createdBy);
 }
@@ -1,5 +1,6 @@
 package org.dataintegration.usecase.api;
 
+import org.dataintegration.model.MappingJobModel;
 import org.dataintegration.model.MappingModel;
 import org.dataintegration.usecase.model.ApplyMappingRequestModel;
 import org.dataintegration.usecase.model.CreateOrUpdateMappingsRequestModel;
@@ -13,6 +14,14 @@ public interface MappingsMethods {
 
     void applyMapping(UUID projectId, ApplyMappingRequestModel applyMappingRequest, String createdBy);
 
+    MappingJobModel createApplyMappingJob(UUID projectId, ApplyMappingRequestModel applyMappingRequest, String createdBy);
+
+    void runApplyMappingJob(MappingJobModel mappingJob, ApplyMappingRequestModel applyMappingRequest);
+
+    void failApplyMappingJob(MappingJobModel mappingJob, String errorMessage);
+
+    MappingJobModel getMappingJob(UUID projectId, UUID jobId, String createdBy);
+
     List<MappingModel> getAllMappings(UUID projectId, UUID scopeId, String createdBy);
 
     void markMappingForDeletion(UUID projectId, UUID mappingId, String createdBy);
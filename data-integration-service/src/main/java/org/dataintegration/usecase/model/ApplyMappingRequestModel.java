@@ -16,5 +16,7 @@ public class ApplyMappingRequestModel {
 
     private UUID mappingId;
     private List<UUID> itemIds;
+    private String header;
+    private String search;
 
 }
@@ -0,0 +1,21 @@
+package org.dataintegration.usecase.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.dataintegration.model.ImportProgressEventTypeModel;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ImportProgressEventResponseModel {
+
+    private ImportProgressEventTypeModel type;
+    private int attempt;
+    private Long batchIndex;
+    private String message;
+    private CurrentCheckpointStatusResponseModel status;
+
+}
@@ -0,0 +1,8 @@
+--
+-- Byte offsets of the checkpointed batches, so an interrupted import resumes reading the file after the last batch
+-- instead of skipping the records from the start
+--
+
+ALTER TABLE public.checkpoint_batch ADD COLUMN IF NOT EXISTS end_offset bigint;
+
+ALTER TABLE public.checkpoint_batch ADD COLUMN IF NOT EXISTS start_offset bigint;
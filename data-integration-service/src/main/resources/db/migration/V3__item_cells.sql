@@ -0,0 +1,70 @@
+--
+-- Positional item cells
+--
+-- Items stored their values as an object of {"value", "originalValue"} by header id in properties. They now store the
+-- values as an array in cells, where the position is the column of the scope header, and only the original values of edited
+-- cells by header id in original_values.
+--
+-- Headers without a column get one in their stored order, after the highest column already assigned in the scope. The
+-- conversion only runs while item still has the properties column, so databases that already store cells are left as is.
+--
+
+UPDATE public.scope s
+SET headers = (
+    SELECT jsonb_agg(
+            CASE
+                WHEN numbered.assigned THEN numbered.header
+                ELSE jsonb_set(numbered.header, '{column}', to_jsonb(numbered.next_column))
+            END
+            ORDER BY numbered.ordinality)
+    FROM (
+        SELECT h.header,
+            h.ordinality,
+            a.assigned,
+            COALESCE(max(CAST(h.header ->> 'column' AS integer)) FILTER (WHERE a.assigned) OVER (), -1)
+                + count(*) FILTER (WHERE NOT a.assigned) OVER (ORDER BY h.ordinality) AS next_column
+        FROM jsonb_array_elements(s.headers) WITH ORDINALITY h(header, ordinality)
+        CROSS JOIN LATERAL (SELECT COALESCE(jsonb_typeof(h.header -> 'column') = 'number', false) AS assigned) a
+    ) numbered
+)
+WHERE jsonb_typeof(s.headers) = 'array'
+    AND EXISTS (
+        SELECT 1
+        FROM jsonb_array_elements(s.headers) h(header)
+        WHERE COALESCE(jsonb_typeof(h.header -> 'column') <> 'number', true)
+    );
+
+ALTER TABLE public.item ADD COLUMN IF NOT EXISTS cells jsonb;
+
+ALTER TABLE public.item ADD COLUMN IF NOT EXISTS original_values jsonb;
+
+DO $$
+BEGIN
+    IF EXISTS (
+        SELECT 1
+        FROM information_schema.columns
+        WHERE table_schema = 'public' AND table_name = 'item' AND column_name = 'properties'
+    ) THEN
+        UPDATE public.item i
+        SET cells = COALESCE((
+                SELECT jsonb_agg(i.properties -> (h.header ->> 'id') -> 'value' ORDER BY c.n)
+                FROM public.scope s
+                CROSS JOIN generate_series(0, (
+                    SELECT max(CAST(x.header ->> 'column' AS integer))
+                    FROM jsonb_array_elements(s.headers) x(header)
+                )) c(n)
+                LEFT JOIN jsonb_array_elements(s.headers) h(header) ON CAST(h.header ->> 'column' AS integer) = c.n
+                WHERE s.id = i.scope_id AND jsonb_typeof(s.headers) = 'array'
+            ), CAST('[]' AS jsonb)),
+            original_values = (
+                SELECT jsonb_object_agg(p.key, p.value -> 'originalValue')
+                FROM jsonb_each(i.properties) p
+                WHERE jsonb_typeof(p.value -> 'originalValue') = 'string'
+            );
+
+        ALTER TABLE public.item DROP COLUMN properties;
+    END IF;
+END
+$$;
+
+ALTER TABLE public.item ALTER COLUMN cells SET NOT NULL;
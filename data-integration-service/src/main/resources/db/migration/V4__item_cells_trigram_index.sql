@@ -0,0 +1,7 @@
+--
+-- Trigram index for the free text and header searches of the item grids, which prefilter the cells with ILIKE
+--
+
+CREATE EXTENSION IF NOT EXISTS pg_trgm WITH SCHEMA public;
+
+CREATE INDEX IF NOT EXISTS idx_item_cells_trgm ON public.item USING gin (((cells)::text) public.gin_trgm_ops);
@@ -0,0 +1,5 @@
+--
+-- Index for the keyset pagination of the item grids, which filter by scope_id and seek and sort by (line_number, id)
+--
+
+CREATE INDEX IF NOT EXISTS idx_item_scope_id_line_number_id ON public.item USING btree (scope_id, line_number, id);
@@ -0,0 +1,74 @@
+--
+-- Indexes for the item grids, the mapped item anti-join and the checkpoint lookups
+--
+-- The item grids filter by scope_id and sort by line_number (and id for keyset pagination), which
+-- idx_item_scope_id_line_number_id (V5) serves without a sort. The single column indexes on scope_id and line_number are
+-- dropped, so the planner can no longer pick one of them and sort afterwards.
+--
+-- The NOT EXISTS anti-join probes mapped_item by (item_id, mapping_id) per item or hashes all item ids of a mapping. The
+-- first is covered by uk_mapped_item_item_id_mapping_id, the second by the new (mapping_id, item_id) index, both as index
+-- only scans. The indexes that duplicate one of them or are a prefix of one of them are dropped.
+--
+-- Every statement uses IF [NOT] EXISTS, so the script also runs on databases that use the partitioned storage layout.
+--
+
+DROP INDEX IF EXISTS public.idx_item_scope_id;
+
+DROP INDEX IF EXISTS public.idx_item_line_number;
+
+DROP INDEX IF EXISTS public.idx_mapped_item_item_id;
+
+DROP INDEX IF EXISTS public.idx_mapped_item_item_id_mapping_id;
+
+DROP INDEX IF EXISTS public.idx_mapped_item_mapping_id;
+
+CREATE INDEX IF NOT EXISTS idx_mapped_item_mapping_id_item_id ON public.mapped_item USING btree (mapping_id, item_id);
+
+--
+-- A batch is checkpointed once per import. Concurrent retries could checkpoint a batch twice and insert its items twice, with
+-- the same line numbers. For the scopes with a duplicated checkpoint batch, all copies of an item but one are removed together
+-- with their mapped items, then the duplicated checkpoint batches are removed before the unique index is created, which also
+-- covers the end offset lookup of a resumed import.
+--
+
+DELETE FROM public.mapped_item mi
+USING public.item i, public.item duplicate
+WHERE mi.item_id = i.id
+    AND i.scope_id = duplicate.scope_id
+    AND i.line_number = duplicate.line_number
+    AND i.id > duplicate.id
+    AND i.scope_id IN (
+        SELECT c.scope_id
+        FROM public.checkpoint c
+        JOIN public.checkpoint_batch cb ON cb.checkpoint_id = c.id
+        GROUP BY c.scope_id, cb.batch_index
+        HAVING count(*) > 1
+    );
+
+DELETE FROM public.item i
+USING public.item duplicate
+WHERE i.scope_id = duplicate.scope_id
+    AND i.line_number = duplicate.line_number
+    AND i.id > duplicate.id
+    AND i.scope_id IN (
+        SELECT c.scope_id
+        FROM public.checkpoint c
+        JOIN public.checkpoint_batch cb ON cb.checkpoint_id = c.id
+        GROUP BY c.scope_id, cb.batch_index
+        HAVING count(*) > 1
+    );
+
+DELETE FROM public.checkpoint_batch cb
+USING public.checkpoint_batch duplicate
+WHERE cb.checkpoint_id = duplicate.checkpoint_id
+    AND cb.batch_index = duplicate.batch_index
+    AND cb.id > duplicate.id;
+
+CREATE UNIQUE INDEX IF NOT EXISTS uk_checkpoint_batch_checkpoint_id_batch_index
+    ON public.checkpoint_batch USING btree (checkpoint_id, batch_index) INCLUDE (end_offset);
+
+CREATE INDEX IF NOT EXISTS idx_checkpoint_scope_id ON public.checkpoint USING btree (scope_id);
+
+CREATE INDEX IF NOT EXISTS idx_mapping_scope_id ON public.mapping USING btree (scope_id);
+
+CREATE INDEX IF NOT EXISTS idx_scope_project_id ON public.scope USING btree (project_id);
@@ -0,0 +1,176 @@
+package org.dataintegration.jpa.repository;
+
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.datasource.SingleConnectionDataSource;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.sql.Types;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Runs the search predicates of {@link JpaItemRepository} and the filtered apply mapping of {@link JpaMappedItemRepository}
+ * against a real postgres, with values that need escaping in json or in a LIKE pattern. Skipped if no docker environment is
+ * available.
+ */
+@Testcontainers(disabledWithoutDocker = true)
+class ItemSearchTest {
+
+    private static final UUID PROJECT_ID = UUID.randomUUID();
+    private static final UUID SCOPE_ID = UUID.randomUUID();
+    private static final UUID DATABASE_ID = UUID.randomUUID();
+    private static final List<String> VALUES = List.of(
+            "say \"hi\"",
+            "say hi",
+            "C:\\temp",
+            "C:temp",
+            "100%",
+            "100 percent",
+            "a_b",
+            "axb"
+    );
+
+    @Container
+    private static final PostgreSQLContainer<?> POSTGRES = new PostgreSQLContainer<>("postgres:17");
+
+    private static SingleConnectionDataSource dataSource;
+    private static NamedParameterJdbcTemplate jdbcTemplate;
+
+    @BeforeAll
+    static void setUp() {
+        Flyway.configure()
+                .dataSource(POSTGRES.getJdbcUrl(), POSTGRES.getUsername(), POSTGRES.getPassword())
+                .load()
+                .migrate();
+        dataSource = new SingleConnectionDataSource(POSTGRES.getJdbcUrl(), POSTGRES.getUsername(), POSTGRES.getPassword(), true);
+        jdbcTemplate = new NamedParameterJdbcTemplate(dataSource);
+        insertTestData();
+    }
+
+    @AfterAll
+    static void tearDown() {
+        dataSource.destroy();
+    }
+
+    @Test
+    void testSearchQuote() {
+        assertThat(search(1, "say \"")).containsExactly("say \"hi\"");
+        assertThat(search(null, "say \"")).containsExactly("say \"hi\"");
+    }
+
+    @Test
+    void testSearchBackslash() {
+        assertThat(search(1, "C:\\")).containsExactly("C:\\temp");
+        assertThat(search(null, "C:\\")).containsExactly("C:\\temp");
+    }
+
+    @Test
+    void testSearchPercent() {
+        assertThat(search(1, "100%")).containsExactly("100%");
+        assertThat(search(null, "100%")).containsExactly("100%");
+    }
+
+    @Test
+    void testSearchUnderscore() {
+        assertThat(search(1, "a_")).containsExactly("a_b");
+        assertThat(search(null, "a_")).containsExactly("a_b");
+    }
+
+    @Test
+    void testSearchCaseInsensitivePrefix() {
+        assertThat(search(1, "SAY")).containsExactly("say \"hi\"", "say hi");
+    }
+
+    @Test
+    void testApplyMappingSearch() throws Exception {
+        assertThat(applyMapping(1, "say \"")).containsExactly("say \"hi\"");
+        assertThat(applyMapping(null, "C:\\")).containsExactly("C:\\temp");
+        assertThat(applyMapping(1, "100%")).containsExactly("100%");
+        assertThat(applyMapping(null, "a_")).containsExactly("a_b");
+        assertThat(applyMapping(1, null)).containsExactlyElementsOf(VALUES);
+    }
+
+    @Test
+    void testSearchOtherColumn() {
+        assertThat(search(0, "say")).isEmpty();
+    }
+
+    @Test
+    void testSearchWithoutValue() {
+        assertThat(search(1, null)).containsExactlyElementsOf(VALUES);
+    }
+
+    private static void insertTestData() {
+        final UUID hostId = UUID.randomUUID();
+        jdbcTemplate.update("""
+                INSERT INTO project (id, created_by, created_date, delete, last_modified_date, name)
+                VALUES (:projectId, 'test', now(), false, now(), 'project')
+                """, new MapSqlParameterSource("projectId", PROJECT_ID));
+        jdbcTemplate.update("""
+                INSERT INTO scope (id, created_date, delete, external, finished, key, project_id)
+                VALUES (:scopeId, now(), false, false, true, 'scope', :projectId)
+                """, new MapSqlParameterSource("scopeId", SCOPE_ID).addValue("projectId", PROJECT_ID));
+        jdbcTemplate.update("""
+                INSERT INTO host (id, base_url, header_path, integration_path, name)
+                VALUES (:hostId, 'http://localhost', '/headers', '/integrate', 'host')
+                """, new MapSqlParameterSource("hostId", hostId));
+        jdbcTemplate.update("""
+                INSERT INTO database (id, name, host_id)
+                VALUES (:databaseId, 'database', :hostId)
+                """, new MapSqlParameterSource("databaseId", DATABASE_ID).addValue("hostId", hostId));
+        for (int i = 0; i < VALUES.size(); i++) {
+            jdbcTemplate.update("""
+                    INSERT INTO item (id, cells, line_number, scope_id)
+                    VALUES (gen_random_uuid(), jsonb_build_array('other', CAST(:value AS text)), :lineNumber, :scopeId)
+                    """, new MapSqlParameterSource("value", VALUES.get(i))
+                    .addValue("lineNumber", i)
+                    .addValue("scopeId", SCOPE_ID));
+        }
+    }
+
+    private static List<String> applyMapping(Integer column, String value) throws Exception {
+        final UUID mappingId = UUID.randomUUID();
+        jdbcTemplate.update("""
+                INSERT INTO mapping (id, created_date, delete, mapping, name, database_id, scope_id)
+                VALUES (:mappingId, now(), false, CAST('{}' AS jsonb), 'mapping', :databaseId, :scopeId)
+                """, new MapSqlParameterSource("mappingId", mappingId)
+                .addValue("databaseId", DATABASE_ID)
+                .addValue("scopeId", SCOPE_ID));
+        final String applyMappingQuery = JpaMappedItemRepository.class.getMethod("insertAllByScopeIdAndLineNumberRange",
+                        UUID.class, UUID.class, Integer.class, String.class, long.class, long.class)
+                .getAnnotation(Query.class)
+                .value();
+        jdbcTemplate.update(applyMappingQuery, new MapSqlParameterSource("scopeId", SCOPE_ID)
+                .addValue("mappingId", mappingId)
+                .addValue("column", column, Types.INTEGER)
+                .addValue("value", value, Types.VARCHAR)
+                .addValue("fromLineNumber", 0L)
+                .addValue("toLineNumber", (long) VALUES.size()));
+        return jdbcTemplate.queryForList("""
+                        SELECT i.cells ->> 1 FROM mapped_item mi
+                        JOIN item i ON i.id = mi.item_id
+                        WHERE mi.mapping_id = :mappingId
+                        ORDER BY i.line_number
+                        """, new MapSqlParameterSource("mappingId", mappingId), String.class);
+    }
+
+    private static List<String> search(Integer column, String value) {
+        return jdbcTemplate.queryForList("SELECT i.cells ->> 1 FROM item i WHERE i.scope_id = :scopeId AND "
+                        + JpaItemRepository.MATCHES_SEARCH + " ORDER BY i.line_number",
+                new MapSqlParameterSource("scopeId", SCOPE_ID)
+                        .addValue("column", column, Types.INTEGER)
+                        .addValue("value", value, Types.VARCHAR),
+                String.class);
+    }
+
+}
@@ -0,0 +1,213 @@
+package org.dataintegration.jpa.repository;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.SingleConnectionDataSource;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+/**
+ * Runs the migrations against a real postgres and asserts with {@code EXPLAIN} that the grid, anti-join and checkpoint
+ * queries are served by their indexes. Skipped if no docker environment is available.
+ */
+@Testcontainers(disabledWithoutDocker = true)
+class QueryPlanTest {
+
+    private static final UUID PROJECT_ID = UUID.randomUUID();
+    private static final UUID SCOPE_ID = UUID.randomUUID();
+    private static final UUID HOST_ID = UUID.randomUUID();
+    private static final UUID DATABASE_ID = UUID.randomUUID();
+    private static final UUID MAPPING_ID = UUID.randomUUID();
+    private static final int SCOPES = 10;
+    private static final int ITEMS_PER_SCOPE = 10000;
+    private static final int BATCHES_PER_CHECKPOINT = 1000;
+    private static final int PAGE_SIZE = 50;
+
+    @Container
+    private static final PostgreSQLContainer<?> POSTGRES = new PostgreSQLContainer<>("postgres:17");
+
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
+    private static SingleConnectionDataSource dataSource;
+    private static JdbcTemplate jdbcTemplate;
+
+    @BeforeAll
+    static void setUp() {
+        Flyway.configure()
+                .dataSource(POSTGRES.getJdbcUrl(), POSTGRES.getUsername(), POSTGRES.getPassword())
+                .load()
+                .migrate();
+        dataSource = new SingleConnectionDataSource(POSTGRES.getJdbcUrl(), POSTGRES.getUsername(), POSTGRES.getPassword(), true);
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        insertTestData();
+        jdbcTemplate.execute("VACUUM ANALYZE");
+    }
+
+    @AfterAll
+    static void tearDown() {
+        dataSource.destroy();
+    }
+
+    @Test
+    void testItemGridUsesScopeLineNumberIndex() {
+        final List<JsonNode> plan = explain("""
+                SELECT * FROM item i
+                WHERE i.scope_id = ?
+                ORDER BY i.line_number
+                LIMIT ?
+                """, SCOPE_ID, PAGE_SIZE);
+
+        assertThat(getIndexNames(plan, "item")).containsExactly("idx_item_scope_id_line_number_id");
+        assertThat(getNodeTypes(plan)).doesNotContain("Sort", "Seq Scan");
+    }
+
+    @Test
+    void testItemGridKeysetUsesScopeLineNumberIndex() {
+        final List<JsonNode> plan = explain("""
+                SELECT * FROM item i
+                WHERE i.scope_id = ?
+                AND (i.line_number, i.id) > (?, ?)
+                ORDER BY i.line_number, i.id
+                LIMIT ?
+                """, SCOPE_ID, ITEMS_PER_SCOPE / 2, UUID.randomUUID(), PAGE_SIZE);
+
+        assertThat(getIndexNames(plan, "item")).containsExactly("idx_item_scope_id_line_number_id");
+        assertThat(getNodeTypes(plan)).doesNotContain("Sort", "Seq Scan");
+    }
+
+    @Test
+    void testItemGridNotInMappedItemsUsesIndexOnlyAntiJoin() {
+        final List<JsonNode> plan = explain("""
+                SELECT * FROM item i
+                WHERE i.scope_id = ?
+                AND NOT EXISTS (
+                    SELECT 1 FROM mapped_item mi
+                    WHERE mi.item_id = i.id AND mi.mapping_id = ?
+                )
+                ORDER BY i.line_number
+                LIMIT ?
+                """, SCOPE_ID, MAPPING_ID, PAGE_SIZE);
+
+        assertThat(getIndexNames(plan, "item")).containsExactly("idx_item_scope_id_line_number_id");
+        assertThat(getNodes(plan, "mapped_item"))
+                .extracting(node -> node.path("Node Type").asText())
+                .containsOnly("Index Only Scan");
+        assertThat(getIndexNames(plan, "mapped_item"))
+                .isSubsetOf("uk_mapped_item_item_id_mapping_id", "idx_mapped_item_mapping_id_item_id");
+        assertThat(getNodeTypes(plan)).doesNotContain("Seq Scan");
+    }
+
+    @Test
+    void testCheckpointBatchEndOffsetUsesCoveringUniqueIndex() {
+        final List<JsonNode> plan = explain("""
+                SELECT cb.end_offset FROM checkpoint_batch cb
+                JOIN checkpoint cp ON cp.id = cb.checkpoint_id
+                WHERE cp.scope_id = ?
+                AND cb.batch_index = ?
+                """, SCOPE_ID, BATCHES_PER_CHECKPOINT / 2);
+
+        assertThat(getIndexNames(plan, "checkpoint_batch")).containsExactly("uk_checkpoint_batch_checkpoint_id_batch_index");
+    }
+
+    @Test
+    void testCheckpointBatchUniqueIndexRejectsDuplicateBatch() {
+        final UUID checkpointId = jdbcTemplate.queryForObject("SELECT id FROM checkpoint WHERE scope_id = ?", UUID.class, SCOPE_ID);
+
+        assertThatExceptionOfType(DuplicateKeyException.class).isThrownBy(() -> jdbcTemplate.update("""
+                INSERT INTO checkpoint_batch (id, batch_index, checkpoint_id, start_offset, end_offset)
+                VALUES (?, 1, ?, 0, 0)
+                """, UUID.randomUUID(), checkpointId));
+    }
+
+    private static void insertTestData() {
+        jdbcTemplate.update("""
+                INSERT INTO project (id, created_by, created_date, delete, last_modified_date, name)
+                VALUES (?, 'test', now(), false, now(), 'project')
+                """, PROJECT_ID);
+        jdbcTemplate.update("""
+                INSERT INTO scope (id, created_date, delete, external, finished, key, project_id)
+                SELECT CASE WHEN n = 1 THEN CAST(? AS uuid) ELSE gen_random_uuid() END, now(), false, false, true, 'scope' || n, ?
+                FROM generate_series(1, ?) n
+                """, SCOPE_ID, PROJECT_ID, SCOPES);
+        jdbcTemplate.update("""
+                INSERT INTO item (id, cells, line_number, scope_id)
+                SELECT gen_random_uuid(), jsonb_build_array('value' || n), n, s.id
+                FROM scope s CROSS JOIN generate_series(0, ? - 1) n
+                """, ITEMS_PER_SCOPE);
+        jdbcTemplate.update("""
+                INSERT INTO host (id, base_url, header_path, integration_path, name)
+                VALUES (?, 'http://localhost', '/headers', '/integrate', 'host')
+                """, HOST_ID);
+        jdbcTemplate.update("INSERT INTO database (id, name, host_id) VALUES (?, 'database', ?)", DATABASE_ID, HOST_ID);
+        jdbcTemplate.update("""
+                INSERT INTO mapping (id, created_date, delete, mapping, name, database_id, scope_id)
+                VALUES (?, now(), false, CAST('{}' AS jsonb), 'mapping', ?, ?)
+                """, MAPPING_ID, DATABASE_ID, SCOPE_ID);
+        jdbcTemplate.update("""
+                INSERT INTO mapped_item (id, status, item_id, mapping_id)
+                SELECT gen_random_uuid(), 'MAPPED', i.id, ?
+                FROM item i
+                WHERE i.scope_id = ? AND i.line_number % 2 = 0
+                """, MAPPING_ID, SCOPE_ID);
+        jdbcTemplate.update("""
+                INSERT INTO checkpoint (id, batch_size, total_batches, scope_id)
+                SELECT gen_random_uuid(), 10, ?, s.id
+                FROM scope s
+                """, BATCHES_PER_CHECKPOINT);
+        jdbcTemplate.update("""
+                INSERT INTO checkpoint_batch (id, batch_index, checkpoint_id, start_offset, end_offset)
+                SELECT gen_random_uuid(), n, c.id, n * 100, n * 100 + 100
+                FROM checkpoint c CROSS JOIN generate_series(1, ?) n
+                """, BATCHES_PER_CHECKPOINT);
+    }
+
+    private static List<JsonNode> explain(String sql, Object... args) {
+        final String plan = jdbcTemplate.queryForObject("EXPLAIN (FORMAT JSON) " + sql, String.class, args);
+        final List<JsonNode> nodes = new ArrayList<>();
+        try {
+            addNodes(OBJECT_MAPPER.readTree(plan).get(0).get("Plan"), nodes);
+        } catch (Exception ex) {
+            throw new IllegalStateException("Could not read plan " + plan, ex);
+        }
+        return nodes;
+    }
+
+    private static void addNodes(JsonNode node, List<JsonNode> nodes) {
+        nodes.add(node);
+        node.path("Plans").forEach(child -> addNodes(child, nodes));
+    }
+
+    private static List<JsonNode> getNodes(List<JsonNode> plan, String relationName) {
+        return plan.stream()
+                .filter(node -> relationName.equals(node.path("Relation Name").asText()))
+                .toList();
+    }
+
+    private static List<String> getIndexNames(List<JsonNode> plan, String relationName) {
+        return getNodes(plan, relationName).stream()
+                .map(node -> node.path("Index Name").asText())
+                .distinct()
+                .toList();
+    }
+
+    private static List<String> getNodeTypes(List<JsonNode> plan) {
+        return plan.stream()
+                .map(node -> node.path("Node Type").asText())
+                .toList();
+    }
+
+}
@@ -5,6 +5,7 @@ import org.dataintegration.jpa.entity.CheckpointEntity;
 import org.dataintegration.jpa.entity.ScopeEntity;
 import org.dataintegration.jpa.repository.JpaCheckpointBatchRepository;
 import org.dataintegration.jpa.repository.JpaCheckpointRepository;
+import org.dataintegration.model.ImportProgressModel;
 import org.dataintegration.model.cache.DataIntegrationCache;
 import org.dataintegration.usecase.model.CurrentCheckpointStatusResponseModel;
 import org.junit.jupiter.api.Test;
@@ -13,12 +14,15 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.util.BitSet;
+import java.util.List;
 import java.util.Optional;
 import java.util.Set;
 import java.util.UUID;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -33,6 +37,8 @@ class CheckpointsServiceTest {
     private JpaCheckpointBatchRepository jpaCheckpointBatchRepository;
     @Mock
     private DataIntegrationCache dataIntegrationCache;
+    @Mock
+    private ImportProgressService importProgressService;
 
     @InjectMocks
     private CheckpointsService subject;
@@ -48,17 +54,23 @@ class CheckpointsServiceTest {
         when(checkpointEntity.getBatchSize()).thenReturn(100);
         when(jpaCheckpointRepository.findByScope_Id(SCOPE_ID)).thenReturn(Optional.of(checkpointEntity));
 
-        final int result = subject.createOrGetBatchSize(scopeEntity, 10, 50);
+        final int result = subject.createOrGetBatchSize(scopeEntity, 50);
 
         assertThat(result).isEqualTo(100);
     }
 
     @Test
     void testCreateOrGetBatchSizeNewEntity() {
-        final int result = subject.createOrGetBatchSize(scopeEntity, 10, 50);
+        final int result = subject.createOrGetBatchSize(scopeEntity, 50);
         assertThat(result).isEqualTo(50);
     }
 
+    @Test
+    void testUpdateTotalBatches() {
+        subject.updateTotalBatches(SCOPE_ID, 3);
+        verify(jpaCheckpointRepository).updateTotalBatches(SCOPE_ID, 3);
+    }
+
     @Test
     void testGetCurrentCheckpointStatusIsInterruptedAndScopeAlreadyProcessed() {
         when(scopeEntity.getId()).thenReturn(SCOPE_ID);
@@ -105,12 +117,37 @@ class CheckpointsServiceTest {
     }
 
     @Test
-    void testIsBatchAlreadyProcessed() {
-        when(jpaCheckpointBatchRepository.existsByCheckpoint_ScopeIdAndBatchIndex(SCOPE_ID, 0L)).thenReturn(true);
+    void testGetCurrentCheckpointStatusScopeImportedOnThisInstance() {
+        when(scopeEntity.getId()).thenReturn(SCOPE_ID);
+        when(scopeEntity.getCheckpoint()).thenReturn(checkpointEntity);
+        when(importProgressService.get(SCOPE_ID)).thenReturn(Optional.of(new ImportProgressModel(false, 20, 200)));
+        when(dataIntegrationCache.getProcessingScopes()).thenReturn(Set.of(SCOPE_ID));
+
+        final CurrentCheckpointStatusResponseModel result = subject.getCurrentCheckpointStatus(scopeEntity);
+
+        assertThat(result).isNotNull()
+                .returns(20L, CurrentCheckpointStatusResponseModel::getBatchesProcessed)
+                .returns(200L, CurrentCheckpointStatusResponseModel::getTotalBatches)
+                .returns(true, CurrentCheckpointStatusResponseModel::isProcessing);
+        verify(jpaCheckpointBatchRepository, never()).countBatchIndexByScopeId(SCOPE_ID);
+    }
+
+    @Test
+    void testGetProcessedBatches() {
+        when(jpaCheckpointBatchRepository.findBatchIndicesByScopeId(SCOPE_ID)).thenReturn(List.of(1L, 3L));
+
+        final BitSet result = subject.getProcessedBatches(SCOPE_ID);
+
+        assertThat(result.stream()).containsExactly(1, 3);
+    }
+
+    @Test
+    void testGetBatchEndOffset() {
+        when(jpaCheckpointBatchRepository.findEndOffsetByScopeIdAndBatchIndex(SCOPE_ID, 2L)).thenReturn(Optional.of(100L));
 
-        final boolean result = subject.isBatchAlreadyProcessed(SCOPE_ID, 0L);
+        final Optional<Long> result = subject.getBatchEndOffset(SCOPE_ID, 2L);
 
-        assertThat(result).isTrue();
+        assertThat(result).contains(100L);
     }
 
     @Test
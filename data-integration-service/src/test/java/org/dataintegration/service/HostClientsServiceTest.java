@@ -0,0 +1,89 @@
+package org.dataintegration.service;
+
+import org.dataintegration.jpa.entity.HostEntity;
+import org.dataintegration.model.HostClientConfigModel;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.reactive.function.client.WebClient;
+
+import java.time.Duration;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class HostClientsServiceTest {
+
+    private static final UUID HOST_ID = UUID.randomUUID();
+
+    private HostClientsService subject = createSubject(false);
+
+    @AfterEach
+    void tearDown() {
+        subject.destroy();
+    }
+
+    @Test
+    void testGetWebClientReusesClient() {
+        final HostEntity host = createHost("http://localhost:8080");
+
+        final WebClient result = subject.getWebClient(host);
+
+        assertThat(subject.getWebClient(host)).isSameAs(result);
+    }
+
+    @Test
+    void testGetWebClientWithHttp2() {
+        subject = createSubject(true);
+        final HostEntity host = createHost("https://localhost:8443");
+
+        final WebClient result = subject.getWebClient(host);
+
+        assertThat(subject.getWebClient(host)).isSameAs(result);
+    }
+
+    @Test
+    void testGetWebClientReplacesClientOnBaseUrlChange() {
+        final WebClient webClient = subject.getWebClient(createHost("http://localhost:8080"));
+
+        final WebClient result = subject.getWebClient(createHost("http://localhost:9090"));
+
+        assertThat(result).isNotSameAs(webClient);
+    }
+
+    @Test
+    void testInvalidate() {
+        final HostEntity host = createHost("http://localhost:8080");
+        final WebClient webClient = subject.getWebClient(host);
+
+        subject.invalidate(HOST_ID);
+
+        assertThat(subject.getWebClient(host)).isNotSameAs(webClient);
+    }
+
+    @Test
+    void testInvalidateUnknownHost() {
+        subject.invalidate(UUID.randomUUID());
+
+        assertThat(subject.getWebClient(createHost("http://localhost:8080"))).isNotNull();
+    }
+
+    private static HostClientsService createSubject(boolean http2) {
+        return new HostClientsService(HostClientConfigModel.builder()
+                .maxConnections(10)
+                .pendingAcquireTimeout(Duration.ofSeconds(1))
+                .maxIdleTime(Duration.ofSeconds(1))
+                .connectTimeout(Duration.ofSeconds(1))
+                .responseTimeout(Duration.ofSeconds(1))
+                .compression(true)
+                .http2(http2)
+                .build());
+    }
+
+    private static HostEntity createHost(String baseUrl) {
+        final HostEntity host = new HostEntity();
+        host.setId(HOST_ID);
+        host.setBaseUrl(baseUrl);
+        return host;
+    }
+
+}
@@ -0,0 +1,115 @@
+package org.dataintegration.service;
+
+import org.dataintegration.model.DataIntegrationHeaderAPIModel;
+import org.dataintegration.model.HostHeadersConfigModel;
+import org.dataintegration.model.HostHeadersKeyModel;
+import org.dataintegration.model.HostHeadersModel;
+import org.dataintegration.model.cache.DataIntegrationCache;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@ExtendWith(MockitoExtension.class)
+class HostHeadersServiceTest {
+
+    private static final UUID HOST_ID = UUID.randomUUID();
+    private static final String LANGUAGE = "en";
+    private static final HostHeadersKeyModel KEY = HostHeadersKeyModel.builder().hostId(HOST_ID).language(LANGUAGE).build();
+    private static final DataIntegrationHeaderAPIModel HEADERS = DataIntegrationHeaderAPIModel.builder().headers(List.of()).build();
+
+    @Spy
+    private DataIntegrationCache dataIntegrationCache = new DataIntegrationCache();
+    @Spy
+    private HostHeadersConfigModel hostHeadersConfig = HostHeadersConfigModel.builder()
+            .ttl(Duration.ofMinutes(5))
+            .maxStale(Duration.ofHours(1))
+            .build();
+
+    @InjectMocks
+    private HostHeadersService subject;
+
+    @Test
+    void testGet() {
+        subject.put(HOST_ID, LANGUAGE, HEADERS);
+
+        final DataIntegrationHeaderAPIModel result = subject.get(HOST_ID, LANGUAGE);
+
+        assertThat(result).isSameAs(HEADERS);
+    }
+
+    @Test
+    void testGetWithoutCachedHeaders() {
+        final DataIntegrationHeaderAPIModel result = subject.get(HOST_ID, LANGUAGE);
+
+        assertThat(result).isNull();
+    }
+
+    @Test
+    void testGetExpiredHeaders() {
+        cache(Instant.now().minus(Duration.ofHours(2)));
+
+        final DataIntegrationHeaderAPIModel result = subject.get(HOST_ID, LANGUAGE);
+
+        assertThat(result).isNull();
+        assertThat(dataIntegrationCache.getHostHeaders()).isEmpty();
+    }
+
+    @Test
+    void testStartRefresh() {
+        cache(Instant.now().minus(Duration.ofMinutes(10)));
+
+        assertThat(subject.startRefresh(HOST_ID, LANGUAGE)).isTrue();
+        assertThat(subject.startRefresh(HOST_ID, LANGUAGE)).isFalse();
+
+        subject.finishRefresh(HOST_ID, LANGUAGE);
+
+        assertThat(subject.startRefresh(HOST_ID, LANGUAGE)).isTrue();
+    }
+
+    @Test
+    void testStartRefreshFreshHeaders() {
+        subject.put(HOST_ID, LANGUAGE, HEADERS);
+
+        final boolean result = subject.startRefresh(HOST_ID, LANGUAGE);
+
+        assertThat(result).isFalse();
+    }
+
+    @Test
+    void testStartRefreshWithoutCachedHeaders() {
+        final boolean result = subject.startRefresh(HOST_ID, LANGUAGE);
+
+        assertThat(result).isFalse();
+    }
+
+    @Test
+    void testEvict() {
+        final UUID otherHostId = UUID.randomUUID();
+        subject.put(HOST_ID, LANGUAGE, HEADERS);
+        subject.put(HOST_ID, "de", HEADERS);
+        subject.put(otherHostId, LANGUAGE, HEADERS);
+
+        subject.evict(HOST_ID);
+
+        assertThat(subject.get(HOST_ID, LANGUAGE)).isNull();
+        assertThat(subject.get(HOST_ID, "de")).isNull();
+        assertThat(subject.get(otherHostId, LANGUAGE)).isSameAs(HEADERS);
+    }
+
+    private void cache(Instant fetchedDate) {
+        dataIntegrationCache.getHostHeaders().put(KEY, HostHeadersModel.builder()
+                .headers(HEADERS)
+                .fetchedDate(fetchedDate)
+                .build());
+    }
+
+}
@@ -22,6 +22,8 @@ import java.util.UUID;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -37,6 +39,10 @@ class HostsServiceTest {
     private JpaDatabaseRepository jpaDatabaseRepository;
     @Mock
     private UrlService urlService;
+    @Mock
+    private HostClientsService hostClientsService;
+    @Mock
+    private HostHeadersService hostHeadersService;
 
     @InjectMocks
     private HostsService subject;
@@ -54,10 +60,13 @@ class HostsServiceTest {
         when(hostEntity.getBaseUrl()).thenReturn("baseUrl");
         when(urlService.isDomainValid("baseUrl")).thenReturn(true);
         when(jpaHostRepository.save(hostEntity)).thenReturn(hostEntity);
+        when(hostEntity.getId()).thenReturn(HOST_ID);
 
         final HostEntity result = subject.createOrUpdateHost(hostEntity);
 
         assertThat(result).isEqualTo(hostEntity);
+        verify(hostClientsService).invalidate(HOST_ID);
+        verify(hostHeadersService).evict(HOST_ID);
     }
 
     @Test
@@ -75,11 +84,24 @@ class HostsServiceTest {
     }
 
     @Test
-    void testUpdateHeadersByHostId() {
-        subject.updateHeadersByHostId(HOST_ID, headers);
+    void testUpdateHeaders() {
+        when(hostEntity.getHeaders()).thenReturn(null);
+        when(hostEntity.getId()).thenReturn(HOST_ID);
+
+        subject.updateHeaders(hostEntity, headers);
+
         verify(jpaHostRepository).updateHeadersByHostId(HOST_ID, headers);
     }
 
+    @Test
+    void testUpdateHeadersUnchanged() {
+        when(hostEntity.getHeaders()).thenReturn(headers);
+
+        subject.updateHeaders(hostEntity, headers);
+
+        verify(jpaHostRepository, never()).updateHeadersByHostId(any(), any());
+    }
+
     @Test
     void testGetDatabase() {
         when(jpaDatabaseRepository.findById(DATABASE_ID)).thenReturn(Optional.of(databaseEntity));
@@ -122,6 +144,8 @@ class HostsServiceTest {
     void testDeleteHost() {
         subject.deleteHost(HOST_ID);
         verify(jpaHostRepository).deleteById(HOST_ID);
+        verify(hostClientsService).invalidate(HOST_ID);
+        verify(hostHeadersService).evict(HOST_ID);
     }
 
 }
\ No newline at end of file
@@ -0,0 +1,122 @@
+package org.dataintegration.service;
+
+import org.dataintegration.model.ImportProgressEventTypeModel;
+import org.dataintegration.model.ImportProgressModel;
+import org.dataintegration.model.cache.DataIntegrationCache;
+import org.dataintegration.usecase.model.CurrentCheckpointStatusResponseModel;
+import org.dataintegration.usecase.model.ImportProgressEventResponseModel;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@ExtendWith(MockitoExtension.class)
+class ImportProgressServiceTest {
+
+    private static final UUID SCOPE_ID = UUID.randomUUID();
+
+    @Spy
+    private DataIntegrationCache dataIntegrationCache;
+
+    @InjectMocks
+    private ImportProgressService subject;
+
+    @Test
+    void testStart() {
+        subject.start(SCOPE_ID, true, 2, 10);
+
+        assertThat(subject.get(SCOPE_ID)).hasValueSatisfying(importProgress -> {
+            assertThat(importProgress.isExternal()).isTrue();
+            assertThat(importProgress.getBatchesProcessed()).hasValue(2);
+            assertThat(importProgress.getTotalBatches()).hasValue(10);
+        });
+    }
+
+    @Test
+    void testGetNotImported() {
+        assertThat(subject.get(SCOPE_ID)).isEmpty();
+    }
+
+    @Test
+    void testUpdateTotalBatches() {
+        subject.start(SCOPE_ID, false, 0, 10);
+
+        subject.updateTotalBatches(SCOPE_ID, 12);
+        subject.updateTotalBatches(SCOPE_ID, 11);
+
+        assertThat(subject.get(SCOPE_ID)).map(ImportProgressModel::getTotalBatches).hasValueSatisfying(totalBatches ->
+                assertThat(totalBatches).hasValue(12));
+    }
+
+    @Test
+    void testGetEvents() {
+        subject.start(SCOPE_ID, false, 2, 10);
+        final List<ImportProgressEventResponseModel> events = new ArrayList<>();
+        subject.getEvents(SCOPE_ID).subscribe(events::add);
+
+        subject.startAttempt(SCOPE_ID, 1);
+        subject.completeBatch(SCOPE_ID, 3);
+        subject.failBatch(SCOPE_ID, 4, "failed");
+        subject.finish(SCOPE_ID, true);
+
+        assertThat(events).extracting(ImportProgressEventResponseModel::getType).containsExactly(
+                ImportProgressEventTypeModel.STATUS,
+                ImportProgressEventTypeModel.ATTEMPT_STARTED,
+                ImportProgressEventTypeModel.BATCH_COMPLETED,
+                ImportProgressEventTypeModel.BATCH_FAILED,
+                ImportProgressEventTypeModel.FINISHED);
+        assertThat(events.get(2))
+                .returns(1, ImportProgressEventResponseModel::getAttempt)
+                .returns(3L, ImportProgressEventResponseModel::getBatchIndex)
+                .returns(CurrentCheckpointStatusResponseModel.builder()
+                        .batchesProcessed(3)
+                        .totalBatches(10)
+                        .processing(true)
+                        .build(), ImportProgressEventResponseModel::getStatus);
+        assertThat(events.get(3)).returns("failed", ImportProgressEventResponseModel::getMessage);
+        assertThat(events.get(4).getStatus())
+                .returns(false, CurrentCheckpointStatusResponseModel::isProcessing)
+                .returns(true, CurrentCheckpointStatusResponseModel::isFinished);
+        assertThat(subject.get(SCOPE_ID)).isEmpty();
+    }
+
+    @Test
+    void testGetEventsFailed() {
+        subject.start(SCOPE_ID, false, 0, 0);
+        final List<ImportProgressEventResponseModel> events = new ArrayList<>();
+        subject.getEvents(SCOPE_ID).subscribe(events::add);
+
+        subject.finish(SCOPE_ID, false);
+
+        assertThat(events).extracting(ImportProgressEventResponseModel::getType).containsExactly(
+                ImportProgressEventTypeModel.STATUS,
+                ImportProgressEventTypeModel.FAILED);
+        assertThat(events.get(1).getStatus())
+                .returns(false, CurrentCheckpointStatusResponseModel::isProcessing)
+                .returns(false, CurrentCheckpointStatusResponseModel::isFinished);
+    }
+
+    @Test
+    void testGetEventsNotImported() {
+        assertThat(subject.getEvents(SCOPE_ID).collectList().block()).isEmpty();
+    }
+
+    @Test
+    void testNotImported() {
+        subject.startAttempt(SCOPE_ID, 1);
+        subject.updateTotalBatches(SCOPE_ID, 1);
+        subject.completeBatch(SCOPE_ID, 1);
+        subject.failBatch(SCOPE_ID, 1, "failed");
+        subject.finish(SCOPE_ID, true);
+
+        assertThat(dataIntegrationCache.getImportProgress()).isEmpty();
+    }
+
+}
@@ -0,0 +1,142 @@
+package org.dataintegration.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.dataintegration.jpa.entity.CheckpointEntity;
+import org.dataintegration.jpa.entity.ItemEntity;
+import org.dataintegration.jpa.entity.ScopeEntity;
+import org.dataintegration.model.BatchProcessingModel;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.SpringBootConfiguration;
+import org.springframework.boot.autoconfigure.EnableAutoConfiguration;
+import org.springframework.boot.autoconfigure.domain.EntityScan;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Compares the JPA and the COPY insert engine against a real PostgreSQL database with the data-integration schema.
+ * Only runs if BENCHMARK_DATASOURCE_URL is set, e.g. jdbc:postgresql://localhost:5432/data-integration.
+ */
+@Slf4j
+@SpringBootTest(
+        classes = ItemBatchInsertBenchmarkTest.BenchmarkConfig.class,
+        webEnvironment = SpringBootTest.WebEnvironment.NONE,
+        properties = {
+                "spring.datasource.url=${BENCHMARK_DATASOURCE_URL}",
+                "spring.datasource.username=${BENCHMARK_DATASOURCE_USERNAME:postgres}",
+                "spring.datasource.password=${BENCHMARK_DATASOURCE_PASSWORD:postgres}",
+                "spring.jpa.hibernate.ddl-auto=none",
+                "spring.jpa.properties.hibernate.jdbc.batch_size=1000",
+                "spring.jpa.properties.hibernate.order_inserts=true"
+        }
+)
+@EnabledIfEnvironmentVariable(named = "BENCHMARK_DATASOURCE_URL", matches = ".+")
+class ItemBatchInsertBenchmarkTest {
+
+    private static final int BATCHES = 50;
+    private static final int BATCH_SIZE = 1000;
+    private static final int COLUMNS = 10;
+
+    @Autowired
+    private ItemBatchInsertService itemBatchInsertService;
+    @Autowired
+    private ItemCopyBatchInsertService itemCopyBatchInsertService;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private final UUID projectId = UUID.randomUUID();
+    private final UUID scopeId = UUID.randomUUID();
+    private final UUID checkpointId = UUID.randomUUID();
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate.update("INSERT INTO project (id, name, created_by, created_date, last_modified_date, delete) VALUES (?, 'benchmark', 'benchmark', now(), now(), false)",
+                projectId);
+        jdbcTemplate.update("INSERT INTO scope (id, key, created_date, finished, external, delete, project_id) VALUES (?, ?, now(), false, false, false, ?)",
+                scopeId, scopeId.toString(), projectId);
+        jdbcTemplate.update("INSERT INTO checkpoint (id, batch_size, total_batches, scope_id) VALUES (?, ?, ?, ?)",
+                checkpointId, BATCH_SIZE, BATCHES, scopeId);
+    }
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.update("DELETE FROM item WHERE scope_id = ?", scopeId);
+        jdbcTemplate.update("DELETE FROM checkpoint_batch WHERE checkpoint_id = ?", checkpointId);
+        jdbcTemplate.update("DELETE FROM checkpoint WHERE id = ?", checkpointId);
+        jdbcTemplate.update("DELETE FROM scope WHERE id = ?", scopeId);
+        jdbcTemplate.update("DELETE FROM project WHERE id = ?", projectId);
+    }
+
+    @Test
+    void testCompareInsertEngines() {
+        final CheckpointEntity checkpointEntity = new CheckpointEntity();
+        checkpointEntity.setId(checkpointId);
+
+        final long jpaMs = run(batchProcessing -> itemBatchInsertService.insertBatch(batchProcessing, checkpointEntity));
+        jdbcTemplate.update("DELETE FROM item WHERE scope_id = ?", scopeId);
+        jdbcTemplate.update("DELETE FROM checkpoint_batch WHERE checkpoint_id = ?", checkpointId);
+        final long copyMs = run(batchProcessing -> itemCopyBatchInsertService.insertBatch(batchProcessing, checkpointEntity));
+
+        log.info("[Benchmark] {} rows with {} columns: JPA {} ms, COPY {} ms", BATCHES * BATCH_SIZE, COLUMNS, jpaMs, copyMs);
+    }
+
+    private long run(Consumer<BatchProcessingModel> insertBatch) {
+        final long start = System.nanoTime();
+        for (int batchIndex = 1; batchIndex <= BATCHES; batchIndex++) {
+            insertBatch.accept(createBatch(batchIndex));
+        }
+        final long elapsedMs = (System.nanoTime() - start) / 1_000_000;
+
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM item WHERE scope_id = ?", Long.class, scopeId))
+                .isEqualTo((long) BATCHES * BATCH_SIZE);
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM checkpoint_batch WHERE checkpoint_id = ?", Long.class, checkpointId))
+                .isEqualTo(BATCHES);
+        return elapsedMs;
+    }
+
+    private BatchProcessingModel createBatch(int batchIndex) {
+        final ScopeEntity scopeEntity = new ScopeEntity();
+        scopeEntity.setId(scopeId);
+        final List<ItemEntity> batch = new ArrayList<>(BATCH_SIZE);
+        for (int i = 0; i < BATCH_SIZE; i++) {
+            final long lineNumber = (long) (batchIndex - 1) * BATCH_SIZE + i + 1;
+            final List<String> cells = new ArrayList<>(COLUMNS);
+            for (int column = 0; column < COLUMNS; column++) {
+                cells.add("value " + lineNumber + "/" + column);
+            }
+            final ItemEntity itemEntity = new ItemEntity();
+            itemEntity.setLineNumber(lineNumber);
+            itemEntity.setCells(cells);
+            itemEntity.setScope(scopeEntity);
+            batch.add(itemEntity);
+        }
+        return BatchProcessingModel.builder()
+                .projectId(projectId)
+                .scopeId(scopeId)
+                .batchIndex(batchIndex)
+                .batchSize(BATCH_SIZE)
+                .batch(batch)
+                .build();
+    }
+
+    @SpringBootConfiguration
+    @EnableAutoConfiguration
+    @EntityScan("org.dataintegration.jpa.entity")
+    @EnableJpaRepositories("org.dataintegration.jpa.repository")
+    @Import({ItemBatchInsertService.class, ItemCopyBatchInsertService.class})
+    static class BenchmarkConfig {
+    }
+
+}
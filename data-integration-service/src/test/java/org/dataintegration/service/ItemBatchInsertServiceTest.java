@@ -1,6 +1,5 @@
 package org.dataintegration.service;
 
-import org.dataintegration.jpa.entity.CheckpointBatchEntity;
 import org.dataintegration.jpa.entity.CheckpointEntity;
 import org.dataintegration.jpa.repository.JpaCheckpointBatchRepository;
 import org.dataintegration.jpa.repository.JpaItemRepository;
@@ -12,12 +11,22 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
 class ItemBatchInsertServiceTest {
 
+    private static final UUID CHECKPOINT_ID = UUID.randomUUID();
+
     @Mock
     private JpaItemRepository jpaItemRepository;
     @Mock
@@ -33,10 +42,26 @@ class ItemBatchInsertServiceTest {
 
     @Test
     void testInsertBatch() {
-        subject.insertBatch(batchProcessing, checkpointEntity);
+        when(checkpointEntity.getId()).thenReturn(CHECKPOINT_ID);
+        when(jpaCheckpointBatchRepository.insertIfAbsent(any(UUID.class), anyLong(), anyLong(), anyLong(), eq(CHECKPOINT_ID)))
+                .thenReturn(1);
 
+        final boolean result = subject.insertBatch(batchProcessing, checkpointEntity);
+
+        assertThat(result).isTrue();
         verify(jpaItemRepository).saveAll(batchProcessing.getBatch());
-        verify(jpaCheckpointBatchRepository).save(any(CheckpointBatchEntity.class));
     }
 
-}
\ No newline at end of file
+    @Test
+    void testInsertBatchAlreadyCommitted() {
+        when(checkpointEntity.getId()).thenReturn(CHECKPOINT_ID);
+        when(jpaCheckpointBatchRepository.insertIfAbsent(any(UUID.class), anyLong(), anyLong(), anyLong(), eq(CHECKPOINT_ID)))
+                .thenReturn(0);
+
+        final boolean result = subject.insertBatch(batchProcessing, checkpointEntity);
+
+        assertThat(result).isFalse();
+        verify(jpaItemRepository, never()).saveAll(anyList());
+    }
+
+}
@@ -0,0 +1,170 @@
+package org.dataintegration.service;
+
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.dataintegration.jpa.entity.CheckpointEntity;
+import org.dataintegration.jpa.entity.ItemEntity;
+import org.dataintegration.model.BatchProcessingModel;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.postgresql.PGConnection;
+import org.postgresql.copy.CopyIn;
+import org.postgresql.copy.CopyManager;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class ItemCopyBatchInsertServiceTest {
+
+    private static final UUID SCOPE_ID = UUID.randomUUID();
+    private static final UUID CHECKPOINT_ID = UUID.randomUUID();
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+    @Spy
+    private ObjectMapper objectMapper = new ObjectMapper();
+
+    @InjectMocks
+    private ItemCopyBatchInsertService subject;
+
+    @Mock
+    private CheckpointEntity checkpointEntity;
+    @Mock
+    private Connection connection;
+    @Mock
+    private PGConnection pgConnection;
+    @Mock
+    private CopyManager copyManager;
+    @Mock
+    private CopyIn copyIn;
+    @Captor
+    private ArgumentCaptor<ConnectionCallback<Long>> callbackCaptor;
+    @Captor
+    private ArgumentCaptor<byte[]> rowCaptor;
+
+    @Test
+    void testInsertBatch() throws Exception {
+        final ItemEntity itemEntity = new ItemEntity();
+        itemEntity.setLineNumber(1);
+        itemEntity.setCells(List.of("a \"quoted\", value", "b"));
+        final BatchProcessingModel batchProcessing = BatchProcessingModel.builder()
+                .scopeId(SCOPE_ID)
+                .batchIndex(3)
+                .startOffset(10)
+                .endOffset(20)
+                .batch(List.of(itemEntity))
+                .build();
+
+        when(checkpointEntity.getId()).thenReturn(CHECKPOINT_ID);
+        when(jdbcTemplate.update(anyString(), any(UUID.class), eq(3L), eq(10L), eq(20L), eq(CHECKPOINT_ID))).thenReturn(1);
+        when(connection.unwrap(PGConnection.class)).thenReturn(pgConnection);
+        when(pgConnection.getCopyAPI()).thenReturn(copyManager);
+        when(copyManager.copyIn(anyString())).thenReturn(copyIn);
+
+        final boolean result = subject.insertBatch(batchProcessing, checkpointEntity);
+
+        assertThat(result).isTrue();
+
+        verify(jdbcTemplate).execute(callbackCaptor.capture());
+        callbackCaptor.getValue().doInConnection(connection);
+
+        verify(copyIn).writeToCopy(rowCaptor.capture(), eq(0), anyInt());
+        verify(copyIn).endCopy();
+        verify(copyIn, never()).cancelCopy();
+
+        assertThat(itemEntity.getId()).isNotNull();
+        assertThat(new String(rowCaptor.getValue(), StandardCharsets.UTF_8))
+                .isEqualTo(itemEntity.getId() + ",1,\"[\"\"a \\\"\"quoted\\\"\", value\"\",\"\"b\"\"]\"," + SCOPE_ID + "\n");
+    }
+
+    @Test
+    void testInsertBatchCancelsCopyOnFailure() throws Exception {
+        final ItemEntity itemEntity = new ItemEntity();
+        itemEntity.setId(UUID.randomUUID());
+        itemEntity.setCells(List.of());
+        final BatchProcessingModel batchProcessing = BatchProcessingModel.builder()
+                .scopeId(SCOPE_ID)
+                .batch(List.of(itemEntity))
+                .build();
+
+        when(jdbcTemplate.update(anyString(), any(UUID.class), eq(0L), eq(0L), eq(0L), eq(null))).thenReturn(1);
+        when(connection.unwrap(PGConnection.class)).thenReturn(pgConnection);
+        when(pgConnection.getCopyAPI()).thenReturn(copyManager);
+        when(copyManager.copyIn(anyString())).thenReturn(copyIn);
+        when(copyIn.endCopy()).thenThrow(new SQLException("copy failed"));
+        when(copyIn.isActive()).thenReturn(true);
+
+        subject.insertBatch(batchProcessing, checkpointEntity);
+
+        verify(jdbcTemplate).execute(callbackCaptor.capture());
+        assertThatExceptionOfType(SQLException.class).isThrownBy(() -> callbackCaptor.getValue().doInConnection(connection));
+
+        verify(copyIn).cancelCopy();
+    }
+
+    @Test
+    void testInsertBatchSerializationFailure() throws Exception {
+        final ItemEntity itemEntity = new ItemEntity();
+        itemEntity.setCells(List.of());
+        final BatchProcessingModel batchProcessing = BatchProcessingModel.builder()
+                .scopeId(SCOPE_ID)
+                .batch(List.of(itemEntity))
+                .build();
+
+        when(jdbcTemplate.update(anyString(), any(UUID.class), eq(0L), eq(0L), eq(0L), eq(null))).thenReturn(1);
+        when(connection.unwrap(PGConnection.class)).thenReturn(pgConnection);
+        when(pgConnection.getCopyAPI()).thenReturn(copyManager);
+        when(copyManager.copyIn(anyString())).thenReturn(copyIn);
+        when(copyIn.isActive()).thenReturn(true);
+        doThrow(new JsonMappingException(null, "serialization failed")).when(objectMapper).writeValueAsString(any());
+
+        subject.insertBatch(batchProcessing, checkpointEntity);
+
+        verify(jdbcTemplate).execute(callbackCaptor.capture());
+        assertThatExceptionOfType(SQLException.class).isThrownBy(() -> callbackCaptor.getValue().doInConnection(connection));
+
+        verify(copyIn, never()).writeToCopy(any(), anyInt(), anyInt());
+        verify(copyIn).cancelCopy();
+    }
+
+    @Test
+    void testInsertBatchAlreadyCommitted() {
+        final BatchProcessingModel batchProcessing = BatchProcessingModel.builder()
+                .scopeId(SCOPE_ID)
+                .batchIndex(3)
+                .batch(List.of(new ItemEntity()))
+                .build();
+
+        when(checkpointEntity.getId()).thenReturn(CHECKPOINT_ID);
+        when(jdbcTemplate.update(anyString(), any(UUID.class), eq(3L), eq(0L), eq(0L), eq(CHECKPOINT_ID))).thenReturn(0);
+
+        final boolean result = subject.insertBatch(batchProcessing, checkpointEntity);
+
+        assertThat(result).isFalse();
+        verify(jdbcTemplate, never()).execute(any(ConnectionCallback.class));
+    }
+
+}
@@ -0,0 +1,184 @@
+package org.dataintegration.service;
+
+import org.dataintegration.exception.runtime.HeaderNotFoundException;
+import org.dataintegration.jpa.entity.ItemEntity;
+import org.dataintegration.model.HeaderModel;
+import org.dataintegration.model.ItemPropertiesModel;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.Arrays;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+@ExtendWith(MockitoExtension.class)
+class ItemPropertiesServiceTest {
+
+    private static final HeaderModel HEADER_1 = HeaderModel.builder().id("header1").column(1).build();
+    private static final HeaderModel HEADER_2 = HeaderModel.builder().id("header2").column(0).build();
+    private static final HeaderModel HEADER_3 = HeaderModel.builder().id("header3").column(2).build();
+    private static final HeaderModel HEADER_WITHOUT_COLUMN = HeaderModel.builder().id("header4").build();
+    private static final LinkedHashSet<HeaderModel> HEADERS =
+            new LinkedHashSet<>(List.of(HEADER_1, HEADER_2, HEADER_3, HEADER_WITHOUT_COLUMN));
+
+    @InjectMocks
+    private ItemPropertiesService subject;
+
+    @Test
+    void testCreateCells() {
+        final LinkedHashSet<HeaderModel> headers = new LinkedHashSet<>(List.of(HEADER_1, HEADER_2));
+
+        final List<String> result = subject.createCells(new String[]{"value1", "value2"}, headers);
+
+        assertThat(result).containsExactly("value2", "value1");
+    }
+
+    @Test
+    void testCreateCellsWithGap() {
+        final LinkedHashSet<HeaderModel> headers = new LinkedHashSet<>(List.of(HEADER_3, HEADER_2));
+
+        final List<String> result = subject.createCells(new String[]{"value3", "value2"}, headers);
+
+        assertThat(result).containsExactly("value2", null, "value3");
+    }
+
+    @Test
+    void testCreateCellsHeaderWithoutColumn() {
+        final String[] line = {"value1", "value2", "value3", "value4"};
+
+        assertThatExceptionOfType(HeaderNotFoundException.class).isThrownBy(() -> subject.createCells(line, HEADERS));
+    }
+
+    @Test
+    void testGetHeader() {
+        final HeaderModel result = subject.getHeader(HEADERS, "header2");
+
+        assertThat(result).isEqualTo(HEADER_2);
+    }
+
+    @Test
+    void testGetHeaderHeaderNotFoundException() {
+        assertThatExceptionOfType(HeaderNotFoundException.class).isThrownBy(() -> subject.getHeader(HEADERS, "unknown"));
+    }
+
+    @Test
+    void testGetHeaderWithoutColumn() {
+        assertThatExceptionOfType(HeaderNotFoundException.class).isThrownBy(() -> subject.getHeader(HEADERS, "header4"));
+    }
+
+    @Test
+    void testGetProperties() {
+        final ItemEntity itemEntity = createItemEntity(Arrays.asList("value2", null), Map.of("header2", "originalValue2"));
+
+        final Map<String, ItemPropertiesModel> result = subject.getProperties(itemEntity, HEADERS);
+
+        assertThat(result).containsExactly(Map.entry("header2", ItemPropertiesModel.builder()
+                .value("value2")
+                .originalValue("originalValue2")
+                .build()));
+    }
+
+    @Test
+    void testGetPropertyWithoutOriginalValues() {
+        final ItemEntity itemEntity = createItemEntity(List.of("value2", "value1"), null);
+
+        final ItemPropertiesModel result = subject.getProperty(itemEntity, HEADERS, "header1");
+
+        assertThat(result).isEqualTo(ItemPropertiesModel.builder()
+                .value("value1")
+                .build());
+    }
+
+    @Test
+    void testGetPropertyUnknownHeader() {
+        final ItemEntity itemEntity = createItemEntity(List.of("value2", "value1"), null);
+
+        final ItemPropertiesModel result = subject.getProperty(itemEntity, HEADERS, "unknown");
+
+        assertThat(result).isNull();
+    }
+
+    @Test
+    void testUpdatePropertyWithoutCell() {
+        final ItemEntity itemEntity = createItemEntity(List.of("value2"), null);
+
+        subject.updateProperty(itemEntity, HEADER_3, "newValue");
+
+        assertThat(itemEntity.getCells()).containsExactly("value2", null, "newValue");
+        assertThat(itemEntity.getOriginalValues()).isNull();
+    }
+
+    @Test
+    void testUpdatePropertyNewValueNotEqualsValue() {
+        final ItemEntity itemEntity = createItemEntity(List.of("value2", "value1"), null);
+
+        subject.updateProperty(itemEntity, HEADER_1, "newValue");
+
+        assertThat(itemEntity.getCells()).containsExactly("value2", "newValue");
+        assertThat(itemEntity.getOriginalValues()).containsExactly(Map.entry("header1", "value1"));
+    }
+
+    @Test
+    void testUpdatePropertyNewValueNotEqualsOriginalValue() {
+        final ItemEntity itemEntity = createItemEntity(List.of("value2", "value1"), Map.of("header1", "originalValue1"));
+
+        subject.updateProperty(itemEntity, HEADER_1, "newValue");
+
+        assertThat(itemEntity.getCells()).containsExactly("value2", "newValue");
+        assertThat(itemEntity.getOriginalValues()).containsExactly(Map.entry("header1", "originalValue1"));
+    }
+
+    @Test
+    void testUpdatePropertyNewValueEqualsOriginalValue() {
+        final ItemEntity itemEntity = createItemEntity(List.of("value2", "value1"), Map.of("header1", "originalValue1"));
+
+        subject.updateProperty(itemEntity, HEADER_1, "originalValue1");
+
+        assertThat(itemEntity.getCells()).containsExactly("value2", "originalValue1");
+        assertThat(itemEntity.getOriginalValues()).isNull();
+    }
+
+    @Test
+    void testUpdatePropertyHeaderWithoutColumn() {
+        final ItemEntity itemEntity = createItemEntity(List.of("value2", "value1"), null);
+
+        assertThatExceptionOfType(HeaderNotFoundException.class)
+                .isThrownBy(() -> subject.updateProperty(itemEntity, HEADER_WITHOUT_COLUMN, "newValue"));
+        assertThat(itemEntity.getCells()).containsExactly("value2", "value1");
+    }
+
+    @Test
+    void testGetSearchColumn() {
+        final Integer result = subject.getSearchColumn(HEADERS, "header1");
+
+        assertThat(result).isEqualTo(1);
+    }
+
+    @Test
+    void testGetSearchColumnUnknownHeader() {
+        final Integer result = subject.getSearchColumn(HEADERS, "unknown");
+
+        assertThat(result).isNull();
+    }
+
+    @Test
+    void testGetSearchColumnWithoutSearchHeader() {
+        final Integer result = subject.getSearchColumn(HEADERS, "");
+
+        assertThat(result).isNull();
+    }
+
+    private static ItemEntity createItemEntity(List<String> cells, Map<String, String> originalValues) {
+        final ItemEntity itemEntity = new ItemEntity();
+        itemEntity.setCells(cells);
+        itemEntity.setOriginalValues(originalValues);
+        return itemEntity;
+    }
+
+}
@@ -3,7 +3,7 @@ package org.dataintegration.service;
 import org.dataintegration.exception.runtime.ItemNotFoundException;
 import org.dataintegration.jpa.entity.ItemEntity;
 import org.dataintegration.jpa.repository.JpaItemRepository;
-import org.dataintegration.model.ItemPropertiesModel;
+import org.dataintegration.model.HeaderModel;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
@@ -13,16 +13,19 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 
-import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
+import java.util.stream.IntStream;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
@@ -32,9 +35,12 @@ class ItemsServiceTest {
     private static final UUID MAPPING_ID = UUID.randomUUID();
     private static final UUID ITEM_ID = UUID.randomUUID();
     private static final Pageable PAGEABLE = PageRequest.of(2, 100);
+    private static final HeaderModel HEADER = HeaderModel.builder().id("key").column(0).build();
 
     @Mock
     private JpaItemRepository jpaItemRepository;
+    @Mock
+    private ItemPropertiesService itemPropertiesService;
 
     @InjectMocks
     private ItemsService subject;
@@ -51,7 +57,7 @@ class ItemsServiceTest {
         when(jpaItemRepository.findAllByScopeIdAndMappingIdNotInMappedItems(eq(SCOPE_ID), eq(MAPPING_ID),
                 any(Pageable.class))).thenReturn(itemEntityPage);
 
-        final Page<ItemEntity> result = subject.getAll(SCOPE_ID, MAPPING_ID, true, "", "", PAGEABLE);
+        final Page<ItemEntity> result = subject.getAll(SCOPE_ID, MAPPING_ID, true, null, "", PAGEABLE);
 
         assertThat(result).isEqualTo(itemEntityPage);
     }
@@ -59,9 +65,9 @@ class ItemsServiceTest {
     @Test
     void testGetAllFilterMappedItemsWithSearchTextAndWithSearchHeader() {
         when(jpaItemRepository.findAllByScopeIdAndMappingIdNotInMappedItemsAndDynamicHeader(eq(SCOPE_ID), eq(MAPPING_ID),
-                eq("searchHeader"), eq("searchText"), any(Pageable.class))).thenReturn(itemEntityPage);
+                eq(3), eq("searchText"), any(Pageable.class))).thenReturn(itemEntityPage);
 
-        final Page<ItemEntity> result = subject.getAll(SCOPE_ID, MAPPING_ID, true, "searchHeader", "searchText", PAGEABLE);
+        final Page<ItemEntity> result = subject.getAll(SCOPE_ID, MAPPING_ID, true, 3, "searchText", PAGEABLE);
 
         assertThat(result).isEqualTo(itemEntityPage);
     }
@@ -71,7 +77,7 @@ class ItemsServiceTest {
         when(jpaItemRepository.findAllByScopeIdAndMappingIdNotInMappedItemsWithFreeTextSearch(eq(SCOPE_ID), eq(MAPPING_ID),
                 eq("searchText"), any(Pageable.class))).thenReturn(itemEntityPage);
 
-        final Page<ItemEntity> result = subject.getAll(SCOPE_ID, MAPPING_ID, true, "", "searchText", PAGEABLE);
+        final Page<ItemEntity> result = subject.getAll(SCOPE_ID, MAPPING_ID, true, null, "searchText", PAGEABLE);
 
         assertThat(result).isEqualTo(itemEntityPage);
     }
@@ -80,17 +86,17 @@ class ItemsServiceTest {
     void testGetAllWithoutSearchText() {
         when(jpaItemRepository.findAllByScopeId(eq(SCOPE_ID), any(Pageable.class))).thenReturn(itemEntityPage);
 
-        final Page<ItemEntity> result = subject.getAll(SCOPE_ID, MAPPING_ID, false, "", "", PAGEABLE);
+        final Page<ItemEntity> result = subject.getAll(SCOPE_ID, MAPPING_ID, false, null, "", PAGEABLE);
 
         assertThat(result).isEqualTo(itemEntityPage);
     }
 
     @Test
     void testGetAllWithSearchTextAndWithSearchHeader() {
-        when(jpaItemRepository.findAllByScopeIdAndDynamicHeader(eq(SCOPE_ID), eq("searchHeader"), eq("searchText"),
+        when(jpaItemRepository.findAllByScopeIdAndDynamicHeader(eq(SCOPE_ID), eq(3), eq("searchText"),
                 any(Pageable.class))).thenReturn(itemEntityPage);
 
-        final Page<ItemEntity> result = subject.getAll(SCOPE_ID, null, true ,"searchHeader", "searchText", PAGEABLE);
+        final Page<ItemEntity> result = subject.getAll(SCOPE_ID, null, true, 3, "searchText", PAGEABLE);
 
         assertThat(result).isEqualTo(itemEntityPage);
     }
@@ -100,11 +106,50 @@ class ItemsServiceTest {
         when(jpaItemRepository.findAllByScopeIdWithFreeTextSearch(eq(SCOPE_ID), eq("searchText"),
                 any(Pageable.class))).thenReturn(itemEntityPage);
 
-        final Page<ItemEntity> result = subject.getAll(SCOPE_ID, null, false, "", "searchText", PAGEABLE);
+        final Page<ItemEntity> result = subject.getAll(SCOPE_ID, null, false, null, "searchText", PAGEABLE);
 
         assertThat(result).isEqualTo(itemEntityPage);
     }
 
+    @Test
+    void testGetAllAfterFilterMappedItemsWithSearchText() {
+        final UUID afterId = UUID.randomUUID();
+        when(jpaItemRepository.findAllByScopeIdAfter(SCOPE_ID, MAPPING_ID, 3, "searchText", 10L, afterId, PageRequest.of(0, 50)))
+                .thenReturn(itemEntityList);
+
+        final List<ItemEntity> result = subject.getAllAfter(SCOPE_ID, MAPPING_ID, true, 3, "searchText", 10L, afterId, 50);
+
+        assertThat(result).isEqualTo(itemEntityList);
+    }
+
+    @Test
+    void testGetAllAfterWithoutSearchText() {
+        when(jpaItemRepository.findAllByScopeIdAfter(SCOPE_ID, null, null, null, null, null, PageRequest.of(0, 50)))
+                .thenReturn(itemEntityList);
+
+        final List<ItemEntity> result = subject.getAllAfter(SCOPE_ID, MAPPING_ID, false, null, "", null, null, 50);
+
+        assertThat(result).isEqualTo(itemEntityList);
+    }
+
+    @Test
+    void testCountFilterMappedItemsWithSearchText() {
+        when(jpaItemRepository.countAllByScopeId(SCOPE_ID, MAPPING_ID, 3, "searchText")).thenReturn(42L);
+
+        final long result = subject.count(SCOPE_ID, MAPPING_ID, true, 3, "searchText");
+
+        assertThat(result).isEqualTo(42L);
+    }
+
+    @Test
+    void testCountWithoutSearchText() {
+        when(jpaItemRepository.countAllByScopeId(SCOPE_ID, null, null, null)).thenReturn(42L);
+
+        final long result = subject.count(SCOPE_ID, MAPPING_ID, false, null, "");
+
+        assertThat(result).isEqualTo(42L);
+    }
+
     @Test
     void testGetAll() {
         when(jpaItemRepository.findAllById(List.of(ITEM_ID))).thenReturn(itemEntityList);
@@ -129,101 +174,84 @@ class ItemsServiceTest {
     }
 
     @Test
-    void testUpdateItemPropertyItemPropertiesNull() {
-        final Map<String, ItemPropertiesModel> properties = new HashMap<>();
+    void testUpdateItemProperty() {
+        final Set<HeaderModel> headers = Set.of(HEADER);
 
-        when(itemEntity.getProperties()).thenReturn(properties);
-        when(jpaItemRepository.findById(ITEM_ID)).thenReturn(Optional.of(itemEntity));
+        when(itemPropertiesService.getHeader(headers, "key")).thenReturn(HEADER);
         when(jpaItemRepository.save(itemEntity)).thenReturn(itemEntity);
 
-        final ItemEntity result = subject.updateItemProperty(ITEM_ID, "key", "newValue");
+        final ItemEntity result = subject.updateItemProperty(itemEntity, headers, "key", "newValue");
 
-        assertThat(result).isEqualTo(itemEntity)
-                .returns(ItemPropertiesModel.builder()
-                        .value("newValue")
-                        .build(), i -> i.getProperties().get("key"));
+        assertThat(result).isEqualTo(itemEntity);
+        verify(itemPropertiesService).updateProperty(itemEntity, HEADER, "newValue");
     }
 
     @Test
-    void testUpdateItemPropertyWithOriginalValueAsOriginalValueAndNewValueEqualsOriginalValue() {
-        final Map<String, ItemPropertiesModel> properties = new HashMap<>();
-        properties.put("key", ItemPropertiesModel.builder()
-                        .value("oldValue")
-                        .originalValue("originalValue")
-                .build());
+    void testGetScopeIds() {
+        final List<UUID> itemIds = createItemIds(1500);
 
-        when(itemEntity.getProperties()).thenReturn(properties);
-        when(jpaItemRepository.findById(ITEM_ID)).thenReturn(Optional.of(itemEntity));
-        when(jpaItemRepository.save(itemEntity)).thenReturn(itemEntity);
+        when(jpaItemRepository.findScopeIdsByItemIds(itemIds.subList(0, 1000))).thenReturn(List.of(SCOPE_ID));
+        when(jpaItemRepository.findScopeIdsByItemIds(itemIds.subList(1000, 1500))).thenReturn(List.of(SCOPE_ID));
 
-        final ItemEntity result = subject.updateItemProperty(ITEM_ID, "key", "originalValue");
+        final List<UUID> result = subject.getScopeIds(itemIds);
 
-        assertThat(result).isEqualTo(itemEntity)
-                .returns(ItemPropertiesModel.builder()
-                        .value("originalValue")
-                        .originalValue(null)
-                        .build(), i -> i.getProperties().get("key"));
+        assertThat(result).containsExactly(SCOPE_ID);
     }
 
     @Test
-    void testUpdateItemPropertyWithOriginalValueAsOriginalValueAndNewValueNotEqualsOriginalValue() {
-        final Map<String, ItemPropertiesModel> properties = new HashMap<>();
-        properties.put("key", ItemPropertiesModel.builder()
-                .value("oldValue")
-                .originalValue("originalValue")
-                .build());
+    void testUpdateItemPropertiesByItemIds() {
+        final List<UUID> itemIds = createItemIds(1500);
+        final UUID otherScopeId = UUID.randomUUID();
+        final Map<UUID, HeaderModel> headersByScope = new LinkedHashMap<>();
+        headersByScope.put(SCOPE_ID, HEADER);
+        headersByScope.put(otherScopeId, HeaderModel.builder().id("otherKey").column(2).build());
+
+        when(jpaItemRepository.updatePropertyByScopeIdAndItemIds(SCOPE_ID, itemIds.subList(0, 1000), 0, "key", "newValue"))
+                .thenReturn(1000);
+        when(jpaItemRepository.updatePropertyByScopeIdAndItemIds(SCOPE_ID, itemIds.subList(1000, 1500), 0, "key", "newValue"))
+                .thenReturn(400);
+        when(jpaItemRepository.updatePropertyByScopeIdAndItemIds(otherScopeId, itemIds.subList(0, 1000), 2, "otherKey",
+                "newValue")).thenReturn(0);
+        when(jpaItemRepository.updatePropertyByScopeIdAndItemIds(otherScopeId, itemIds.subList(1000, 1500), 2, "otherKey",
+                "newValue")).thenReturn(100);
+
+        final int result = subject.updateItemProperties(headersByScope, itemIds, "newValue");
+
+        assertThat(result).isEqualTo(1500);
+    }
 
-        when(itemEntity.getProperties()).thenReturn(properties);
-        when(jpaItemRepository.findById(ITEM_ID)).thenReturn(Optional.of(itemEntity));
-        when(jpaItemRepository.save(itemEntity)).thenReturn(itemEntity);
+    @Test
+    void testUpdateItemPropertiesFilterMappedItemsWithSearchText() {
+        when(jpaItemRepository.updatePropertyByScopeId(SCOPE_ID, MAPPING_ID, 3, "searchText", 0, "key", "newValue"))
+                .thenReturn(42);
 
-        final ItemEntity result = subject.updateItemProperty(ITEM_ID, "key", "newValue");
+        final int result = subject.updateItemProperties(SCOPE_ID, MAPPING_ID, true, 3, "searchText", HEADER, "newValue");
 
-        assertThat(result).isEqualTo(itemEntity)
-                .returns(ItemPropertiesModel.builder()
-                        .value("newValue")
-                        .originalValue("originalValue")
-                        .build(), i -> i.getProperties().get("key"));
+        assertThat(result).isEqualTo(42);
     }
 
     @Test
-    void testUpdateItemPropertyWithValueAsOriginalValueAndNewValueEqualsOriginalValue() {
-        final Map<String, ItemPropertiesModel> properties = new HashMap<>();
-        properties.put("key", ItemPropertiesModel.builder()
-                .value("oldValue")
-                .build());
+    void testUpdateItemPropertiesWithoutSearchText() {
+        when(jpaItemRepository.updatePropertyByScopeId(SCOPE_ID, null, null, null, 0, "key", "newValue")).thenReturn(42);
 
-        when(itemEntity.getProperties()).thenReturn(properties);
-        when(jpaItemRepository.findById(ITEM_ID)).thenReturn(Optional.of(itemEntity));
-        when(jpaItemRepository.save(itemEntity)).thenReturn(itemEntity);
+        final int result = subject.updateItemProperties(SCOPE_ID, MAPPING_ID, false, null, "", HEADER, "newValue");
 
-        final ItemEntity result = subject.updateItemProperty(ITEM_ID, "key", "oldValue");
-
-        assertThat(result).isEqualTo(itemEntity)
-                .returns(ItemPropertiesModel.builder()
-                        .value("oldValue")
-                        .originalValue(null)
-                        .build(), i -> i.getProperties().get("key"));
+        assertThat(result).isEqualTo(42);
     }
 
     @Test
-    void testUpdateItemPropertyWithValueAsOriginalValueAndNewValueNotEqualsOriginalValue() {
-        final Map<String, ItemPropertiesModel> properties = new HashMap<>();
-        properties.put("key", ItemPropertiesModel.builder()
-                .value("oldValue")
-                .build());
+    void testGetLineNumberBound() {
+        when(jpaItemRepository.findLineNumberBoundByScopeId(SCOPE_ID)).thenReturn(42L);
 
-        when(itemEntity.getProperties()).thenReturn(properties);
-        when(jpaItemRepository.findById(ITEM_ID)).thenReturn(Optional.of(itemEntity));
-        when(jpaItemRepository.save(itemEntity)).thenReturn(itemEntity);
+        final long result = subject.getLineNumberBound(SCOPE_ID);
 
-        final ItemEntity result = subject.updateItemProperty(ITEM_ID, "key", "newValue");
+        assertThat(result).isEqualTo(42L);
+    }
 
-        assertThat(result).isEqualTo(itemEntity)
-                .returns(ItemPropertiesModel.builder()
-                        .value("newValue")
-                        .originalValue("oldValue")
-                        .build(), i -> i.getProperties().get("key"));
+    private static List<UUID> createItemIds(int count) {
+        return IntStream.range(0, count)
+                .mapToObj(i -> UUID.randomUUID())
+                .toList();
     }
 
-}
\ No newline at end of file
+}
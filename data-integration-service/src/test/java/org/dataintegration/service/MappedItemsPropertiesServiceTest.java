@@ -2,6 +2,7 @@ package org.dataintegration.service;
 
 import org.dataintegration.jpa.entity.MappedItemEntity;
 import org.dataintegration.jpa.entity.MappingEntity;
+import org.dataintegration.model.HeaderModel;
 import org.dataintegration.model.ItemPropertiesModel;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -12,6 +13,7 @@ import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.util.HashMap;
 import java.util.Map;
+import java.util.Set;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.Mockito.when;
@@ -30,6 +32,10 @@ class MappedItemsPropertiesServiceTest {
             "sourceKey56", ItemPropertiesModel.builder().value("sourceValue56").build(),
             "mappedKey2", ItemPropertiesModel.builder().value("mappedKey2Value").build()
     );
+    private static final Set<HeaderModel> HEADERS = Set.of(HeaderModel.builder().id("sourceKey12").column(0).build());
+
+    @Mock
+    private ItemPropertiesService itemPropertiesService;
 
     @InjectMocks
     private MappedItemsPropertiesService subject;
@@ -46,7 +52,7 @@ class MappedItemsPropertiesServiceTest {
         when(mappingEntity.getMapping()).thenReturn(MAPPING);
 
         final Map<String, ItemPropertiesModel> result =
-                subject.createOrGetProperties(mappedItemEntity, "mappedKey", "newValue");
+                subject.createOrGetProperties(mappedItemEntity, HEADERS, "mappedKey", "newValue");
 
         assertThat(result).isEmpty();
     }
@@ -56,10 +62,11 @@ class MappedItemsPropertiesServiceTest {
         when(mappedItemEntity.getProperties()).thenReturn(null);
         when(mappedItemEntity.getMapping()).thenReturn(mappingEntity);
         when(mappingEntity.getMapping()).thenReturn(MAPPING);
-        when(mappedItemEntity.getItem().getProperties()).thenReturn(PROPERTIES);
+        when(itemPropertiesService.getProperty(mappedItemEntity.getItem(), HEADERS, "sourceKey12"))
+                .thenReturn(PROPERTIES.get("sourceKey12"));
 
         final Map<String, ItemPropertiesModel> result =
-                subject.createOrGetProperties(mappedItemEntity, "mappedKey1", "newValue");
+                subject.createOrGetProperties(mappedItemEntity, HEADERS, "mappedKey1", "newValue");
 
         assertThat(result).containsEntry("mappedKey1", ItemPropertiesModel.builder()
                 .value("newValue")
@@ -72,10 +79,11 @@ class MappedItemsPropertiesServiceTest {
         when(mappedItemEntity.getProperties()).thenReturn(new HashMap<>(PROPERTIES));
         when(mappedItemEntity.getMapping()).thenReturn(mappingEntity);
         when(mappingEntity.getMapping()).thenReturn(MAPPING);
-        when(mappedItemEntity.getItem().getProperties()).thenReturn(PROPERTIES);
+        when(itemPropertiesService.getProperty(mappedItemEntity.getItem(), HEADERS, "sourceKey12"))
+                .thenReturn(PROPERTIES.get("sourceKey12"));
 
         final Map<String, ItemPropertiesModel> result =
-                subject.createOrGetProperties(mappedItemEntity, "mappedKey2", "newValue");
+                subject.createOrGetProperties(mappedItemEntity, HEADERS, "mappedKey2", "newValue");
 
         assertThat(result).hasSize(4);
     }
@@ -1,32 +1,45 @@
 package org.dataintegration.service;
 
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import org.dataintegration.exception.runtime.MappedItemFrozenException;
 import org.dataintegration.exception.runtime.MappedItemNotFoundException;
 import org.dataintegration.jpa.entity.MappedItemEntity;
-import org.dataintegration.jpa.entity.MappingEntity;
 import org.dataintegration.jpa.repository.JpaMappedItemRepository;
+import org.dataintegration.model.DataIntegrationInputDataAPIModel;
+import org.dataintegration.model.DataIntegrationResultAPIModel;
+import org.dataintegration.model.HeaderModel;
+import org.dataintegration.model.ItemMappingModel;
 import org.dataintegration.model.ItemPropertiesModel;
 import org.dataintegration.model.ItemStatusModel;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Answers;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.jdbc.core.JdbcTemplate;
 
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -36,7 +49,9 @@ class MappedItemsServiceTest {
     private static final UUID ITEM_ID = UUID.randomUUID();
     private static final UUID MAPPED_ITEM_ID = UUID.randomUUID();
     private static final UUID MAPPING_ID = UUID.randomUUID();
+    private static final UUID SCOPE_ID = UUID.randomUUID();
     private static final Pageable PAGEABLE = PageRequest.of(2, 100);
+    private static final Set<HeaderModel> HEADERS = Set.of(HeaderModel.builder().id("sourceKey").column(0).build());
     private static final Map<String, ItemPropertiesModel> PROPERTIES = Map.of(
             "sourceKey12", ItemPropertiesModel.builder().value("sourceValue12").build(),
             "sourceKey34", ItemPropertiesModel.builder().value("sourceValue34").build(),
@@ -48,6 +63,10 @@ class MappedItemsServiceTest {
     private JpaMappedItemRepository jpaMappedItemRepository;
     @Mock
     private MappedItemsPropertiesService mappedItemsPropertiesService;
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+    @Spy
+    private ObjectMapper objectMapper = new ObjectMapper();
 
     @InjectMocks
     private MappedItemsService subject;
@@ -58,8 +77,6 @@ class MappedItemsServiceTest {
     private Page<MappedItemEntity> mappedItemEntityPage;
     @Mock
     private List<UUID> mappedItemUUIDList;
-    @Mock
-    private List<String> errorMessages;
     @Mock(answer = Answers.RETURNS_DEEP_STUBS)
     private MappedItemEntity mappedItemEntity;
 
@@ -71,19 +88,26 @@ class MappedItemsServiceTest {
 
     @Test
     void testGetItemsWithMappings() {
-        final List<UUID> itemIds = List.of(ITEM_ID);
-
-        final MappedItemEntity mappedItem = new MappedItemEntity();
-        mappedItem.setId(ITEM_ID);
-        final MappingEntity mappingEntity = new MappingEntity();
-        mappingEntity.setId(MAPPING_ID);
-        mappedItem.setMapping(mappingEntity);
+        final UUID unmappedItemId = UUID.randomUUID();
+        final List<UUID> itemIds = List.of(ITEM_ID, unmappedItemId);
 
-        when(jpaMappedItemRepository.findAllByItem_Id(ITEM_ID)).thenReturn(List.of(mappedItem));
+        when(jpaMappedItemRepository.findAllItemMappingsByItemIds(itemIds)).thenReturn(List.of(ItemMappingModel.builder()
+                .itemId(ITEM_ID)
+                .mappingId(MAPPING_ID)
+                .build()));
 
         final Map<UUID, List<UUID>> result = subject.getItemsWithMappings(itemIds);
 
         assertThat(result).containsEntry(ITEM_ID, List.of(MAPPING_ID));
+        assertThat(result).containsEntry(unmappedItemId, List.of());
+    }
+
+    @Test
+    void testGetItemsWithMappingsWithoutItemIds() {
+        final Map<UUID, List<UUID>> result = subject.getItemsWithMappings(List.of());
+
+        assertThat(result).isEmpty();
+        verify(jpaMappedItemRepository, never()).findAllItemMappingsByItemIds(any());
     }
 
     @Test
@@ -106,6 +130,45 @@ class MappedItemsServiceTest {
         assertThat(result).isEqualTo(mappedItemEntityPage);
     }
 
+    @Test
+    void testGetByMappingAfterFilterIntegratedItems() {
+        final UUID afterId = UUID.randomUUID();
+        when(jpaMappedItemRepository.findAllByMappingIdAfter(MAPPING_ID, ItemStatusModel.INTEGRATED, 10L, afterId,
+                PageRequest.of(0, 50))).thenReturn(mappedItemEntityList);
+
+        final List<MappedItemEntity> result = subject.getByMappingAfter(MAPPING_ID, true, 10L, afterId, 50);
+
+        assertThat(result).isEqualTo(mappedItemEntityList);
+    }
+
+    @Test
+    void testGetByMappingAfter() {
+        when(jpaMappedItemRepository.findAllByMappingIdAfter(MAPPING_ID, null, null, null, PageRequest.of(0, 50)))
+                .thenReturn(mappedItemEntityList);
+
+        final List<MappedItemEntity> result = subject.getByMappingAfter(MAPPING_ID, false, null, null, 50);
+
+        assertThat(result).isEqualTo(mappedItemEntityList);
+    }
+
+    @Test
+    void testCountFilterIntegratedItems() {
+        when(jpaMappedItemRepository.countAllByMappingId(MAPPING_ID, ItemStatusModel.INTEGRATED)).thenReturn(42L);
+
+        final long result = subject.count(MAPPING_ID, true);
+
+        assertThat(result).isEqualTo(42L);
+    }
+
+    @Test
+    void testCount() {
+        when(jpaMappedItemRepository.countAllByMappingId(MAPPING_ID, null)).thenReturn(42L);
+
+        final long result = subject.count(MAPPING_ID, false);
+
+        assertThat(result).isEqualTo(42L);
+    }
+
     @Test
     void testGetByMappedItemIds() {
         when(jpaMappedItemRepository.findAllById(mappedItemUUIDList)).thenReturn(mappedItemEntityList);
@@ -116,15 +179,71 @@ class MappedItemsServiceTest {
     }
 
     @Test
-    void testUpdateMappedItemStatusByMappedItemId() {
-        subject.updateMappedItemStatusByMappedItemId(MAPPED_ITEM_ID, ItemStatusModel.INTEGRATED);
-        verify(jpaMappedItemRepository).updateStatusById(MAPPED_ITEM_ID, ItemStatusModel.INTEGRATED);
+    @SuppressWarnings("unchecked")
+    void testApplyIntegrationResults() {
+        final UUID failedMappedItemId = UUID.randomUUID();
+        final MappedItemEntity integratedMappedItem = new MappedItemEntity();
+        integratedMappedItem.setId(MAPPED_ITEM_ID);
+        integratedMappedItem.setStatus(ItemStatusModel.MAPPED);
+        final MappedItemEntity failedMappedItem = new MappedItemEntity();
+        failedMappedItem.setId(failedMappedItemId);
+        failedMappedItem.setStatus(ItemStatusModel.MAPPED);
+
+        when(mappedItemsPropertiesService.createOrGetProperties(integratedMappedItem, HEADERS, "mappedKey2", "newValue"))
+                .thenReturn(new HashMap<>(Map.of("mappedKey2", ItemPropertiesModel.builder()
+                        .value("newValue")
+                        .originalValue("originalValue")
+                        .build())));
+
+        subject.applyIntegrationResults(List.of(integratedMappedItem, failedMappedItem), HEADERS, List.of(
+                createIntegrationResult(MAPPED_ITEM_ID, Map.of("mappedKey2", "newValue"), List.of()),
+                createIntegrationResult(failedMappedItemId, Map.of("mappedKey2", "newValue"), List.of("error")),
+                createIntegrationResult(UUID.randomUUID(), Map.of(), List.of())
+        ));
+
+        final ArgumentCaptor<List<Object[]>> batchArgsCaptor = ArgumentCaptor.forClass(List.class);
+        verify(jdbcTemplate).batchUpdate(anyString(), batchArgsCaptor.capture());
+        assertThat(batchArgsCaptor.getValue()).containsExactly(
+                new Object[]{"INTEGRATED", "[]", "{\"mappedKey2\":{\"value\":\"newValue\",\"originalValue\":\"originalValue\"}}", MAPPED_ITEM_ID},
+                new Object[]{"FAILED", "[\"error\"]", null, failedMappedItemId}
+        );
+    }
+
+    @Test
+    void testApplyIntegrationResultsWithoutMatchingMappedItems() {
+        subject.applyIntegrationResults(List.of(), HEADERS, List.of(
+                createIntegrationResult(MAPPED_ITEM_ID, Map.of(), List.of())
+        ));
+
+        verify(jdbcTemplate, never()).batchUpdate(anyString(), anyList());
+    }
+
+    @Test
+    void testApplyIntegrationResultsMappedItemFrozenException() {
+        final MappedItemEntity mappedItem = new MappedItemEntity();
+        mappedItem.setId(MAPPED_ITEM_ID);
+        mappedItem.setStatus(ItemStatusModel.INTEGRATED);
+        final List<MappedItemEntity> mappedItems = List.of(mappedItem);
+        final List<DataIntegrationResultAPIModel> integrationResults =
+                List.of(createIntegrationResult(MAPPED_ITEM_ID, Map.of(), List.of()));
+
+        assertThatExceptionOfType(MappedItemFrozenException.class).isThrownBy(
+                () -> subject.applyIntegrationResults(mappedItems, HEADERS, integrationResults));
+        verify(jdbcTemplate, never()).batchUpdate(anyString(), anyList());
     }
 
     @Test
-    void testUpdateErrorMessagesByMappedItemId() {
-        subject.updateErrorMessagesByMappedItemId(MAPPED_ITEM_ID, errorMessages);
-        verify(jpaMappedItemRepository).updateErrorMessagesById(MAPPED_ITEM_ID, errorMessages);
+    void testApplyIntegrationResultsSerializationFailure() throws Exception {
+        final MappedItemEntity mappedItem = new MappedItemEntity();
+        mappedItem.setId(MAPPED_ITEM_ID);
+        final List<MappedItemEntity> mappedItems = List.of(mappedItem);
+        final List<DataIntegrationResultAPIModel> integrationResults =
+                List.of(createIntegrationResult(MAPPED_ITEM_ID, Map.of(), List.of("error")));
+
+        doThrow(new JsonMappingException(null, "serialization failed")).when(objectMapper).writeValueAsString(any());
+
+        assertThatExceptionOfType(IllegalStateException.class).isThrownBy(
+                () -> subject.applyIntegrationResults(mappedItems, HEADERS, integrationResults));
     }
 
     @Test
@@ -145,12 +264,11 @@ class MappedItemsServiceTest {
     void testUpdateMappedItemProperty() {
         final MappedItemEntity mappedItem = new MappedItemEntity();
 
-        when(jpaMappedItemRepository.findById(MAPPED_ITEM_ID)).thenReturn(Optional.of(mappedItem));
-        when(mappedItemsPropertiesService.createOrGetProperties(mappedItem, "mappedKey2", "newValue")).thenReturn(
+        when(mappedItemsPropertiesService.createOrGetProperties(mappedItem, HEADERS, "mappedKey2", "newValue")).thenReturn(
                 new HashMap<>(PROPERTIES));
         when(jpaMappedItemRepository.save(mappedItem)).thenReturn(mappedItem);
 
-        final MappedItemEntity result = subject.updateMappedItemProperty(MAPPED_ITEM_ID, "mappedKey2", "newValue");
+        final MappedItemEntity result = subject.updateMappedItemProperty(mappedItem, HEADERS, "mappedKey2", "newValue");
 
         assertThat(result).isEqualTo(mappedItem);
         assertThat(result.getProperties()).containsEntry("mappedKey2", ItemPropertiesModel.builder()
@@ -162,12 +280,11 @@ class MappedItemsServiceTest {
     void testUpdateMappedItemPropertyNull() {
         final MappedItemEntity mappedItem = new MappedItemEntity();
 
-        when(jpaMappedItemRepository.findById(MAPPED_ITEM_ID)).thenReturn(Optional.of(mappedItem));
-        when(mappedItemsPropertiesService.createOrGetProperties(mappedItem, "mappedKey2", null)).thenReturn(
+        when(mappedItemsPropertiesService.createOrGetProperties(mappedItem, HEADERS, "mappedKey2", null)).thenReturn(
                 new HashMap<>(PROPERTIES));
         when(jpaMappedItemRepository.save(mappedItem)).thenReturn(mappedItem);
 
-        final MappedItemEntity result = subject.updateMappedItemProperty(MAPPED_ITEM_ID, "mappedKey2", null);
+        final MappedItemEntity result = subject.updateMappedItemProperty(mappedItem, HEADERS, "mappedKey2", null);
 
         assertThat(result).isEqualTo(mappedItem);
         assertThat(result.getProperties()).containsEntry("mappedKey2", null);
@@ -178,10 +295,8 @@ class MappedItemsServiceTest {
         final MappedItemEntity mappedItem = new MappedItemEntity();
         mappedItem.setStatus(ItemStatusModel.INTEGRATED);
 
-        when(jpaMappedItemRepository.findById(MAPPED_ITEM_ID)).thenReturn(Optional.of(mappedItem));
-
         assertThatExceptionOfType(MappedItemFrozenException.class).isThrownBy(
-                () -> subject.updateMappedItemProperty(MAPPED_ITEM_ID, "mappedKey2", "newValue"));
+                () -> subject.updateMappedItemProperty(mappedItem, HEADERS, "mappedKey2", "newValue"));
     }
 
     @Test
@@ -190,4 +305,45 @@ class MappedItemsServiceTest {
         verify(jpaMappedItemRepository).deleteAllById(mappedItemUUIDList);
     }
 
-}
\ No newline at end of file
+    @Test
+    void testApplyMappingByItemIds() {
+        final List<UUID> itemIds = List.of(ITEM_ID);
+        when(jpaMappedItemRepository.insertAllByScopeIdAndItemIds(SCOPE_ID, MAPPING_ID, itemIds)).thenReturn(1);
+
+        final int result = subject.applyMapping(SCOPE_ID, MAPPING_ID, itemIds);
+
+        assertThat(result).isEqualTo(1);
+    }
+
+    @Test
+    void testApplyMappingByLineNumberRangeWithSearchText() {
+        when(jpaMappedItemRepository.insertAllByScopeIdAndLineNumberRange(SCOPE_ID, MAPPING_ID, 3, "searchText", 0, 10000))
+                .thenReturn(42);
+
+        final int result = subject.applyMapping(SCOPE_ID, MAPPING_ID, 3, "searchText", 0, 10000);
+
+        assertThat(result).isEqualTo(42);
+    }
+
+    @Test
+    void testApplyMappingByLineNumberRangeWithoutSearchText() {
+        when(jpaMappedItemRepository.insertAllByScopeIdAndLineNumberRange(SCOPE_ID, MAPPING_ID, null, null, 0, 10000))
+                .thenReturn(42);
+
+        final int result = subject.applyMapping(SCOPE_ID, MAPPING_ID, null, "", 0, 10000);
+
+        assertThat(result).isEqualTo(42);
+    }
+
+    private static DataIntegrationResultAPIModel createIntegrationResult(UUID mappedItemId, Map<String, String> data,
+                                                                         List<String> errorMessages) {
+        return DataIntegrationResultAPIModel.builder()
+                .input(DataIntegrationInputDataAPIModel.builder()
+                        .mappedItemId(mappedItemId)
+                        .data(data)
+                        .build())
+                .errorMessages(errorMessages)
+                .build();
+    }
+
+}
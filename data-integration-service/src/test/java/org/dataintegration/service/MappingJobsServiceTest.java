@@ -0,0 +1,141 @@
+package org.dataintegration.service;
+
+import org.dataintegration.exception.runtime.MappingIntegrationRunningException;
+import org.dataintegration.exception.runtime.MappingJobNotFoundException;
+import org.dataintegration.model.MappingJobModel;
+import org.dataintegration.model.MappingJobStatusModel;
+import org.dataintegration.model.MappingJobTypeModel;
+import org.dataintegration.model.cache.DataIntegrationCache;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Instant;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+@ExtendWith(MockitoExtension.class)
+class MappingJobsServiceTest {
+
+    private static final UUID PROJECT_ID = UUID.randomUUID();
+    private static final UUID MAPPING_ID = UUID.randomUUID();
+
+    @Spy
+    private DataIntegrationCache dataIntegrationCache = new DataIntegrationCache();
+
+    @InjectMocks
+    private MappingJobsService subject;
+
+    @Test
+    void testCreate() {
+        final MappingJobModel expiredJob = createFinishedJob(Instant.now().minus(MappingJobsService.FINISHED_JOB_RETENTION)
+                .minusSeconds(1));
+        final MappingJobModel finishedJob = createFinishedJob(Instant.now());
+        final MappingJobModel runningJob = createFinishedJob(null);
+
+        final MappingJobModel result = subject.create(PROJECT_ID, MAPPING_ID, MappingJobTypeModel.INTEGRATION, 100);
+
+        assertThat(result.getProjectId()).isEqualTo(PROJECT_ID);
+        assertThat(result.getMappingId()).isEqualTo(MAPPING_ID);
+        assertThat(result.getType()).isEqualTo(MappingJobTypeModel.INTEGRATION);
+        assertThat(result.getStatus()).isEqualTo(MappingJobStatusModel.RUNNING);
+        assertThat(result.getTotal()).isEqualTo(100);
+        assertThat(dataIntegrationCache.getMappingJobs()).containsOnlyKeys(result.getId(), finishedJob.getId(),
+                runningJob.getId());
+        assertThat(dataIntegrationCache.getMappingJobs()).doesNotContainKey(expiredJob.getId());
+    }
+
+    @Test
+    void testStartIntegration() {
+        subject.startIntegration(MAPPING_ID);
+
+        assertThatExceptionOfType(MappingIntegrationRunningException.class)
+                .isThrownBy(() -> subject.startIntegration(MAPPING_ID));
+        assertThat(dataIntegrationCache.getIntegratingMappings()).containsExactly(MAPPING_ID);
+    }
+
+    @Test
+    void testFinishIntegration() {
+        subject.startIntegration(MAPPING_ID);
+
+        subject.finishIntegration(MAPPING_ID);
+        subject.startIntegration(MAPPING_ID);
+
+        assertThat(dataIntegrationCache.getIntegratingMappings()).containsExactly(MAPPING_ID);
+    }
+
+    @Test
+    void testGet() {
+        final MappingJobModel mappingJob = subject.create(PROJECT_ID, MAPPING_ID, MappingJobTypeModel.INTEGRATION, 100);
+
+        final MappingJobModel result = subject.get(PROJECT_ID, mappingJob.getId());
+
+        assertThat(result).isEqualTo(mappingJob);
+    }
+
+    @Test
+    void testGetMappingJobNotFoundException() {
+        final UUID jobId = UUID.randomUUID();
+        assertThatExceptionOfType(MappingJobNotFoundException.class).isThrownBy(() -> subject.get(PROJECT_ID, jobId));
+    }
+
+    @Test
+    void testGetOfOtherProjectMappingJobNotFoundException() {
+        final UUID jobId = subject.create(PROJECT_ID, MAPPING_ID, MappingJobTypeModel.INTEGRATION, 100).getId();
+        final UUID otherProjectId = UUID.randomUUID();
+        assertThatExceptionOfType(MappingJobNotFoundException.class).isThrownBy(() -> subject.get(otherProjectId, jobId));
+    }
+
+    @Test
+    void testAddProgress() {
+        final UUID jobId = subject.create(PROJECT_ID, MAPPING_ID, MappingJobTypeModel.INTEGRATION, 100).getId();
+
+        subject.addProgress(jobId, 10, 8, 2);
+        subject.addProgress(jobId, 10, 5, 0);
+
+        final MappingJobModel result = subject.get(PROJECT_ID, jobId);
+        assertThat(result.getProcessed()).isEqualTo(20);
+        assertThat(result.getSucceeded()).isEqualTo(13);
+        assertThat(result.getFailed()).isEqualTo(2);
+        assertThat(result.getStatus()).isEqualTo(MappingJobStatusModel.RUNNING);
+    }
+
+    @Test
+    void testFinish() {
+        final UUID jobId = subject.create(PROJECT_ID, MAPPING_ID, MappingJobTypeModel.INTEGRATION, 100).getId();
+
+        subject.finish(jobId);
+
+        final MappingJobModel result = subject.get(PROJECT_ID, jobId);
+        assertThat(result.getStatus()).isEqualTo(MappingJobStatusModel.FINISHED);
+        assertThat(result.getProcessed()).isEqualTo(100);
+        assertThat(result.getFinishedDate()).isNotNull();
+    }
+
+    @Test
+    void testFail() {
+        final UUID jobId = subject.create(PROJECT_ID, MAPPING_ID, MappingJobTypeModel.INTEGRATION, 100).getId();
+
+        subject.fail(jobId, "error");
+
+        final MappingJobModel result = subject.get(PROJECT_ID, jobId);
+        assertThat(result.getStatus()).isEqualTo(MappingJobStatusModel.FAILED);
+        assertThat(result.getErrorMessage()).isEqualTo("error");
+        assertThat(result.getFinishedDate()).isNotNull();
+    }
+
+    private MappingJobModel createFinishedJob(Instant finishedDate) {
+        final MappingJobModel mappingJob = MappingJobModel.builder()
+                .id(UUID.randomUUID())
+                .projectId(PROJECT_ID)
+                .finishedDate(finishedDate)
+                .build();
+        dataIntegrationCache.getMappingJobs().put(mappingJob.getId(), mappingJob);
+        return mappingJob;
+    }
+
+}
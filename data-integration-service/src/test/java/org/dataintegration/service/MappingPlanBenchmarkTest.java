@@ -0,0 +1,144 @@
+package org.dataintegration.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.dataintegration.jpa.entity.ItemEntity;
+import org.dataintegration.jpa.entity.MappedItemEntity;
+import org.dataintegration.jpa.entity.MappingEntity;
+import org.dataintegration.model.DataIntegrationHeaderAPIModel;
+import org.dataintegration.model.DataIntegrationHeaderDataAPIModel;
+import org.dataintegration.model.DataIntegrationInputAPIModel;
+import org.dataintegration.model.DataIntegrationInputDataAPIModel;
+import org.dataintegration.model.HeaderModel;
+import org.dataintegration.model.ItemPropertiesModel;
+import org.dataintegration.model.MappingPlanModel;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Compares building integration payloads by walking the headers per mapped item against a compiled mapping plan.
+ * Only runs if BENCHMARK is set to true.
+ */
+@Slf4j
+@EnabledIfEnvironmentVariable(named = "BENCHMARK", matches = "true")
+class MappingPlanBenchmarkTest {
+
+    private static final int COLUMNS = 100;
+    private static final int MAPPED_ITEMS = 10_000;
+    private static final int WARMUP_ROUNDS = 10;
+    private static final int ROUNDS = 20;
+
+    private final ItemPropertiesService itemPropertiesService = new ItemPropertiesService();
+    private final MappingPlanService mappingPlanService = new MappingPlanService();
+
+    @Test
+    void testCompareMappingPlan() {
+        final Set<HeaderModel> headers = new LinkedHashSet<>();
+        final Map<String, String[]> mapping = new HashMap<>();
+        final List<DataIntegrationHeaderDataAPIModel> hostHeaders = new ArrayList<>();
+        for (int column = 0; column < COLUMNS; column++) {
+            headers.add(HeaderModel.builder().id("source" + column).column(column).build());
+            mapping.put("source" + column, new String[]{"target" + column});
+            hostHeaders.add(DataIntegrationHeaderDataAPIModel.builder()
+                    .id("target" + column)
+                    .display("target" + column)
+                    .tooltip("")
+                    .alternatives(List.of())
+                    .build());
+        }
+        final MappingEntity mappingEntity = new MappingEntity();
+        mappingEntity.setMapping(mapping);
+        final DataIntegrationHeaderAPIModel hostHeader = DataIntegrationHeaderAPIModel.builder().headers(hostHeaders).build();
+        final List<MappedItemEntity> mappedItems = createMappedItems();
+
+        final double walkMs = run(() -> createInputByWalkingHeaders(mappedItems, mappingEntity, hostHeader, headers));
+        final double planMs = run(() -> {
+            final MappingPlanModel mappingPlan = mappingPlanService.compile(mappingEntity, headers, hostHeader);
+            return mappingPlanService.createInput(mappingPlan, mappedItems);
+        });
+
+        assertThat(mappingPlanService.createInput(mappingPlanService.compile(mappingEntity, headers, hostHeader), mappedItems))
+                .isEqualTo(createInputByWalkingHeaders(mappedItems, mappingEntity, hostHeader, headers));
+        log.info("[Benchmark] {} mapped items with {} columns: walking headers {} ms, mapping plan {} ms",
+                MAPPED_ITEMS, COLUMNS, String.format("%.2f", walkMs), String.format("%.2f", planMs));
+    }
+
+    private static double run(Supplier<DataIntegrationInputAPIModel> createInput) {
+        for (int round = 0; round < WARMUP_ROUNDS; round++) {
+            createInput.get();
+        }
+        final long start = System.nanoTime();
+        for (int round = 0; round < ROUNDS; round++) {
+            createInput.get();
+        }
+        return (System.nanoTime() - start) / 1_000_000.0 / ROUNDS;
+    }
+
+    private DataIntegrationInputAPIModel createInputByWalkingHeaders(List<MappedItemEntity> mappedItems, MappingEntity mappingEntity,
+                                                                     DataIntegrationHeaderAPIModel hostHeaders, Set<HeaderModel> headers) {
+        final Map<String, String[]> mappings = new HashMap<>();
+        mappingEntity.getMapping().forEach((source, targets) -> {
+            for (String target : targets) {
+                mappings.put(target, new String[]{source});
+            }
+        });
+        final List<DataIntegrationInputDataAPIModel> inputs = new ArrayList<>();
+        for (MappedItemEntity mappedItem : mappedItems) {
+            final Map<String, String> data = new HashMap<>();
+            for (DataIntegrationHeaderDataAPIModel target : hostHeaders.getHeaders()) {
+                final String[] sources = mappings.get(target.getId());
+                if (sources != null) {
+                    for (String source : sources) {
+                        data.put(target.getId(), getValue(mappedItem, headers, source, target.getId()));
+                    }
+                }
+            }
+            inputs.add(DataIntegrationInputDataAPIModel.builder()
+                    .mappedItemId(mappedItem.getId())
+                    .data(data)
+                    .build());
+        }
+        return DataIntegrationInputAPIModel.builder()
+                .inputs(inputs)
+                .build();
+    }
+
+    private String getValue(MappedItemEntity mappedItem, Set<HeaderModel> headers, String source, String target) {
+        if (mappedItem.getProperties() != null && mappedItem.getProperties().get(target) != null) {
+            return mappedItem.getProperties().get(target).getValue();
+        }
+        final ItemPropertiesModel itemProperties = itemPropertiesService.getProperty(mappedItem.getItem(), headers, source);
+        return itemProperties != null ? itemProperties.getValue() : "";
+    }
+
+    private static List<MappedItemEntity> createMappedItems() {
+        final List<MappedItemEntity> mappedItems = new ArrayList<>(MAPPED_ITEMS);
+        for (int i = 0; i < MAPPED_ITEMS; i++) {
+            final List<String> cells = new ArrayList<>(COLUMNS);
+            for (int column = 0; column < COLUMNS; column++) {
+                cells.add("value " + i + "/" + column);
+            }
+            final ItemEntity itemEntity = new ItemEntity();
+            itemEntity.setCells(cells);
+            final MappedItemEntity mappedItemEntity = new MappedItemEntity();
+            mappedItemEntity.setId(UUID.randomUUID());
+            mappedItemEntity.setItem(itemEntity);
+            if (i % 10 == 0) {
+                mappedItemEntity.setProperties(Map.of("target0", ItemPropertiesModel.builder().value("edited").build()));
+            }
+            mappedItems.add(mappedItemEntity);
+        }
+        return mappedItems;
+    }
+
+}
@@ -0,0 +1,113 @@
+package org.dataintegration.service;
+
+import org.dataintegration.jpa.entity.ItemEntity;
+import org.dataintegration.jpa.entity.MappedItemEntity;
+import org.dataintegration.jpa.entity.MappingEntity;
+import org.dataintegration.model.DataIntegrationHeaderAPIModel;
+import org.dataintegration.model.DataIntegrationHeaderDataAPIModel;
+import org.dataintegration.model.DataIntegrationInputAPIModel;
+import org.dataintegration.model.HeaderModel;
+import org.dataintegration.model.ItemPropertiesModel;
+import org.dataintegration.model.MappingPlanModel;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@ExtendWith(MockitoExtension.class)
+class MappingPlanServiceTest {
+
+    private static final List<HeaderModel> HEADERS = List.of(
+            HeaderModel.builder().id("source1").column(1).build(),
+            HeaderModel.builder().id("source2").column(0).build(),
+            HeaderModel.builder().id("source3").column(2).build(),
+            HeaderModel.builder().id("sourceWithoutColumn").build());
+
+    @InjectMocks
+    private MappingPlanService subject;
+
+    @Test
+    void testCompile() {
+        final MappingPlanModel result = subject.compile(createMapping(), HEADERS, createHostHeaders());
+
+        assertThat(result.getTargets()).containsExactly("target1", "target2", "target3", "target4", "target5");
+        assertThat(result.getSourceColumns()).containsExactly(1, 0, 1, -1, 2);
+    }
+
+    @Test
+    void testCreateInput() {
+        final MappingPlanModel mappingPlan = subject.compile(createMapping(), HEADERS, createHostHeaders());
+        final MappedItemEntity mappedItem = createMappedItem(Arrays.asList("value2", "value1", null),
+                Map.of("target2", ItemPropertiesModel.builder().value("editedValue2").build()));
+        final MappedItemEntity mappedItemWithoutProperties = createMappedItem(List.of("value2"), null);
+
+        final DataIntegrationInputAPIModel result = subject.createInput(mappingPlan, List.of(mappedItem, mappedItemWithoutProperties));
+
+        assertThat(result.getInputs()).hasSize(2);
+        assertThat(result.getInputs().get(0).getMappedItemId()).isEqualTo(mappedItem.getId());
+        assertThat(result.getInputs().get(0).getData()).containsExactlyInAnyOrderEntriesOf(Map.of(
+                "target1", "value1",
+                "target2", "editedValue2",
+                "target3", "value1",
+                "target4", "",
+                "target5", ""));
+        assertThat(result.getInputs().get(1).getData()).containsExactlyInAnyOrderEntriesOf(Map.of(
+                "target1", "",
+                "target2", "value2",
+                "target3", "",
+                "target4", "",
+                "target5", ""));
+    }
+
+    private static MappingEntity createMapping() {
+        final Map<String, String[]> mapping = new LinkedHashMap<>();
+        mapping.put("source1", new String[]{"target1", "target3"});
+        mapping.put("source2", new String[]{"target2"});
+        mapping.put("sourceWithoutColumn", new String[]{"target4"});
+        mapping.put("source3", new String[]{"target5"});
+        mapping.put("unknownSource", new String[]{"targetWithoutHostHeader"});
+        final MappingEntity mappingEntity = new MappingEntity();
+        mappingEntity.setMapping(mapping);
+        return mappingEntity;
+    }
+
+    private static DataIntegrationHeaderAPIModel createHostHeaders() {
+        return DataIntegrationHeaderAPIModel.builder()
+                .headers(List.of(
+                        createHostHeader("target1"),
+                        createHostHeader("target2"),
+                        createHostHeader("unmappedTarget"),
+                        createHostHeader("target3"),
+                        createHostHeader("target4"),
+                        createHostHeader("target5")))
+                .build();
+    }
+
+    private static DataIntegrationHeaderDataAPIModel createHostHeader(String id) {
+        return DataIntegrationHeaderDataAPIModel.builder()
+                .id(id)
+                .display(id)
+                .tooltip(id)
+                .alternatives(List.of())
+                .build();
+    }
+
+    private static MappedItemEntity createMappedItem(List<String> cells, Map<String, ItemPropertiesModel> properties) {
+        final ItemEntity itemEntity = new ItemEntity();
+        itemEntity.setCells(cells);
+        final MappedItemEntity mappedItemEntity = new MappedItemEntity();
+        mappedItemEntity.setId(UUID.randomUUID());
+        mappedItemEntity.setItem(itemEntity);
+        mappedItemEntity.setProperties(properties);
+        return mappedItemEntity;
+    }
+
+}
@@ -36,6 +36,8 @@ class MappingsServiceTest {
     private JpaMappingRepository jpaMappingRepository;
     @Mock
     private MappingsValidationService mappingsValidationService;
+    @Mock
+    private PartitionsService partitionsService;
 
     @InjectMocks
     private MappingsService subject;
@@ -52,10 +54,12 @@ class MappingsServiceTest {
     @Test
     void testCreateOrUpdateMapping() {
         when(jpaMappingRepository.save(mappingEntity)).thenReturn(mappingEntity);
+        when(mappingEntity.getId()).thenReturn(MAPPING_ID);
 
         final MappingEntity result = subject.createOrUpdateMapping(mappingEntity);
 
         assertThat(result).isEqualTo(mappingEntity);
+        verify(partitionsService).createMappingPartition(MAPPING_ID);
     }
 
     @Test
@@ -0,0 +1,101 @@
+package org.dataintegration.service;
+
+import org.dataintegration.model.PartitioningConfigModel;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class PartitionsServiceTest {
+
+    private static final UUID SCOPE_ID = UUID.fromString("7f9c24e5-2d1a-4c3b-9e8f-0a1b2c3d4e5f");
+    private static final UUID MAPPING_ID = UUID.fromString("1a2b3c4d-5e6f-4a8b-9c0d-1e2f3a4b5c6d");
+    private static final String SCOPE_PARTITION = "item_7f9c24e52d1a4c3b9e8f0a1b2c3d4e5f";
+    private static final String MAPPING_PARTITION = "mapped_item_1a2b3c4d5e6f4a8b9c0d1e2f3a4b5c6d";
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+    @Spy
+    private PartitioningConfigModel partitioningConfig = PartitioningConfigModel.builder().enabled(true).build();
+
+    @InjectMocks
+    private PartitionsService subject;
+
+    @Test
+    void testIsEnabled() {
+        assertThat(subject.isEnabled()).isTrue();
+    }
+
+    @Test
+    void testCreateScopePartition() {
+        when(jdbcTemplate.queryForObject("SELECT to_regclass(?) IS NOT NULL", Boolean.class, SCOPE_PARTITION)).thenReturn(false);
+
+        subject.createScopePartition(SCOPE_ID);
+
+        verify(jdbcTemplate).execute("CREATE TABLE IF NOT EXISTS " + SCOPE_PARTITION + " PARTITION OF item FOR VALUES IN ('"
+                + SCOPE_ID + "')");
+    }
+
+    @Test
+    void testCreateMappingPartitionExisting() {
+        when(jdbcTemplate.queryForObject("SELECT to_regclass(?) IS NOT NULL", Boolean.class, MAPPING_PARTITION)).thenReturn(true);
+
+        subject.createMappingPartition(MAPPING_ID);
+
+        verify(jdbcTemplate, never()).execute(anyString());
+    }
+
+    @Test
+    void testCreateScopePartitionDisabled() {
+        partitioningConfig.setEnabled(false);
+
+        subject.createScopePartition(SCOPE_ID);
+
+        verifyNoInteractions(jdbcTemplate);
+    }
+
+    @Test
+    void testDropScopePartition() {
+        when(jdbcTemplate.queryForObject("SELECT to_regclass(?) IS NOT NULL", Boolean.class, SCOPE_PARTITION)).thenReturn(true);
+
+        final boolean result = subject.dropScopePartition(SCOPE_ID);
+
+        assertThat(result).isTrue();
+        verify(jdbcTemplate).execute("ALTER TABLE item DETACH PARTITION " + SCOPE_PARTITION + " CONCURRENTLY");
+        verify(jdbcTemplate).execute("DROP TABLE " + SCOPE_PARTITION);
+    }
+
+    @Test
+    void testDropMappingPartitionMissing() {
+        when(jdbcTemplate.queryForObject("SELECT to_regclass(?) IS NOT NULL", Boolean.class, MAPPING_PARTITION)).thenReturn(null);
+
+        final boolean result = subject.dropMappingPartition(MAPPING_ID);
+
+        assertThat(result).isFalse();
+        verify(jdbcTemplate, never()).execute(anyString());
+    }
+
+    @Test
+    void testDropMappingPartitionDisabled() {
+        partitioningConfig.setEnabled(false);
+
+        final boolean result = subject.dropMappingPartition(MAPPING_ID);
+
+        assertThat(result).isFalse();
+        verifyNoInteractions(jdbcTemplate);
+    }
+
+}
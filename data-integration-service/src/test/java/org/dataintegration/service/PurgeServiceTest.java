@@ -0,0 +1,162 @@
+package org.dataintegration.service;
+
+import org.dataintegration.jpa.repository.JpaCheckpointBatchRepository;
+import org.dataintegration.jpa.repository.JpaCheckpointRepository;
+import org.dataintegration.jpa.repository.JpaItemRepository;
+import org.dataintegration.jpa.repository.JpaMappedItemRepository;
+import org.dataintegration.jpa.repository.JpaMappingRepository;
+import org.dataintegration.jpa.repository.JpaProjectRepository;
+import org.dataintegration.jpa.repository.JpaScopeRepository;
+import org.dataintegration.model.PurgeConfigModel;
+import org.dataintegration.model.PurgeStatusModel;
+import org.dataintegration.model.cache.DataIntegrationCache;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class PurgeServiceTest {
+
+    private static final UUID SCOPE_ID = UUID.randomUUID();
+    private static final UUID PROCESSING_SCOPE_ID = UUID.randomUUID();
+    private static final UUID MAPPING_ID = UUID.randomUUID();
+    private static final int CHUNK_SIZE = 2;
+
+    @Mock
+    private JpaProjectRepository jpaProjectRepository;
+    @Mock
+    private JpaScopeRepository jpaScopeRepository;
+    @Mock
+    private JpaMappingRepository jpaMappingRepository;
+    @Mock
+    private JpaMappedItemRepository jpaMappedItemRepository;
+    @Mock
+    private JpaItemRepository jpaItemRepository;
+    @Mock
+    private JpaCheckpointRepository jpaCheckpointRepository;
+    @Mock
+    private JpaCheckpointBatchRepository jpaCheckpointBatchRepository;
+    @Mock
+    private PartitionsService partitionsService;
+    @Spy
+    private DataIntegrationCache dataIntegrationCache = new DataIntegrationCache();
+    @Spy
+    private PurgeConfigModel purgeConfig = PurgeConfigModel.builder()
+            .enabled(true)
+            .chunkSize(CHUNK_SIZE)
+            .pause(Duration.ZERO)
+            .build();
+
+    @InjectMocks
+    private PurgeService subject;
+
+    @Test
+    void testPurge() {
+        dataIntegrationCache.getProcessingScopes().add(PROCESSING_SCOPE_ID);
+        dataIntegrationCache.getMarkedForDeletionScopes().add(SCOPE_ID);
+        when(jpaScopeRepository.findAllIdsMarkedForDeletion()).thenReturn(List.of(SCOPE_ID, PROCESSING_SCOPE_ID));
+        when(jpaMappedItemRepository.deleteChunkByScopeId(SCOPE_ID, CHUNK_SIZE)).thenReturn(CHUNK_SIZE, 1);
+        when(jpaCheckpointRepository.deleteAllByScopeId(SCOPE_ID)).thenReturn(1);
+        when(jpaMappingRepository.findAllIdsMarkedForDeletion()).thenReturn(List.of(MAPPING_ID));
+        when(jpaProjectRepository.deleteAllMarkedForDeletionWithoutScopes()).thenReturn(1);
+
+        final PurgeStatusModel result = subject.purge();
+
+        verify(jpaItemRepository).deleteChunkByScopeId(SCOPE_ID, CHUNK_SIZE);
+        verify(jpaCheckpointBatchRepository).deleteChunkByScopeId(SCOPE_ID, CHUNK_SIZE);
+        verify(jpaMappingRepository).deleteAllByScopeId(SCOPE_ID);
+        verify(jpaScopeRepository).deleteById(SCOPE_ID);
+        verify(jpaScopeRepository, never()).deleteById(PROCESSING_SCOPE_ID);
+        verify(jpaMappedItemRepository).deleteChunkByMappingId(MAPPING_ID, CHUNK_SIZE);
+        verify(jpaMappingRepository).deleteById(MAPPING_ID);
+        assertThat(dataIntegrationCache.getMarkedForDeletionScopes()).isEmpty();
+        assertThat(result.isRunning()).isFalse();
+        assertThat(result.getStartedDate()).isNotNull();
+        assertThat(result.getFinishedDate()).isNotNull();
+        assertThat(result.getPurgedScopes()).isEqualTo(1);
+        assertThat(result.getPurgedMappings()).isEqualTo(1);
+        assertThat(result.getPurgedProjects()).isEqualTo(1);
+        assertThat(result.getDeletedRows()).isEqualTo(7);
+        assertThat(subject.getStatus()).isEqualTo(result);
+    }
+
+    @Test
+    void testPurgePartitioned() {
+        final UUID scopeMappingId = UUID.randomUUID();
+        final UUID scopeMappingWithoutPartitionId = UUID.randomUUID();
+        when(partitionsService.isEnabled()).thenReturn(true);
+        when(jpaScopeRepository.findAllIdsMarkedForDeletion()).thenReturn(List.of(SCOPE_ID));
+        when(jpaMappingRepository.findAllIdsByScopeId(SCOPE_ID)).thenReturn(List.of(scopeMappingId, scopeMappingWithoutPartitionId));
+        when(partitionsService.dropMappingPartition(scopeMappingId)).thenReturn(true);
+        when(partitionsService.dropMappingPartition(scopeMappingWithoutPartitionId)).thenReturn(false);
+        when(partitionsService.dropScopePartition(SCOPE_ID)).thenReturn(true);
+        when(jpaMappingRepository.findAllIdsMarkedForDeletion()).thenReturn(List.of(MAPPING_ID));
+        when(partitionsService.dropMappingPartition(MAPPING_ID)).thenReturn(true);
+
+        final PurgeStatusModel result = subject.purge();
+
+        verify(jpaCheckpointBatchRepository).deleteChunkByScopeId(SCOPE_ID, CHUNK_SIZE);
+        verify(jpaMappedItemRepository, never()).deleteChunkByScopeId(any(), anyInt());
+        verify(jpaMappedItemRepository, never()).deleteChunkByMappingId(any(), anyInt());
+        verify(jpaItemRepository, never()).deleteChunkByScopeId(any(), anyInt());
+        verify(jpaScopeRepository).deleteById(SCOPE_ID);
+        verify(jpaMappingRepository).deleteById(MAPPING_ID);
+        assertThat(result.getDroppedPartitions()).isEqualTo(3);
+        assertThat(result.getPurgedScopes()).isEqualTo(1);
+        assertThat(result.getPurgedMappings()).isEqualTo(1);
+    }
+
+    @Test
+    void testPurgeAlreadyRunning() {
+        final PurgeStatusModel runningStatus = PurgeStatusModel.builder().running(true).build();
+        dataIntegrationCache.getPurgeStatus().set(runningStatus);
+
+        final PurgeStatusModel result = subject.purge();
+
+        assertThat(result).isSameAs(runningStatus);
+        verifyNoInteractions(jpaScopeRepository);
+    }
+
+    @Test
+    void testPurgeFailure() {
+        when(jpaScopeRepository.findAllIdsMarkedForDeletion()).thenThrow(new IllegalStateException("failed"));
+
+        assertThatExceptionOfType(IllegalStateException.class).isThrownBy(() -> subject.purge());
+
+        assertThat(subject.getStatus().isRunning()).isFalse();
+        assertThat(subject.getStatus().getFinishedDate()).isNotNull();
+        assertThat(subject.getStatus().getErrorMessage()).isEqualTo("failed");
+    }
+
+    @Test
+    void testPurgeInterrupted() {
+        when(jpaScopeRepository.findAllIdsMarkedForDeletion()).thenReturn(List.of(SCOPE_ID));
+        when(jpaMappedItemRepository.deleteChunkByScopeId(SCOPE_ID, CHUNK_SIZE)).thenReturn(CHUNK_SIZE);
+        Thread.currentThread().interrupt();
+
+        try {
+            assertThatExceptionOfType(IllegalStateException.class).isThrownBy(() -> subject.purge());
+            assertThat(Thread.currentThread().isInterrupted()).isTrue();
+        } finally {
+            Thread.interrupted();
+        }
+        verify(jpaScopeRepository, never()).deleteById(SCOPE_ID);
+    }
+
+}
@@ -10,6 +10,7 @@ import org.dataintegration.model.HeaderModel;
 import org.dataintegration.model.cache.DataIntegrationCache;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
@@ -24,6 +25,7 @@ import java.util.UUID;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
 import static org.assertj.core.api.Assertions.assertThatNoException;
+import static org.assertj.core.api.Assertions.tuple;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anySet;
 import static org.mockito.ArgumentMatchers.eq;
@@ -40,6 +42,8 @@ class ScopesServiceTest {
     private JpaScopeRepository jpaScopeRepository;
     @Mock
     private DataIntegrationCache dataIntegrationCache;
+    @Mock
+    private PartitionsService partitionsService;
 
     @InjectMocks
     private ScopesService subject;
@@ -67,10 +71,12 @@ class ScopesServiceTest {
         when(projectEntity.getId()).thenReturn(PROJECT_ID);
         when(jpaScopeRepository.findByProject_IdAndKeyAndDeleteFalse(PROJECT_ID, "scopeKey")).thenReturn(Optional.empty());
         when(jpaScopeRepository.save(any(ScopeEntity.class))).thenReturn(scopeEntity);
+        when(scopeEntity.getId()).thenReturn(SCOPE_ID);
 
         final ScopeEntity result = subject.createOrGetScope(projectEntity, "scopeKey", false);
 
         assertThat(result).isEqualTo(scopeEntity);
+        verify(partitionsService).createScopePartition(SCOPE_ID);
     }
 
     @Test
@@ -158,19 +164,23 @@ class ScopesServiceTest {
     }
 
     @Test
+    @SuppressWarnings("unchecked")
     void testUpdateHeadersWithScopeHeaders() {
         final LinkedHashSet<HeaderModel> scopeHeaders = new LinkedHashSet<>();
         scopeHeaders.add(HeaderModel.builder()
                 .id("header1")
                 .display("header1")
+                .column(0)
                 .build());
         scopeHeaders.add(HeaderModel.builder()
                 .id("header2")
                 .display("header2")
+                .column(1)
                 .build());
         scopeHeaders.add(HeaderModel.builder()
                 .id("header3")
                 .display("header3")
+                .column(2)
                 .build());
 
         final Set<HeaderModel> headers = Set.of(
@@ -198,7 +208,52 @@ class ScopesServiceTest {
         final LinkedHashSet<HeaderModel> result = subject.updateHeaders(SCOPE_ID, headers);
 
         assertThat(result).isNotNull();
-        verify(jpaScopeRepository).updateHeaders(eq(SCOPE_ID), anySet());
+        final ArgumentCaptor<Set<HeaderModel>> headersCaptor = ArgumentCaptor.forClass(Set.class);
+        verify(jpaScopeRepository).updateHeaders(eq(SCOPE_ID), headersCaptor.capture());
+        assertThat(headersCaptor.getValue())
+                .extracting(HeaderModel::getDisplay, HeaderModel::getColumn)
+                .contains(tuple("newHeader1", 0), tuple("header4", 3));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void testUpdateHeadersWithScopeHeadersWithoutColumn() {
+        final LinkedHashSet<HeaderModel> scopeHeaders = new LinkedHashSet<>();
+        scopeHeaders.add(HeaderModel.builder()
+                .id("header1")
+                .display("header1")
+                .build());
+        scopeHeaders.add(HeaderModel.builder()
+                .id("header2")
+                .display("header2")
+                .column(0)
+                .build());
+        scopeHeaders.add(HeaderModel.builder()
+                .id("header3")
+                .display("header3")
+                .build());
+
+        final Set<HeaderModel> headers = Set.of(
+                HeaderModel.builder()
+                        .id("header1")
+                        .display("header1")
+                        .build(),
+                HeaderModel.builder()
+                        .id("header4")
+                        .display("header4")
+                        .build()
+        );
+
+        when(scopeEntity.getHeaders()).thenReturn(scopeHeaders);
+        when(jpaScopeRepository.findByIdAndDeleteFalse(SCOPE_ID)).thenReturn(Optional.of(scopeEntity));
+
+        subject.updateHeaders(SCOPE_ID, headers);
+
+        final ArgumentCaptor<Set<HeaderModel>> headersCaptor = ArgumentCaptor.forClass(Set.class);
+        verify(jpaScopeRepository).updateHeaders(eq(SCOPE_ID), headersCaptor.capture());
+        assertThat(headersCaptor.getValue())
+                .extracting(HeaderModel::getDisplay, HeaderModel::getColumn)
+                .containsExactlyInAnyOrder(tuple("header1", 1), tuple("header2", 0), tuple("header3", 2), tuple("header4", 3));
     }
 
     @Test
@@ -0,0 +1,360 @@
+package org.dataintegration.usecase;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.dataintegration.exception.runtime.MappingIntegrationRunningException;
+import org.dataintegration.jpa.entity.DatabaseEntity;
+import org.dataintegration.jpa.entity.HostEntity;
+import org.dataintegration.jpa.entity.ItemEntity;
+import org.dataintegration.jpa.entity.MappedItemEntity;
+import org.dataintegration.jpa.entity.MappingEntity;
+import org.dataintegration.jpa.entity.ScopeEntity;
+import org.dataintegration.model.DataIntegrationAPIModel;
+import org.dataintegration.model.DataIntegrationHeaderAPIModel;
+import org.dataintegration.model.DataIntegrationInputAPIModel;
+import org.dataintegration.model.DataIntegrationInputDataAPIModel;
+import org.dataintegration.model.DataIntegrationResultAPIModel;
+import org.dataintegration.model.HeaderModel;
+import org.dataintegration.model.IntegrationConfigModel;
+import org.dataintegration.model.MappingJobModel;
+import org.dataintegration.model.MappingJobTypeModel;
+import org.dataintegration.model.MappingPlanModel;
+import org.dataintegration.service.HostClientsService;
+import org.dataintegration.service.ItemPropertiesService;
+import org.dataintegration.service.MappedItemsService;
+import org.dataintegration.service.MappingJobsService;
+import org.dataintegration.service.MappingPlanService;
+import org.dataintegration.service.MappingsService;
+import org.dataintegration.service.ProjectsService;
+import org.dataintegration.service.ScopesService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.server.ResponseStatusException;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class MappedItemsTest {
+
+    private static final UUID PROJECT_ID = UUID.randomUUID();
+    private static final UUID MAPPING_ID = UUID.randomUUID();
+    private static final UUID SCOPE_ID = UUID.randomUUID();
+    private static final UUID HOST_ID = UUID.randomUUID();
+    private static final String LANGUAGE = "en";
+    private static final String TOKEN = "token";
+    private static final String CREATED_BY = "createdBy";
+    private static final Set<HeaderModel> HEADERS = new LinkedHashSet<>(List.of(HeaderModel.builder().id("header").build()));
+    private static final MappingPlanModel MAPPING_PLAN = MappingPlanModel.builder().build();
+    private static final DataIntegrationHeaderAPIModel HOST_HEADERS = new DataIntegrationHeaderAPIModel();
+    private static final int CHUNK_SIZE = 2;
+    private static final int CONCURRENCY = 3;
+
+    @Mock
+    private ProjectsService projectsService;
+
+    @Mock
+    private ScopesService scopesService;
+
+    @Mock
+    private MappingsService mappingsService;
+
+    @Mock
+    private MappedItemsService mappedItemsService;
+
+    @Mock
+    private ItemPropertiesService itemPropertiesService;
+
+    @Mock
+    private MappingPlanService mappingPlanService;
+
+    @Mock
+    private HostsUsecase hostsUsecase;
+
+    @Mock
+    private HostClientsService hostClientsService;
+
+    @Mock
+    private MappingJobsService mappingJobsService;
+
+    @Spy
+    private IntegrationConfigModel integrationConfig = IntegrationConfigModel.builder()
+            .chunkSize(CHUNK_SIZE)
+            .concurrency(CONCURRENCY)
+            .build();
+
+    @InjectMocks
+    private MappedItems subject;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final AtomicInteger requests = new AtomicInteger();
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final AtomicInteger maxInFlight = new AtomicInteger();
+    private MappingEntity mapping;
+
+    @BeforeEach
+    void setUp() {
+        mapping = createMapping();
+    }
+
+    @Test
+    void testRunIntegrationJob() {
+        final List<MappedItemEntity> mappedItems = createMappedItems(5);
+        final MappingJobModel mappingJob = createMappingJob();
+        mockIntegration(mappedItems, HttpStatus.OK, "failed");
+
+        subject.runIntegrationJob(mappingJob, LANGUAGE, TOKEN);
+
+        final InOrder inOrder = inOrder(mappedItemsService, mappingJobsService);
+        inOrder.verify(mappedItemsService).applyIntegrationResults(eq(mappedItems.subList(0, 2)), eq(HEADERS),
+                eq(createResults(mappedItems.subList(0, 2), "failed")));
+        inOrder.verify(mappingJobsService).addProgress(mappingJob.getId(), 2, 1, 1);
+        inOrder.verify(mappedItemsService).applyIntegrationResults(eq(mappedItems.subList(2, 4)), eq(HEADERS),
+                eq(createResults(mappedItems.subList(2, 4), "failed")));
+        inOrder.verify(mappingJobsService).addProgress(mappingJob.getId(), 2, 1, 1);
+        inOrder.verify(mappedItemsService).applyIntegrationResults(eq(mappedItems.subList(4, 5)), eq(HEADERS),
+                eq(createResults(mappedItems.subList(4, 5), "failed")));
+        inOrder.verify(mappingJobsService).addProgress(mappingJob.getId(), 1, 1, 0);
+        inOrder.verify(mappingJobsService).finish(mappingJob.getId());
+        inOrder.verify(mappingJobsService).finishIntegration(MAPPING_ID);
+        verify(mappedItemsService).getByMappingAfter(MAPPING_ID, true, null, null, CHUNK_SIZE);
+        verify(mappedItemsService).getByMappingAfter(MAPPING_ID, true, 1L, mappedItems.get(1).getId(), CHUNK_SIZE);
+        verify(mappedItemsService).getByMappingAfter(MAPPING_ID, true, 3L, mappedItems.get(3).getId(), CHUNK_SIZE);
+        assertThat(requests).hasValue(3);
+        assertThat(maxInFlight.get()).isBetween(2, CONCURRENCY);
+    }
+
+    @Test
+    void testRunIntegrationJobEmptyLastChunk() {
+        final List<MappedItemEntity> mappedItems = createMappedItems(4);
+        final MappingJobModel mappingJob = createMappingJob();
+        mockIntegration(mappedItems, HttpStatus.OK, null);
+
+        subject.runIntegrationJob(mappingJob, LANGUAGE, TOKEN);
+
+        verify(mappedItemsService).getByMappingAfter(MAPPING_ID, true, 3L, mappedItems.get(3).getId(), CHUNK_SIZE);
+        verify(mappingJobsService, never()).addProgress(mappingJob.getId(), 0, 0, 0);
+        verify(mappingJobsService).finish(mappingJob.getId());
+        verify(mappingJobsService).finishIntegration(MAPPING_ID);
+        assertThat(requests).hasValue(2);
+    }
+
+    @Test
+    void testRunIntegrationJobFailed() {
+        final List<MappedItemEntity> mappedItems = createMappedItems(5);
+        final MappingJobModel mappingJob = createMappingJob();
+        mockIntegration(mappedItems, HttpStatus.INTERNAL_SERVER_ERROR, null);
+
+        assertThatExceptionOfType(ResponseStatusException.class)
+                .isThrownBy(() -> subject.runIntegrationJob(mappingJob, LANGUAGE, TOKEN));
+
+        verify(mappedItemsService, never()).applyIntegrationResults(anyList(), any(), anyList());
+        verify(mappingJobsService, never()).finish(mappingJob.getId());
+        verify(mappingJobsService).fail(eq(mappingJob.getId()), anyString());
+        verify(mappingJobsService).finishIntegration(MAPPING_ID);
+    }
+
+    @Test
+    void testCreateIntegrationJob() {
+        final MappingJobModel mappingJob = createMappingJob();
+        when(mappingsService.get(MAPPING_ID)).thenReturn(mapping);
+        when(mappedItemsService.count(MAPPING_ID, true)).thenReturn(5L);
+        when(mappingJobsService.create(PROJECT_ID, MAPPING_ID, MappingJobTypeModel.INTEGRATION, 5L)).thenReturn(mappingJob);
+
+        final MappingJobModel result = subject.createIntegrationJob(PROJECT_ID, MAPPING_ID, CREATED_BY);
+
+        assertThat(result).isEqualTo(mappingJob);
+        verify(projectsService).isPermitted(PROJECT_ID, CREATED_BY);
+        verify(mappingJobsService).startIntegration(MAPPING_ID);
+        verify(mappingJobsService, never()).finishIntegration(MAPPING_ID);
+    }
+
+    @Test
+    void testCreateIntegrationJobRunning() {
+        when(mappingsService.get(MAPPING_ID)).thenReturn(mapping);
+        doThrow(MappingIntegrationRunningException.class).when(mappingJobsService).startIntegration(MAPPING_ID);
+
+        assertThatExceptionOfType(MappingIntegrationRunningException.class)
+                .isThrownBy(() -> subject.createIntegrationJob(PROJECT_ID, MAPPING_ID, CREATED_BY));
+
+        verify(mappingJobsService, never()).create(any(), any(), any(), anyLong());
+        verify(mappingJobsService, never()).finishIntegration(MAPPING_ID);
+    }
+
+    @Test
+    void testCreateIntegrationJobFailed() {
+        when(mappingsService.get(MAPPING_ID)).thenReturn(mapping);
+        when(mappedItemsService.count(MAPPING_ID, true)).thenThrow(IllegalStateException.class);
+
+        assertThatExceptionOfType(IllegalStateException.class)
+                .isThrownBy(() -> subject.createIntegrationJob(PROJECT_ID, MAPPING_ID, CREATED_BY));
+
+        verify(mappingJobsService).finishIntegration(MAPPING_ID);
+    }
+
+    @Test
+    void testFailIntegrationJob() {
+        final MappingJobModel mappingJob = createMappingJob();
+
+        subject.failIntegrationJob(mappingJob, "rejected");
+
+        verify(mappingJobsService).fail(mappingJob.getId(), "rejected");
+        verify(mappingJobsService).finishIntegration(MAPPING_ID);
+    }
+
+    @Test
+    void testIntegrateMappedItemsRunning() {
+        when(mappingsService.get(MAPPING_ID)).thenReturn(mapping);
+        doThrow(MappingIntegrationRunningException.class).when(mappingJobsService).startIntegration(MAPPING_ID);
+
+        assertThatExceptionOfType(MappingIntegrationRunningException.class)
+                .isThrownBy(() -> subject.integrateMappedItems(PROJECT_ID, MAPPING_ID, LANGUAGE, null, CREATED_BY, TOKEN));
+
+        verify(mappedItemsService, never()).getByMappedItemIds(anyList());
+        verify(mappingJobsService, never()).finishIntegration(MAPPING_ID);
+    }
+
+    private void mockIntegration(List<MappedItemEntity> mappedItems, HttpStatus status, String errorMessage) {
+        final List<List<MappedItemEntity>> chunks = new ArrayList<>();
+        for (int i = 0; i < mappedItems.size(); i += CHUNK_SIZE) {
+            chunks.add(mappedItems.subList(i, Math.min(i + CHUNK_SIZE, mappedItems.size())));
+        }
+        if (mappedItems.size() % CHUNK_SIZE == 0) {
+            chunks.add(List.of());
+        }
+        MappedItemEntity after = null;
+        for (List<MappedItemEntity> chunk : chunks) {
+            // lenient, since a failed job stops fetching chunks at some point
+            lenient().when(mappedItemsService.getByMappingAfter(MAPPING_ID, true, after != null ? after.getItem().getLineNumber() : null,
+                    after != null ? after.getId() : null, CHUNK_SIZE)).thenReturn(chunk);
+            after = chunk.isEmpty() ? null : chunk.get(chunk.size() - 1);
+        }
+        when(mappingsService.get(MAPPING_ID)).thenReturn(mapping);
+        when(scopesService.get(SCOPE_ID)).thenReturn(createScope());
+        when(hostsUsecase.getHostHeaders(HOST_ID, LANGUAGE, TOKEN)).thenReturn(HOST_HEADERS);
+        when(mappingPlanService.compile(mapping, HEADERS, HOST_HEADERS)).thenReturn(MAPPING_PLAN);
+        when(mappingPlanService.createInput(eq(MAPPING_PLAN), anyList())).thenAnswer(invocation ->
+                new DataIntegrationInputAPIModel(createInputs(invocation.getArgument(1))));
+        when(hostClientsService.getWebClient(mapping.getDatabase().getHost())).thenReturn(WebClient.builder()
+                .baseUrl("http://localhost")
+                .exchangeFunction(request -> {
+                    final int index = requests.getAndIncrement();
+                    maxInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+                    if (status != HttpStatus.OK) {
+                        return Mono.just(ClientResponse.create(status).body("host failed").build())
+                                .doFinally(signal -> inFlight.decrementAndGet());
+                    }
+                    final List<MappedItemEntity> chunk = chunks.get(index);
+                    // earlier chunks answer later, so the results only arrive in order if the job keeps them ordered
+                    return Mono.delay(Duration.ofMillis((chunks.size() - index) * 100L))
+                            .map(tick -> ClientResponse.create(status)
+                                    .header(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
+                                    .body(toJson(new DataIntegrationAPIModel(createResults(chunk, errorMessage))))
+                                    .build())
+                            .doFinally(signal -> inFlight.decrementAndGet());
+                })
+                .build());
+    }
+
+    private String toJson(Object value) {
+        try {
+            return objectMapper.writeValueAsString(value);
+        } catch (Exception ex) {
+            throw new IllegalStateException(ex);
+        }
+    }
+
+    private static List<DataIntegrationInputDataAPIModel> createInputs(List<MappedItemEntity> mappedItems) {
+        return mappedItems.stream()
+                .map(mappedItem -> new DataIntegrationInputDataAPIModel(mappedItem.getId(), Map.of("target", "value")))
+                .toList();
+    }
+
+    private static List<DataIntegrationResultAPIModel> createResults(List<MappedItemEntity> mappedItems, String errorMessage) {
+        final List<DataIntegrationInputDataAPIModel> inputs = createInputs(mappedItems);
+        final List<DataIntegrationResultAPIModel> results = new ArrayList<>();
+        for (int i = 0; i < inputs.size(); i++) {
+            results.add(new DataIntegrationResultAPIModel(inputs.get(i),
+                    errorMessage != null && i % 2 == 1 ? List.of(errorMessage) : List.of()));
+        }
+        return results;
+    }
+
+    private static List<MappedItemEntity> createMappedItems(int count) {
+        final List<MappedItemEntity> mappedItems = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            final ItemEntity item = new ItemEntity();
+            item.setLineNumber(i);
+            final MappedItemEntity mappedItem = new MappedItemEntity();
+            mappedItem.setId(UUID.randomUUID());
+            mappedItem.setItem(item);
+            mappedItems.add(mappedItem);
+        }
+        return mappedItems;
+    }
+
+    private static MappingJobModel createMappingJob() {
+        return MappingJobModel.builder()
+                .id(UUID.randomUUID())
+                .projectId(PROJECT_ID)
+                .mappingId(MAPPING_ID)
+                .type(MappingJobTypeModel.INTEGRATION)
+                .build();
+    }
+
+    private static ScopeEntity createScope() {
+        final ScopeEntity scope = new ScopeEntity();
+        scope.setId(SCOPE_ID);
+        scope.setHeaders(new LinkedHashSet<>(HEADERS));
+        return scope;
+    }
+
+    private static MappingEntity createMapping() {
+        final HostEntity host = new HostEntity();
+        host.setId(HOST_ID);
+        host.setBaseUrl("http://localhost");
+        host.setIntegrationPath("/integrate");
+        final DatabaseEntity database = new DatabaseEntity();
+        database.setName("database");
+        database.setHost(host);
+        final ScopeEntity scope = new ScopeEntity();
+        scope.setId(SCOPE_ID);
+        final MappingEntity mapping = new MappingEntity();
+        mapping.setId(MAPPING_ID);
+        mapping.setDatabase(database);
+        mapping.setScope(scope);
+        return mapping;
+    }
+
+}
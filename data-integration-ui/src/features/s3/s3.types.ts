@@ -12,7 +12,6 @@ export interface CompleteMultipartUploadRequest {
     bucket: string
     key: string
     uploadId: string
-    lineCount: number
     delimiter: string
     completedParts: CompletedPart[]
 }
@@ -97,7 +97,6 @@ export default function FileBrowserDialog({ open, handleClickClose, projectId, h
 
                         const promises: Promise<CompletedPart>[] = []
 
-                        let totalLineCount = 0
                         const limit = pLimit(CONCURRENCY)
                         for (let partNumber = 1; partNumber <= totalParts; partNumber++) {
                             const start = (partNumber - 1) * CHUNK_SIZE
@@ -105,7 +104,7 @@ export default function FileBrowserDialog({ open, handleClickClose, projectId, h
                             const filePart = file.slice(start, end)
 
                             const uploadPromise = limit(() =>
-                                uploadFilePart(filePart, bucket, key, uploadId!, partNumber, uploadProgress, lineCount => (totalLineCount += lineCount))
+                                uploadFilePart(filePart, bucket, key, uploadId!, partNumber, uploadProgress)
                             )
 
                             promises.push(uploadPromise)
@@ -117,7 +116,6 @@ export default function FileBrowserDialog({ open, handleClickClose, projectId, h
                             bucket,
                             key,
                             uploadId,
-                            lineCount: totalLineCount - 1,
                             delimiter,
                             completedParts: uploadedParts
                         })
@@ -152,13 +150,9 @@ export default function FileBrowserDialog({ open, handleClickClose, projectId, h
         key: string,
         uploadId: string,
         partNumber: number,
-        uploadProgress: number,
-        updateTotalLineCount: (lineCount: number) => void
+        uploadProgress: number
     ): Promise<CompletedPart> => {
         try {
-            const lineCount = await countLinesInBlob(filePart)
-            updateTotalLineCount(lineCount)
-
             const generatePresignedUrlMultiPartUploadResponse = await generatePresignedUrlMultiPartUpload({ bucket, key, uploadId, partNumber }).unwrap()
 
             const response = await fetch(generatePresignedUrlMultiPartUploadResponse.presignedUrl, {
@@ -184,23 +178,6 @@ export default function FileBrowserDialog({ open, handleClickClose, projectId, h
         }
     }
 
-    function countLinesInBlob(blob: Blob): Promise<number> {
-        return new Promise((resolve, reject) => {
-            const reader = new FileReader()
-            reader.readAsText(blob)
-
-            reader.onload = () => {
-                const content = reader.result as string
-                const lines = content.split(/\r?\n|\r/).filter(line => line.trim() !== "")
-                resolve(lines.length)
-            }
-
-            reader.onerror = err => {
-                reject(err)
-            }
-        })
-    }
-
     const handleClickDeleteFileBrowserObject = async (key: string) => {
         const bucket = GetFrontendEnvironment("VITE_S3_BUCKET")
         const deleteObjectResponse = await deleteObject({ bucket, key })